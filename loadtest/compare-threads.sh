@@ -0,0 +1,40 @@
+#!/usr/bin/env bash
+# Compara throughput e p99 com platform threads e virtual threads (spring.threads.virtual.enabled).
+# Requisitos: docker compose, k6 e limite de arquivos abertos alto no host (ulimit -n 65536).
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+mkdir -p loadtest/results
+
+BASE_URL=${BASE_URL:-http://localhost:8080}
+DURATION=${DURATION:-2m}
+VUS=${VUS:-10000}
+
+wait_ready() {
+  for _ in $(seq 1 60); do
+    if curl -fs "$BASE_URL/actuator/health/readiness" > /dev/null; then
+      return 0
+    fi
+    sleep 2
+  done
+  echo "Application did not become ready" >&2
+  exit 1
+}
+
+run_mode() {
+  local mode=$1 virtual=$2
+  echo "==> $mode threads (VIRTUAL_THREADS_ENABLED=$virtual)"
+  VIRTUAL_THREADS_ENABLED=$virtual docker compose up -d --build --force-recreate app
+  wait_ready
+  # Aquecimento curto para JIT e cache antes da medição
+  k6 run --quiet -e BASE_URL="$BASE_URL" -e MODE="$mode-warmup" -e VUS=200 -e DURATION=20s loadtest/threads-comparison.js > /dev/null
+  k6 run --quiet -e BASE_URL="$BASE_URL" -e MODE="$mode" -e VUS="$VUS" -e DURATION="$DURATION" loadtest/threads-comparison.js
+}
+
+ulimit -n 65536 || echo "warning: could not raise open files limit; 10k connections may fail client-side" >&2
+
+docker compose up -d redis
+run_mode platform false
+run_mode virtual true
+
+echo "Results saved in loadtest/results/{platform,virtual}.json"
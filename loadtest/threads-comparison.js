@@ -0,0 +1,66 @@
+// Carga de 10k conexões concorrentes para comparar virtual threads x platform threads.
+// Uso: k6 run -e BASE_URL=http://localhost:8080 -e MODE=virtual loadtest/threads-comparison.js
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const MODE = __ENV.MODE || 'unknown';
+const VUS = Number(__ENV.VUS || 10000);
+const DURATION = __ENV.DURATION || '2m';
+
+export const options = {
+  scenarios: {
+    concurrent_connections: {
+      executor: 'constant-vus',
+      vus: VUS,
+      duration: DURATION,
+      gracefulStop: '10s',
+    },
+  },
+  summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+  tags: { mode: MODE },
+};
+
+// Mistura de leituras parecida com o tráfego real: detalhe (maioria), listagens e categorias
+const categories = ['eletronicos', 'moda', 'casa-decoracao', 'livros'];
+
+// Os ids são UUIDs gerados no startup: busca a lista uma vez antes da carga
+export function setup() {
+  const ids = [];
+  for (let page = 0; page < 5; page++) {
+    const res = http.get(`${BASE_URL}/api/v1/products?page=${page}&size=20`);
+    ids.push(...res.json('data.content').map((p) => p.id));
+  }
+  return { ids };
+}
+
+export default function (data) {
+  const ids = data.ids;
+  const roll = Math.random();
+  let res;
+  if (roll < 0.6) {
+    const id = ids[Math.floor(Math.random() * ids.length)];
+    res = http.get(`${BASE_URL}/api/v1/products/${id}`, { tags: { endpoint: 'product' } });
+  } else if (roll < 0.8) {
+    const page = Math.floor(Math.random() * 5);
+    res = http.get(`${BASE_URL}/api/v1/products?page=${page}&size=20`, { tags: { endpoint: 'list' } });
+  } else if (roll < 0.9) {
+    const category = categories[Math.floor(Math.random() * categories.length)];
+    res = http.get(`${BASE_URL}/api/v1/products/category/${category}`, { tags: { endpoint: 'category' } });
+  } else {
+    const id = ids[Math.floor(Math.random() * ids.length)];
+    res = http.get(`${BASE_URL}/api/v1/products/${id}/recommended`, { tags: { endpoint: 'recommended' } });
+  }
+  check(res, { 'status is 2xx/404': (r) => (r.status >= 200 && r.status < 300) || r.status === 404 });
+}
+
+export function handleSummary(data) {
+  const duration = data.metrics.http_req_duration.values;
+  const line = `${MODE}: ${data.metrics.http_reqs.values.rate.toFixed(0)} req/s, `
+    + `p99 ${duration['p(99)'].toFixed(1)} ms, p95 ${duration['p(95)'].toFixed(1)} ms, `
+    + `errors ${(data.metrics.http_req_failed.values.rate * 100).toFixed(2)}%\n`;
+  return {
+    stdout: line,
+    [`loadtest/results/${MODE}.json`]: JSON.stringify(data, null, 2),
+  };
+}
@@ -0,0 +1,18 @@
+package com.mercadolivre.product_api.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImageBatchRequestDTO {
+
+    private List<String> productIds;
+
+}
@@ -2,6 +2,8 @@ package com.mercadolivre.product_api.application.dto;
 
 import java.util.List;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -21,5 +23,9 @@ public class PageResponseDTO<T> {
     private boolean first;
     private boolean last;
     private boolean empty;
+    // Página vazia montada pelo fallback do circuit breaker, não o conteúdo real: fica fora do JSON,
+    // dos ETags e de qualquer cache HTTP
+    @JsonIgnore
+    private boolean fallback;
 
 }
@@ -0,0 +1,23 @@
+package com.mercadolivre.product_api.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductDetailDTO {
+
+    private ProductResponseDTO product;
+    private CategoryDTO category;
+    private List<ProductImageDTO> images;
+    private List<ProductResponseDTO> recommended;
+    // Partes que falharam ou passaram do prazo e ficaram de fora (null/vazias acima)
+    private List<String> unavailable;
+
+}
@@ -1,5 +1,6 @@
 package com.mercadolivre.product_api.application.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -9,7 +10,7 @@ import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Data
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 public class ProductResponseDTO {
@@ -20,8 +21,14 @@ public class ProductResponseDTO {
     private BigDecimal price;
     private Integer quantity;
     private String category;
+    // Só com ?embed=categoryName
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String categoryName;
     private Boolean active;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    // Só com ?embed=primaryImage (e se o produto tiver imagem principal)
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private ProductImageDTO primaryImage;
 
 }
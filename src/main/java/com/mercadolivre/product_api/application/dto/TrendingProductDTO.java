@@ -0,0 +1,23 @@
+package com.mercadolivre.product_api.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TrendingProductDTO {
+
+    private int rank;
+    private String id;
+    private String name;
+    private BigDecimal price;
+    private String category;
+    private double score;
+
+}
@@ -5,6 +5,7 @@ import com.mercadolivre.product_api.application.dto.PageResponseDTO;
 import com.mercadolivre.product_api.domain.exception.ResourceNotFoundException;
 import com.mercadolivre.product_api.domain.model.Category;
 import com.mercadolivre.product_api.domain.repository.CategoryRepository;
+import io.github.resilience4j.bulkhead.annotation.Bulkhead;
 import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
 import io.github.resilience4j.retry.annotation.Retry;
 import lombok.RequiredArgsConstructor;
@@ -25,6 +26,7 @@ public class CategoryService implements ICategoryService {
     @Override
     @CircuitBreaker(name = "categoryService", fallbackMethod = "getAllCategoriesFallback")
     @Retry(name = "categoryService")
+    @Bulkhead(name = "categoryService")
     @Cacheable(value = "allCategories", key = "#page + '-' + #size")
     public PageResponseDTO<CategoryDTO> getAllCategories(int page, int size) {
         log.info("Getting all categories - page: {}, size: {}", page, size);
@@ -56,6 +58,7 @@ public class CategoryService implements ICategoryService {
     @Override
     @CircuitBreaker(name = "categoryService", fallbackMethod = "getCategoryByIdFallback")
     @Retry(name = "categoryService")
+    @Bulkhead(name = "categoryService")
     @Cacheable(value = "categories", key = "#id")
     public CategoryDTO getCategoryById(String id) {
         log.info("Getting category by id: {}", id);
@@ -67,6 +70,7 @@ public class CategoryService implements ICategoryService {
     }
     @Override    @CircuitBreaker(name = "categoryService", fallbackMethod = "getCategoryBySlugFallback")
     @Retry(name = "categoryService")
+    @Bulkhead(name = "categoryService")
     @Cacheable(value = "categories", key = "#slug")
     public CategoryDTO getCategoryBySlug(String slug) {
         log.info("Getting category by slug: {}", slug);
@@ -89,6 +93,7 @@ public class CategoryService implements ICategoryService {
                 .first(true)
                 .last(true)
                 .empty(true)
+                .fallback(true)
                 .build();
     }
 
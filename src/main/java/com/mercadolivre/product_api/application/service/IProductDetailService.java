@@ -0,0 +1,8 @@
+package com.mercadolivre.product_api.application.service;
+
+import com.mercadolivre.product_api.application.dto.ProductDetailDTO;
+
+public interface IProductDetailService {
+
+    ProductDetailDTO getProductDetail(String id);
+}
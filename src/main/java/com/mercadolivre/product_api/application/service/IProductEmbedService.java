@@ -0,0 +1,11 @@
+package com.mercadolivre.product_api.application.service;
+
+import com.mercadolivre.product_api.application.dto.PageResponseDTO;
+import com.mercadolivre.product_api.application.dto.ProductResponseDTO;
+
+public interface IProductEmbedService {
+
+    ProductResponseDTO embed(ProductResponseDTO product, String embed);
+
+    PageResponseDTO<ProductResponseDTO> embed(PageResponseDTO<ProductResponseDTO> page, String embed);
+}
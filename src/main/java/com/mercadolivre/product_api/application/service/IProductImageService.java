@@ -3,7 +3,12 @@ package com.mercadolivre.product_api.application.service;
 import com.mercadolivre.product_api.application.dto.PageResponseDTO;
 import com.mercadolivre.product_api.application.dto.ProductImageDTO;
 
+import java.util.List;
+import java.util.Map;
+
 public interface IProductImageService {
     
     PageResponseDTO<ProductImageDTO> getImagesByProductId(String productId, int page, int size);
+
+    Map<String, List<ProductImageDTO>> getImagesByProductIds(List<String> productIds);
 }
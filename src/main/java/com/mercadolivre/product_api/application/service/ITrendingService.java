@@ -0,0 +1,10 @@
+package com.mercadolivre.product_api.application.service;
+
+import com.mercadolivre.product_api.application.dto.TrendingProductDTO;
+
+import java.util.List;
+
+public interface ITrendingService {
+
+    List<TrendingProductDTO> getTrendingProducts(String category, int limit);
+}
@@ -0,0 +1,151 @@
+package com.mercadolivre.product_api.application.service;
+
+import com.mercadolivre.product_api.application.dto.CategoryDTO;
+import com.mercadolivre.product_api.application.dto.PageResponseDTO;
+import com.mercadolivre.product_api.application.dto.ProductDetailDTO;
+import com.mercadolivre.product_api.application.dto.ProductImageDTO;
+import com.mercadolivre.product_api.application.dto.ProductResponseDTO;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/*
+ * Monta a página de produto (produto, categoria, imagens e recomendados) numa única chamada. Produto,
+ * imagens e recomendados saem em virtual threads assim que a requisição chega; a categoria, que
+ * depende do produto, sai logo que ele chega. Todas as partes dividem o mesmo prazo, contado do início
+ * da chamada, inclusive o produto com seus retries: o que falhar ou não terminar a tempo vira null/vazio
+ * e entra em "unavailable", e o que ainda estiver rodando é cancelado antes de responder, então nenhuma
+ * subtarefa sobrevive à requisição. Fallbacks de circuit breaker devolvem página vazia em vez de lançar,
+ * então uma página marcada como fallback também conta como indisponível. Só o produto é obrigatório:
+ * 404, falhas e estouro do prazo dele propagam. Cada serviço continua com seus próprios circuit breaker,
+ * retry, bulkhead e cache.
+ */
+@Slf4j
+@Service
+public class ProductDetailService implements IProductDetailService {
+
+    static final String PRODUCT = "product";
+    static final String CATEGORY = "category";
+    static final String IMAGES = "images";
+    static final String RECOMMENDED = "recommended";
+
+    private static final int IMAGES_LIMIT = 20;
+    private static final int RECOMMENDED_LIMIT = 10;
+
+    private final IProductService productService;
+    private final IProductImageService productImageService;
+    private final ICategoryService categoryService;
+    private final Duration timeout;
+    private final ExecutorService executor = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("product-detail-", 0).factory());
+
+    public ProductDetailService(IProductService productService,
+                                IProductImageService productImageService,
+                                ICategoryService categoryService,
+                                @Value("${product-api.detail.timeout:300ms}") Duration timeout) {
+        this.productService = productService;
+        this.productImageService = productImageService;
+        this.categoryService = categoryService;
+        this.timeout = timeout;
+    }
+
+    @Override
+    public ProductDetailDTO getProductDetail(String id) {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        Future<ProductResponseDTO> productPart = fork(() -> productService.getProductById(id));
+        Future<PageResponseDTO<ProductImageDTO>> images = fork(() -> productImageService.getImagesByProductId(id, 0, IMAGES_LIMIT));
+        Future<PageResponseDTO<ProductResponseDTO>> recommended = fork(() -> productService.getRecommendedProducts(id, 0, RECOMMENDED_LIMIT));
+        Future<CategoryDTO> category = null;
+        try {
+            ProductResponseDTO product = require(productPart, deadline);
+            category = fork(() -> categoryService.getCategoryBySlug(product.getCategory()));
+
+            List<String> unavailable = new ArrayList<>(0);
+            CategoryDTO categoryPart = await(category, CATEGORY, deadline, unavailable);
+            PageResponseDTO<ProductImageDTO> imagesPart = await(images, IMAGES, deadline, unavailable);
+            PageResponseDTO<ProductResponseDTO> recommendedPart = await(recommended, RECOMMENDED, deadline, unavailable);
+            return ProductDetailDTO.builder()
+                    .product(product)
+                    .category(categoryPart)
+                    .images(imagesPart != null ? imagesPart.getContent() : List.of())
+                    .recommended(recommendedPart != null ? recommendedPart.getContent() : List.of())
+                    .unavailable(unavailable)
+                    .build();
+        } finally {
+            productPart.cancel(true);
+            images.cancel(true);
+            recommended.cancel(true);
+            if (category != null) {
+                category.cancel(true);
+            }
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    // Subtarefa em virtual thread com o MDC da requisição (requestId nos logs dos serviços)
+    private <T> Future<T> fork(Callable<T> task) {
+        Map<String, String> context = MDC.getCopyOfContextMap();
+        return executor.submit(() -> {
+            if (context != null) {
+                MDC.setContextMap(context);
+            }
+            try {
+                return task.call();
+            } finally {
+                MDC.clear();
+            }
+        });
+    }
+
+    private ProductResponseDTO require(Future<ProductResponseDTO> part, long deadline) {
+        try {
+            return part.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (TimeoutException e) {
+            log.warn("Product detail part '{}' missed the {} ms deadline", PRODUCT, timeout.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        throw new RuntimeException("Service temporarily unavailable. Please try again later.");
+    }
+
+    private <T> T await(Future<T> part, String name, long deadline, List<String> unavailable) {
+        try {
+            T result = part.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            if (!(result instanceof PageResponseDTO<?> page) || !page.isFallback()) {
+                return result;
+            }
+            log.warn("Product detail part '{}' answered with a circuit breaker fallback", name);
+        } catch (TimeoutException e) {
+            log.warn("Product detail part '{}' missed the {} ms deadline", name, timeout.toMillis());
+        } catch (ExecutionException e) {
+            log.warn("Product detail part '{}' failed: {}", name, e.getCause().toString());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        unavailable.add(name);
+        return null;
+    }
+}
@@ -0,0 +1,106 @@
+package com.mercadolivre.product_api.application.service;
+
+import com.mercadolivre.product_api.application.dto.PageResponseDTO;
+import com.mercadolivre.product_api.application.dto.ProductImageDTO;
+import com.mercadolivre.product_api.application.dto.ProductResponseDTO;
+import com.mercadolivre.product_api.domain.model.Category;
+import com.mercadolivre.product_api.domain.model.ProductImage;
+import com.mercadolivre.product_api.domain.repository.CategoryRepository;
+import com.mercadolivre.product_api.domain.repository.ProductImageRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/*
+ * ?embed=primaryImage,categoryName nas leituras de produto: evita a chamada a /images/product/{id}
+ * por item da grade. A imagem vem do índice produto -> imagem principal do repositório e o nome do
+ * dicionário slug -> categoria, então uma página custa uma consulta de mapa por item. Os DTOs do
+ * service ficam intactos (são os objetos guardados no cache); cada item embutido é uma cópia.
+ */
+@Service
+@RequiredArgsConstructor
+public class ProductEmbedService implements IProductEmbedService {
+
+    public static final String PRIMARY_IMAGE = "primaryImage";
+    public static final String CATEGORY_NAME = "categoryName";
+
+    private final ProductImageRepository productImageRepository;
+    private final CategoryRepository categoryRepository;
+
+    @Override
+    public ProductResponseDTO embed(ProductResponseDTO product, String embed) {
+        Embeds embeds = Embeds.parse(embed);
+        return embeds.none() || product == null ? product : embed(product, embeds, new HashMap<>(2));
+    }
+
+    @Override
+    public PageResponseDTO<ProductResponseDTO> embed(PageResponseDTO<ProductResponseDTO> page, String embed) {
+        Embeds embeds = Embeds.parse(embed);
+        if (embeds.none() || page == null || page.getContent() == null) {
+            return page;
+        }
+        // Página costuma ter poucas categorias: o nome é resolvido uma vez por slug
+        Map<String, String> categoryNames = new HashMap<>();
+        List<ProductResponseDTO> content = page.getContent().stream()
+                .map(product -> embed(product, embeds, categoryNames))
+                .toList();
+        return PageResponseDTO.<ProductResponseDTO>builder()
+                .content(content)
+                .pageNumber(page.getPageNumber())
+                .pageSize(page.getPageSize())
+                .totalElements(page.getTotalElements())
+                .totalPages(page.getTotalPages())
+                .first(page.isFirst())
+                .last(page.isLast())
+                .empty(page.isEmpty())
+                .build();
+    }
+
+    private ProductResponseDTO embed(ProductResponseDTO product, Embeds embeds, Map<String, String> categoryNames) {
+        ProductResponseDTO.ProductResponseDTOBuilder copy = product.toBuilder();
+        if (embeds.primaryImage()) {
+            copy.primaryImage(productImageRepository.findPrimaryByProductId(product.getId())
+                    .map(ProductEmbedService::mapToDTO)
+                    .orElse(null));
+        }
+        if (embeds.categoryName() && product.getCategory() != null) {
+            copy.categoryName(categoryNames.computeIfAbsent(product.getCategory(), slug ->
+                    categoryRepository.findBySlug(slug).map(Category::getName).orElse(null)));
+        }
+        return copy.build();
+    }
+
+    private static ProductImageDTO mapToDTO(ProductImage image) {
+        return ProductImageDTO.builder()
+                .id(image.getId())
+                .productId(image.getProductId())
+                .url(image.getUrl())
+                .altText(image.getAltText())
+                .isPrimary(image.getIsPrimary())
+                .displayOrder(image.getDisplayOrder())
+                .build();
+    }
+
+    private record Embeds(boolean primaryImage, boolean categoryName) {
+
+        static Embeds parse(String embed) {
+            if (embed == null || embed.isBlank()) {
+                return new Embeds(false, false);
+            }
+            boolean primaryImage = false;
+            boolean categoryName = false;
+            for (String name : embed.split(",")) {
+                primaryImage |= PRIMARY_IMAGE.equals(name.trim());
+                categoryName |= CATEGORY_NAME.equals(name.trim());
+            }
+            return new Embeds(primaryImage, categoryName);
+        }
+
+        boolean none() {
+            return !primaryImage && !categoryName;
+        }
+    }
+}
@@ -4,6 +4,7 @@ import com.mercadolivre.product_api.application.dto.PageResponseDTO;
 import com.mercadolivre.product_api.application.dto.ProductImageDTO;
 import com.mercadolivre.product_api.domain.model.ProductImage;
 import com.mercadolivre.product_api.domain.repository.ProductImageRepository;
+import io.github.resilience4j.bulkhead.annotation.Bulkhead;
 import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
 import io.github.resilience4j.retry.annotation.Retry;
 import lombok.RequiredArgsConstructor;
@@ -12,7 +13,9 @@ import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 
 import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -25,6 +28,7 @@ public class ProductImageService implements IProductImageService {
     @Override
     @CircuitBreaker(name = "productImageService", fallbackMethod = "getImagesByProductIdFallback")
     @Retry(name = "productImageService")
+    @Bulkhead(name = "productImageService")
     @Cacheable(value = "productImages", key = "#productId + '-' + #page + '-' + #size")
     public PageResponseDTO<ProductImageDTO> getImagesByProductId(String productId, int page, int size) {
         log.info("Getting images for product: {} - page: {}, size: {}", productId, page, size);
@@ -56,6 +60,29 @@ public class ProductImageService implements IProductImageService {
                 .build();
     }
 
+    /*
+     * Várias galerias numa chamada: uma passada pelos ids, cada um uma consulta ao índice produto ->
+     * imagens do repositório (listas já ordenadas por displayOrder). Sem @Cacheable: cada combinação
+     * de ids seria uma entrada, e o índice em memória já responde sem round trip. Grupos seguem a
+     * ordem dos ids pedidos (sem repetição); produto sem imagens recebe lista vazia.
+     */
+    @Override
+    @CircuitBreaker(name = "productImageService", fallbackMethod = "getImagesByProductIdsFallback")
+    @Retry(name = "productImageService")
+    @Bulkhead(name = "productImageService")
+    public Map<String, List<ProductImageDTO>> getImagesByProductIds(List<String> productIds) {
+        log.info("Getting images for {} products", productIds.size());
+
+        Map<String, List<ProductImage>> images = productImageRepository.findByProductIds(productIds);
+        Map<String, List<ProductImageDTO>> grouped = new LinkedHashMap<>();
+        for (String productId : productIds) {
+            grouped.computeIfAbsent(productId, id -> images.getOrDefault(id, List.of()).stream()
+                    .map(this::mapToDTO)
+                    .toList());
+        }
+        return grouped;
+    }
+
     // Fallback methods
     private PageResponseDTO<ProductImageDTO> getImagesByProductIdFallback(String productId, int page, int size, Exception e) {
         log.error("Fallback: Failed to get images for product: {} - Error: {}", productId, e.getMessage());
@@ -68,9 +95,17 @@ public class ProductImageService implements IProductImageService {
                 .first(true)
                 .last(true)
                 .empty(true)
+                .fallback(true)
                 .build();
     }
 
+    private Map<String, List<ProductImageDTO>> getImagesByProductIdsFallback(List<String> productIds, Exception e) {
+        log.error("Fallback: Failed to get images for {} products - Error: {}", productIds.size(), e.getMessage());
+        Map<String, List<ProductImageDTO>> empty = new LinkedHashMap<>();
+        productIds.forEach(productId -> empty.put(productId, List.of()));
+        return empty;
+    }
+
     private ProductImageDTO mapToDTO(ProductImage image) {
         return ProductImageDTO.builder()
                 .id(image.getId())
@@ -8,16 +8,15 @@ import org.springframework.stereotype.Service;
 
 import com.mercadolivre.product_api.application.dto.PageResponseDTO;
 import com.mercadolivre.product_api.application.dto.ProductResponseDTO;
-import com.mercadolivre.product_api.domain.event.ProductViewedEvent;
 import com.mercadolivre.product_api.domain.exception.ResourceNotFoundException;
 import com.mercadolivre.product_api.domain.model.Product;
 import com.mercadolivre.product_api.domain.repository.ProductRepository;
 
+import io.github.resilience4j.bulkhead.annotation.Bulkhead;
 import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
 import io.github.resilience4j.retry.annotation.Retry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.context.ApplicationEventPublisher;
 
 @Slf4j
 @Service
@@ -25,11 +24,11 @@ import org.springframework.context.ApplicationEventPublisher;
 public class ProductService implements IProductService {
 
     private final ProductRepository productRepository;
-    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     @CircuitBreaker(name = "productService", fallbackMethod = "getProductByIdFallback")
     @Retry(name = "productService")
+    @Bulkhead(name = "productService")
     @Cacheable(value = "products", key = "#id")
     public ProductResponseDTO getProductById(String id) {
         log.info("Getting product by id: {}", id);
@@ -37,19 +36,13 @@ public class ProductService implements IProductService {
         Product product = productRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Product", "id", id));
 
-        // Publica evento assíncrono de visualização
-        String requestId = org.slf4j.MDC.get("requestId");
-        eventPublisher.publishEvent(new ProductViewedEvent(
-            this, product.getId(), product.getName(), product.getCategory(), requestId
-        ));
-        log.info("Product viewed event published for: {}", product.getName());
-
         return mapToResponseDTO(product);
     }
 
     @Override
     @CircuitBreaker(name = "productService", fallbackMethod = "getAllProductsFallback")
     @Retry(name = "productService")
+    @Bulkhead(name = "productService")
     @Cacheable(value = "allProducts", key = "#page + '-' + #size + '-' + #name + '-' + #category")
     public PageResponseDTO<ProductResponseDTO> getAllProducts(int page, int size, String name, String category) {
         log.info("Getting all products - page: {}, size: {}, name: {}, category: {}", page, size, name, category);
@@ -96,6 +89,7 @@ public class ProductService implements IProductService {
     @Override
     @CircuitBreaker(name = "productService", fallbackMethod = "getProductsByCategoryFallback")
     @Retry(name = "productService")
+    @Bulkhead(name = "productService")
     @Cacheable(value = "productsByCategory", key = "#category + '-' + #page + '-' + #size")
     public PageResponseDTO<ProductResponseDTO> getProductsByCategory(String category, int page, int size) {
         log.info("Getting products by category: {} - page: {}, size: {}", category, page, size);
@@ -127,6 +121,7 @@ public class ProductService implements IProductService {
     @Override
     @CircuitBreaker(name = "productService", fallbackMethod = "getRecommendedProductsFallback")
     @Retry(name = "productService")
+    @Bulkhead(name = "productService")
     @Cacheable(value = "recommendedProducts", key = "#productId + '-' + #page + '-' + #size")
     public PageResponseDTO<ProductResponseDTO> getRecommendedProducts(String productId, int page, int size) {
         log.info("Getting recommended products for: {} - page: {}, size: {}", productId, page, size);
@@ -182,6 +177,7 @@ public class ProductService implements IProductService {
                 .first(true)
                 .last(true)
                 .empty(true)
+                .fallback(true)
                 .build();
     }
 
@@ -196,6 +192,7 @@ public class ProductService implements IProductService {
                 .first(true)
                 .last(true)
                 .empty(true)
+                .fallback(true)
                 .build();
     }
 
@@ -210,6 +207,7 @@ public class ProductService implements IProductService {
                 .first(true)
                 .last(true)
                 .empty(true)
+                .fallback(true)
                 .build();
     }
 
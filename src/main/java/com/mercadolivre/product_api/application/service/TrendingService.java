@@ -0,0 +1,53 @@
+package com.mercadolivre.product_api.application.service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.stereotype.Service;
+
+import com.mercadolivre.product_api.application.dto.TrendingProductDTO;
+import com.mercadolivre.product_api.domain.model.Product;
+import com.mercadolivre.product_api.domain.repository.ProductRepository;
+import com.mercadolivre.product_api.infrastructure.trending.TrendingEngine;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TrendingService implements ITrendingService {
+
+    private final TrendingEngine trendingEngine;
+    private final ProductRepository productRepository;
+
+    // Sem cache: o ranking já é um snapshot em memória e a leitura custa O(limit) buscas por id
+    @Override
+    public List<TrendingProductDTO> getTrendingProducts(String category, int limit) {
+        log.debug("Getting trending products - category: {}, limit: {}", category, limit);
+
+        // Pede o ranking inteiro (limitado a top-k) para completar o limite se algum produto foi desativado
+        List<TrendingEngine.Trend> trends = trendingEngine.top(category, trendingEngine.capacity());
+        List<TrendingProductDTO> result = new ArrayList<>(Math.min(limit, trends.size()));
+        for (TrendingEngine.Trend trend : trends) {
+            if (result.size() >= limit) {
+                break;
+            }
+            productRepository.findById(trend.productId())
+                    .filter(product -> !Boolean.FALSE.equals(product.getActive()))
+                    .ifPresent(product -> result.add(mapToDTO(result.size() + 1, product, trend.score())));
+        }
+        return result;
+    }
+
+    private TrendingProductDTO mapToDTO(int rank, Product product, double score) {
+        return TrendingProductDTO.builder()
+                .rank(rank)
+                .id(product.getId())
+                .name(product.getName())
+                .price(product.getPrice())
+                .category(product.getCategory())
+                .score(Math.round(score * 100) / 100.0)
+                .build();
+    }
+}
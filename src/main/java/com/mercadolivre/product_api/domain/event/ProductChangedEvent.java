@@ -0,0 +1,49 @@
+package com.mercadolivre.product_api.domain.event;
+
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+import java.util.Objects;
+
+@Getter
+public class ProductChangedEvent extends ApplicationEvent {
+
+    public enum ChangeType {
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+
+    private final String productId;
+    private final String category;
+    private final String previousCategory;
+    private final String name;
+    private final String previousName;
+    private final ChangeType changeType;
+
+    public ProductChangedEvent(Object source, String productId, String category,
+                               String previousCategory, ChangeType changeType) {
+        this(source, productId, category, previousCategory, null, null, changeType);
+    }
+
+    public ProductChangedEvent(Object source, String productId, String category, String previousCategory,
+                               String name, String previousName, ChangeType changeType) {
+        super(source);
+        this.productId = productId;
+        this.category = category;
+        this.previousCategory = previousCategory;
+        this.name = name;
+        this.previousName = previousName;
+        this.changeType = changeType;
+    }
+
+    // Inserção, remoção ou troca de categoria alteram o conjunto de resultados das listagens
+    public boolean isMembershipChange() {
+        return changeType != ChangeType.UPDATED || !Objects.equals(category, previousCategory);
+    }
+
+    // Renomear pode incluir ou tirar o produto das listagens filtradas por nome (?name=)
+    public boolean isNameChange() {
+        return changeType == ChangeType.UPDATED && !Objects.equals(name, previousName);
+    }
+}
@@ -13,14 +13,21 @@ public class ProductViewedEvent extends ApplicationEvent {
     private final String category;
     private final LocalDateTime viewedAt;
     private final String requestId;
+    private final String visitorId;
     
     public ProductViewedEvent(Object source, String productId, String productName, 
                               String category, String requestId) {
+        this(source, productId, productName, category, requestId, null);
+    }
+    
+    public ProductViewedEvent(Object source, String productId, String productName, 
+                              String category, String requestId, String visitorId) {
         super(source);
         this.productId = productId;
         this.productName = productName;
         this.category = category;
         this.viewedAt = LocalDateTime.now();
         this.requestId = requestId;
+        this.visitorId = visitorId;
     }
 }
@@ -0,0 +1,8 @@
+package com.mercadolivre.product_api.domain.exception;
+
+public class InvalidRequestException extends RuntimeException {
+
+    public InvalidRequestException(String message) {
+        super(message);
+    }
+}
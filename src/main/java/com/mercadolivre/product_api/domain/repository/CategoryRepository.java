@@ -13,4 +13,6 @@ public interface CategoryRepository {
 
     Optional<Category> findBySlug(String slug);
 
+    long version();
+
 }
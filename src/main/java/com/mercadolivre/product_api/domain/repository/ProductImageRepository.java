@@ -1,6 +1,9 @@
 package com.mercadolivre.product_api.domain.repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 import com.mercadolivre.product_api.domain.model.ProductImage;
 
@@ -10,4 +13,13 @@ public interface ProductImageRepository {
 
     List<ProductImage> findAll();
 
+    // Imagens de cada produto pedido, ordenadas por displayOrder; ids sem imagens ficam de fora
+    Map<String, List<ProductImage>> findByProductIds(Collection<String> productIds);
+
+    Optional<ProductImage> findPrimaryByProductId(String productId);
+
+    ProductImage save(ProductImage image);
+
+    long version();
+
 }
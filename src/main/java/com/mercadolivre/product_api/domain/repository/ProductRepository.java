@@ -19,4 +19,11 @@ public interface ProductRepository {
 
     boolean existsById(String id);
 
+    // Versões crescem a cada alteração e servem de validador (ETag) para as leituras
+    long versionOf(String id);
+
+    long categoryVersion(String category);
+
+    long catalogVersion();
+
 }
@@ -0,0 +1,213 @@
+package com.mercadolivre.product_api.infrastructure.audit;
+
+import com.mercadolivre.product_api.domain.event.ProductViewedEvent;
+import com.mercadolivre.product_api.infrastructure.event.ProductViewHandler;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * Trilha de auditoria das visualizações em arquivos NDJSON locais, com "group commit": os
+ * consumidores do ProductViewPipeline codificam cada lote em um único bloco e o enfileiram; uma
+ * thread de escrita junta todos os blocos pendentes em uma escrita e um fsync. Quanto maior a carga,
+ * maior o grupo e menor o custo por registro. Fila cheia segura o consumidor do pipeline (e o ring
+ * buffer aplica sua política de excesso), nunca a requisição.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "product-api.audit.enabled", havingValue = "true", matchIfMissing = true)
+public class AuditLogWriter implements ProductViewHandler {
+
+    private static final int MAX_GROUP_CHUNKS = 256;
+    private static final int ESTIMATED_RECORD_BYTES = 192;
+
+    private final Path directory;
+    private final String instanceId;
+    private final long maxSegmentBytes;
+    private final boolean fsync;
+    private final BlockingQueue<byte[]> queue;
+    private final ExecutorService compressor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "audit-compressor");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final Counter records;
+    private final Counter bytes;
+    private final Counter failures;
+    private final Timer commits;
+    private final DistributionSummary commitChunks;
+
+    private AuditSegments segments;
+    private Thread writerThread;
+    private volatile boolean running;
+
+    public AuditLogWriter(MeterRegistry meterRegistry,
+                          @Value("${product-api.audit.directory:${java.io.tmpdir}/product-api/audit}") Path directory,
+                          @Value("${product-api.instance-id:local}") String instanceId,
+                          @Value("${product-api.audit.max-segment-bytes:67108864}") long maxSegmentBytes,
+                          @Value("${product-api.audit.queue-capacity:4096}") int queueCapacity,
+                          @Value("${product-api.audit.fsync:true}") boolean fsync) {
+        this.directory = directory;
+        this.instanceId = instanceId;
+        this.maxSegmentBytes = maxSegmentBytes;
+        this.fsync = fsync;
+        this.queue = new ArrayBlockingQueue<>(Math.max(1, queueCapacity));
+
+        this.records = Counter.builder("product.audit.records")
+                .description("Audit records accepted by the audit writer")
+                .register(meterRegistry);
+        this.bytes = Counter.builder("product.audit.bytes")
+                .description("Bytes appended to audit segments")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        this.failures = Counter.builder("product.audit.failures")
+                .description("Audit records lost because a write failed or the writer was stopped")
+                .register(meterRegistry);
+        this.commits = Timer.builder("product.audit.commits")
+                .description("Time spent writing and syncing one group of audit records")
+                .register(meterRegistry);
+        this.commitChunks = DistributionSummary.builder("product.audit.commit.chunks")
+                .description("Encoded batches grouped into a single write and fsync")
+                .register(meterRegistry);
+        Gauge.builder("product.audit.queue", queue, BlockingQueue::size)
+                .description("Encoded batches waiting for the audit writer")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void start() {
+        try {
+            segments = new AuditSegments(directory, instanceId, maxSegmentBytes, compressor);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not open audit log directory " + directory, e);
+        }
+        running = true;
+        writerThread = new Thread(this::writeLoop, "audit-writer");
+        writerThread.setDaemon(true);
+        writerThread.start();
+        log.info("Audit log writer started: directory={}, instanceId={}, maxSegmentBytes={}, fsync={}",
+                directory, instanceId, maxSegmentBytes, fsync);
+    }
+
+    @PreDestroy
+    void stop() {
+        running = false;
+        try {
+            writerThread.join(TimeUnit.SECONDS.toMillis(10));
+            segments.close();
+            compressor.shutdown();
+            compressor.awaitTermination(30, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException e) {
+            log.error("Could not close audit segment {}", segments.current(), e);
+        }
+        log.info("Audit log writer stopped");
+    }
+
+    @Override
+    public void handleBatch(List<ProductViewedEvent> events) {
+        StringBuilder out = new StringBuilder(events.size() * ESTIMATED_RECORD_BYTES);
+        for (ProductViewedEvent event : events) {
+            AuditRecordEncoder.encode(event, 1, out);
+        }
+        enqueue(out, events.size());
+    }
+
+    @Override
+    public void handleCoalescedViews(ProductViewedEvent event, int views) {
+        StringBuilder out = new StringBuilder(ESTIMATED_RECORD_BYTES);
+        AuditRecordEncoder.encode(event, views, out);
+        enqueue(out, 1);
+    }
+
+    public Path currentSegment() {
+        return segments.current();
+    }
+
+    private void enqueue(StringBuilder encoded, int recordCount) {
+        if (!running) {
+            failures.increment(recordCount);
+            log.warn("Audit writer is stopped, discarding {} records", recordCount);
+            return;
+        }
+        try {
+            queue.put(encoded.toString().getBytes(StandardCharsets.UTF_8));
+            records.increment(recordCount);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            failures.increment(recordCount);
+        }
+    }
+
+    private void writeLoop() {
+        List<byte[]> group = new ArrayList<>(MAX_GROUP_CHUNKS);
+        while (running || !queue.isEmpty()) {
+            try {
+                byte[] first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                group.add(first);
+                queue.drainTo(group, MAX_GROUP_CHUNKS - 1);
+                commit(group);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                group.clear();
+            }
+        }
+    }
+
+    private void commit(List<byte[]> group) {
+        List<ByteBuffer> buffers = new ArrayList<>(group.size());
+        for (byte[] chunk : group) {
+            buffers.add(ByteBuffer.wrap(chunk));
+        }
+        long start = System.nanoTime();
+        try {
+            long written = segments.write(buffers);
+            if (fsync) {
+                segments.force();
+            }
+            segments.rotateIfFull();
+            bytes.increment(written);
+        } catch (IOException e) {
+            long lost = 0;
+            for (byte[] chunk : group) {
+                for (byte b : chunk) {
+                    if (b == '\n') {
+                        lost++;
+                    }
+                }
+            }
+            failures.increment(lost);
+            log.error("Could not write {} audit records to {}", lost, segments.current(), e);
+        } finally {
+            commits.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            commitChunks.record(group.size());
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.mercadolivre.product_api.infrastructure.audit;
+
+import com.mercadolivre.product_api.domain.event.ProductViewedEvent;
+
+// Uma linha NDJSON por visualização; campos nulos são omitidos
+final class AuditRecordEncoder {
+
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private AuditRecordEncoder() {
+    }
+
+    static void encode(ProductViewedEvent event, int views, StringBuilder out) {
+        out.append("{\"event\":\"PRODUCT_VIEWED\",\"ts\":").append(event.getTimestamp());
+        field(out, "viewedAt", event.getViewedAt() != null ? event.getViewedAt().toString() : null);
+        field(out, "productId", event.getProductId());
+        field(out, "category", event.getCategory());
+        field(out, "requestId", event.getRequestId());
+        field(out, "visitorId", event.getVisitorId());
+        out.append(",\"views\":").append(views).append("}\n");
+    }
+
+    private static void field(StringBuilder out, String name, String value) {
+        if (value == null) {
+            return;
+        }
+        out.append(",\"").append(name).append("\":\"");
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\') {
+                out.append('\\').append(c);
+            } else if (c < 0x20) {
+                out.append("\\u00").append(HEX[c >> 4]).append(HEX[c & 0xF]);
+            } else {
+                out.append(c);
+            }
+        }
+        out.append('"');
+    }
+}
@@ -0,0 +1,152 @@
+package com.mercadolivre.product_api.infrastructure.audit;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.zip.GZIPOutputStream;
+
+/*
+ * Segmentos de auditoria "audit-<instância>_<instante UTC>-<seq>.ndjson" em um diretório. Só o
+ * segmento corrente fica aberto para append; ao atingir o tamanho máximo ele é fechado e comprimido
+ * em background para ".ndjson.gz". Segmentos abertos deixados por uma execução anterior (queda do
+ * processo) são comprimidos na inicialização, mas só os desta instância: réplicas que dividem o
+ * diretório têm os próprios segmentos abertos, e comprimi-los (apagando o original) faria os
+ * próximos group commits delas irem para arquivos já removidos. Acessado apenas pela thread de escrita.
+ */
+@Slf4j
+final class AuditSegments {
+
+    static final String SEGMENT_SUFFIX = ".ndjson";
+    static final String COMPRESSED_SUFFIX = ".ndjson.gz";
+    private static final DateTimeFormatter NAME_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss'Z'");
+
+    private final Path directory;
+    private final String prefix;
+    private final long maxSegmentBytes;
+    private final ExecutorService compressor;
+    private FileChannel channel;
+    private Path current;
+    private long currentBytes;
+    private int sequence;
+
+    AuditSegments(Path directory, String instanceId, long maxSegmentBytes, ExecutorService compressor) throws IOException {
+        this.directory = directory;
+        this.prefix = prefix(instanceId);
+        this.maxSegmentBytes = maxSegmentBytes;
+        this.compressor = compressor;
+        Files.createDirectories(directory);
+        try (DirectoryStream<Path> leftovers = Files.newDirectoryStream(directory, prefix + "*" + SEGMENT_SUFFIX)) {
+            for (Path segment : leftovers) {
+                compressLater(segment);
+            }
+        }
+        openNext();
+    }
+
+    // Escrita "gathering": todos os registros do grupo em uma única chamada ao canal
+    long write(List<ByteBuffer> buffers) throws IOException {
+        ByteBuffer[] array = buffers.toArray(new ByteBuffer[0]);
+        long written = 0;
+        for (ByteBuffer buffer : array) {
+            written += buffer.remaining();
+        }
+        long remaining = written;
+        while (remaining > 0) {
+            remaining -= channel.write(array);
+        }
+        currentBytes += written;
+        return written;
+    }
+
+    void force() throws IOException {
+        channel.force(false);
+    }
+
+    void rotateIfFull() throws IOException {
+        if (currentBytes >= maxSegmentBytes) {
+            closeCurrent();
+            openNext();
+        }
+    }
+
+    void close() throws IOException {
+        closeCurrent();
+    }
+
+    Path current() {
+        return current;
+    }
+
+    // "_" fica fora do id sanitizado, então o prefixo de uma instância nunca é prefixo de outra
+    static String prefix(String instanceId) {
+        return "audit-" + instanceId.replaceAll("[^A-Za-z0-9.-]", "-") + "_";
+    }
+
+    private void openNext() throws IOException {
+        String timestamp = NAME_FORMAT.format(ZonedDateTime.now(ZoneOffset.UTC));
+        while (true) {
+            Path candidate = directory.resolve(prefix + timestamp + "-" + String.format("%04d", sequence++) + SEGMENT_SUFFIX);
+            try {
+                channel = FileChannel.open(candidate, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+                current = candidate;
+                currentBytes = 0;
+                return;
+            } catch (FileAlreadyExistsException e) {
+                // outro segmento no mesmo segundo: tenta a próxima sequência
+            }
+        }
+    }
+
+    private void closeCurrent() throws IOException {
+        if (channel == null) {
+            return;
+        }
+        channel.force(true);
+        channel.close();
+        channel = null;
+        if (currentBytes == 0) {
+            Files.deleteIfExists(current);
+        } else {
+            compressLater(current);
+        }
+    }
+
+    private void compressLater(Path segment) {
+        compressor.execute(() -> compress(segment));
+    }
+
+    static void compress(Path segment) {
+        String name = segment.getFileName().toString();
+        String baseName = name.substring(0, name.length() - SEGMENT_SUFFIX.length());
+        Path target = segment.resolveSibling(baseName + COMPRESSED_SUFFIX);
+        Path tmp = segment.resolveSibling(baseName + COMPRESSED_SUFFIX + ".tmp");
+        try {
+            try (InputStream in = Files.newInputStream(segment);
+                 OutputStream out = new GZIPOutputStream(Files.newOutputStream(tmp), 64 * 1024)) {
+                in.transferTo(out);
+            }
+            try (FileChannel written = FileChannel.open(tmp, StandardOpenOption.WRITE)) {
+                written.force(true);
+            }
+            Files.move(tmp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            Files.delete(segment);
+        } catch (IOException e) {
+            log.error("Could not compress audit segment {}, keeping it uncompressed", segment, e);
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.mercadolivre.product_api.infrastructure.cache;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.lang.Nullable;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+/*
+ * Limita as chamadas simultâneas ao cache remoto. Sem permissão, leitura vira miss e escrita é
+ * ignorada (o serviço atende direto do repositório); evicções sempre passam, para não servir dado velho.
+ */
+@Slf4j
+public class BulkheadCache implements Cache {
+
+    private final Cache delegate;
+    private final Bulkhead bulkhead;
+
+    public BulkheadCache(Cache delegate, Bulkhead bulkhead) {
+        this.delegate = delegate;
+        this.bulkhead = bulkhead;
+    }
+
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return delegate.getNativeCache();
+    }
+
+    @Override
+    @Nullable
+    public ValueWrapper get(Object key) {
+        return limited(() -> delegate.get(key), null);
+    }
+
+    @Override
+    @Nullable
+    public <T> T get(Object key, @Nullable Class<T> type) {
+        return limited(() -> delegate.get(key, type), null);
+    }
+
+    @Override
+    @Nullable
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        // O loader roda fora do bulkhead: a permissão cobre só a ida ao cache remoto
+        ValueWrapper cached = get(key);
+        if (cached != null) {
+            return (T) cached.get();
+        }
+        T value;
+        try {
+            value = valueLoader.call();
+        } catch (Exception e) {
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+        put(key, value);
+        return value;
+    }
+
+    @Override
+    @Nullable
+    public CompletableFuture<?> retrieve(Object key) {
+        return delegate.retrieve(key);
+    }
+
+    @Override
+    public <T> CompletableFuture<T> retrieve(Object key, Supplier<CompletableFuture<T>> valueLoader) {
+        return delegate.retrieve(key, valueLoader);
+    }
+
+    @Override
+    public void put(Object key, @Nullable Object value) {
+        limited(() -> {
+            delegate.put(key, value);
+            return null;
+        }, null);
+    }
+
+    @Override
+    @Nullable
+    public ValueWrapper putIfAbsent(Object key, @Nullable Object value) {
+        return limited(() -> delegate.putIfAbsent(key, value), null);
+    }
+
+    @Override
+    public void evict(Object key) {
+        delegate.evict(key);
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        return delegate.evictIfPresent(key);
+    }
+
+    @Override
+    public void clear() {
+        delegate.clear();
+    }
+
+    @Override
+    public boolean invalidate() {
+        return delegate.invalidate();
+    }
+
+    private <T> T limited(Supplier<T> call, T whenFull) {
+        try {
+            bulkhead.acquirePermission();
+        } catch (BulkheadFullException e) {
+            log.debug("Cache bulkhead full, bypassing cache {}", delegate.getName());
+            return whenFull;
+        }
+        try {
+            return call.get();
+        } finally {
+            bulkhead.onComplete();
+        }
+    }
+}
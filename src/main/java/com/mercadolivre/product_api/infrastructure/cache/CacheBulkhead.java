@@ -0,0 +1,29 @@
+package com.mercadolivre.product_api.infrastructure.cache;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cache.Cache;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+// Bulkhead do Redis: decorador mais interno, para que acertos locais (ex.: chaves fixadas) não consumam permissões
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@ConditionalOnProperty(name = "spring.cache.type", havingValue = "redis")
+public class CacheBulkhead implements CacheDecorator {
+
+    public static final String BULKHEAD_NAME = "redisCache";
+
+    private final Bulkhead bulkhead;
+
+    public CacheBulkhead(BulkheadRegistry bulkheadRegistry) {
+        this.bulkhead = bulkheadRegistry.bulkhead(BULKHEAD_NAME);
+    }
+
+    @Override
+    public Cache decorate(Cache cache) {
+        return new BulkheadCache(cache, bulkhead);
+    }
+}
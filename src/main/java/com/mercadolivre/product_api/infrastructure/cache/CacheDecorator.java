@@ -0,0 +1,9 @@
+package com.mercadolivre.product_api.infrastructure.cache;
+
+import org.springframework.cache.Cache;
+
+// Camada extra aplicada a um cache antes do ObservedCache; deve devolver o próprio cache quando não se aplica
+public interface CacheDecorator {
+
+    Cache decorate(Cache cache);
+}
@@ -0,0 +1,164 @@
+package com.mercadolivre.product_api.infrastructure.cache;
+
+import com.mercadolivre.product_api.application.dto.PageResponseDTO;
+import com.mercadolivre.product_api.application.dto.ProductResponseDTO;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// Índice reverso produto/categoria -> chaves de listagem em cache, usado para invalidação dirigida
+@Slf4j
+@Component
+public class CacheDependencyIndex implements CacheObserver {
+
+    public static final String ALL_PRODUCTS_TAG = "listing:all";
+
+    // Chaves no formato "<prefixo>-<page>-<size>" (productsByCategory e recommendedProducts)
+    private static final Pattern PAGED_KEY = Pattern.compile("^(.*)-(-?\\d+)-(-?\\d+)$");
+
+    private static final Set<String> TRACKED_CACHES = Set.of(
+            CacheNames.ALL_PRODUCTS, CacheNames.PRODUCTS_BY_CATEGORY, CacheNames.RECOMMENDED_PRODUCTS);
+
+    private final ObjectProvider<CacheManager> cacheManager;
+    private final int maxTrackedEntries;
+
+    // Ordem de inserção permite descartar as entradas mais antigas quando o índice atinge o limite
+    private final LinkedHashMap<CacheEntryRef, Set<String>> entries = new LinkedHashMap<>();
+    private final Map<String, Set<CacheEntryRef>> entriesByTag = new HashMap<>();
+
+    public CacheDependencyIndex(ObjectProvider<CacheManager> cacheManager,
+                                @Value("${product-api.cache.invalidation.max-tracked-entries:50000}") int maxTrackedEntries) {
+        this.cacheManager = cacheManager;
+        this.maxTrackedEntries = maxTrackedEntries;
+    }
+
+    public static String productTag(String productId) {
+        return "product:" + productId;
+    }
+
+    public static String categoryTag(String category) {
+        return "category:" + category.toLowerCase(Locale.ROOT);
+    }
+
+    public static String baseProductTag(String productId) {
+        return "base:" + productId;
+    }
+
+    @Override
+    public void onPut(String cacheName, Object key, Object value) {
+        if (!TRACKED_CACHES.contains(cacheName)) {
+            return;
+        }
+        Set<String> tags = tagsFor(cacheName, key, value);
+        if (tags.isEmpty()) {
+            return;
+        }
+        List<CacheEntryRef> overflow = track(new CacheEntryRef(cacheName, key), tags);
+        // Uma entrada que sai do índice não pode mais ser invalidada, então sai do cache também
+        for (CacheEntryRef ref : overflow) {
+            Cache cache = cacheManager.getObject().getCache(ref.cacheName());
+            if (cache != null) {
+                cache.evict(ref.key());
+            }
+        }
+    }
+
+    @Override
+    public void onEvict(String cacheName, Object key) {
+        if (TRACKED_CACHES.contains(cacheName)) {
+            untrack(new CacheEntryRef(cacheName, key));
+        }
+    }
+
+    @Override
+    public synchronized void onClear(String cacheName) {
+        if (!TRACKED_CACHES.contains(cacheName)) {
+            return;
+        }
+        List<CacheEntryRef> refs = entries.keySet().stream()
+                .filter(ref -> ref.cacheName().equals(cacheName))
+                .toList();
+        refs.forEach(this::untrack);
+    }
+
+    public synchronized Set<CacheEntryRef> findByTag(String tag) {
+        Set<CacheEntryRef> refs = entriesByTag.get(tag);
+        return refs == null ? Set.of() : new HashSet<>(refs);
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    private synchronized List<CacheEntryRef> track(CacheEntryRef ref, Set<String> tags) {
+        untrack(ref);
+        entries.put(ref, tags);
+        for (String tag : tags) {
+            entriesByTag.computeIfAbsent(tag, t -> new HashSet<>()).add(ref);
+        }
+
+        List<CacheEntryRef> overflow = new ArrayList<>();
+        Iterator<Map.Entry<CacheEntryRef, Set<String>>> oldest = entries.entrySet().iterator();
+        while (entries.size() > maxTrackedEntries && oldest.hasNext()) {
+            Map.Entry<CacheEntryRef, Set<String>> evicted = oldest.next();
+            oldest.remove();
+            removeTags(evicted.getKey(), evicted.getValue());
+            overflow.add(evicted.getKey());
+        }
+        return overflow;
+    }
+
+    private synchronized void untrack(CacheEntryRef ref) {
+        Set<String> tags = entries.remove(ref);
+        if (tags != null) {
+            removeTags(ref, tags);
+        }
+    }
+
+    private void removeTags(CacheEntryRef ref, Set<String> tags) {
+        for (String tag : tags) {
+            Set<CacheEntryRef> refs = entriesByTag.get(tag);
+            if (refs != null) {
+                refs.remove(ref);
+                if (refs.isEmpty()) {
+                    entriesByTag.remove(tag);
+                }
+            }
+        }
+    }
+
+    private Set<String> tagsFor(String cacheName, Object key, Object value) {
+        Set<String> tags = new HashSet<>();
+        if (value instanceof PageResponseDTO<?> page && page.getContent() != null) {
+            for (Object item : page.getContent()) {
+                if (item instanceof ProductResponseDTO product) {
+                    tags.add(productTag(product.getId()));
+                    if (product.getCategory() != null) {
+                        tags.add(categoryTag(product.getCategory()));
+                    }
+                }
+            }
+        }
+
+        // O escopo da consulta cobre também páginas vazias, que deixam de ser válidas quando um produto entra
+        switch (cacheName) {
+            case CacheNames.ALL_PRODUCTS -> tags.add(ALL_PRODUCTS_TAG);
+            case CacheNames.PRODUCTS_BY_CATEGORY -> pagedKeyPrefix(key).ifPresent(c -> tags.add(categoryTag(c)));
+            case CacheNames.RECOMMENDED_PRODUCTS -> pagedKeyPrefix(key).ifPresent(id -> tags.add(baseProductTag(id)));
+            default -> { }
+        }
+        return tags;
+    }
+
+    private static Optional<String> pagedKeyPrefix(Object key) {
+        Matcher matcher = PAGED_KEY.matcher(String.valueOf(key));
+        return matcher.matches() ? Optional.of(matcher.group(1)) : Optional.empty();
+    }
+}
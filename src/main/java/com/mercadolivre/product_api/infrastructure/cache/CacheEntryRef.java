@@ -0,0 +1,4 @@
+package com.mercadolivre.product_api.infrastructure.cache;
+
+public record CacheEntryRef(String cacheName, Object key) {
+}
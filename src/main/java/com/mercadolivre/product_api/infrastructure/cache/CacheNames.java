@@ -0,0 +1,16 @@
+package com.mercadolivre.product_api.infrastructure.cache;
+
+public final class CacheNames {
+
+    public static final String PRODUCTS = "products";
+    public static final String ALL_PRODUCTS = "allProducts";
+    public static final String PRODUCTS_BY_CATEGORY = "productsByCategory";
+    public static final String RECOMMENDED_PRODUCTS = "recommendedProducts";
+    public static final String PRODUCT_IMAGES = "productImages";
+    public static final String ALL_PRODUCT_IMAGES = "allProductImages";
+    public static final String CATEGORIES = "categories";
+    public static final String ALL_CATEGORIES = "allCategories";
+
+    private CacheNames() {
+    }
+}
@@ -0,0 +1,16 @@
+package com.mercadolivre.product_api.infrastructure.cache;
+
+public interface CacheObserver {
+
+    default void onGet(String cacheName, Object key, boolean hit) {
+    }
+
+    default void onPut(String cacheName, Object key, Object value) {
+    }
+
+    default void onEvict(String cacheName, Object key) {
+    }
+
+    default void onClear(String cacheName) {
+    }
+}
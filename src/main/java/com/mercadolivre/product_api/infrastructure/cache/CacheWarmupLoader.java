@@ -0,0 +1,106 @@
+package com.mercadolivre.product_api.infrastructure.cache;
+
+import com.mercadolivre.product_api.application.service.ICategoryService;
+import com.mercadolivre.product_api.application.service.IProductImageService;
+import com.mercadolivre.product_api.application.service.IProductService;
+import com.mercadolivre.product_api.domain.repository.CategoryRepository;
+import com.mercadolivre.product_api.domain.repository.ProductRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// Reconstrói uma entrada de cache a partir da sua chave chamando o serviço (via proxy, com @Cacheable)
+@Component
+@RequiredArgsConstructor
+public class CacheWarmupLoader {
+
+    private static final Pattern PAGED_KEY = Pattern.compile("^(.*)-(-?\\d+)-(-?\\d+)$");
+    private static final Pattern PAGE_SIZE_KEY = Pattern.compile("^(-?\\d+)-(-?\\d+)$");
+    private static final Pattern ALL_PRODUCTS_KEY = Pattern.compile("^(-?\\d+)-(-?\\d+)-null-(.+)$");
+
+    private final IProductService productService;
+    private final ICategoryService categoryService;
+    private final IProductImageService productImageService;
+    private final ProductRepository productRepository;
+    private final CategoryRepository categoryRepository;
+
+    // Retorna false quando a chave não é reconhecida ou aponta para dados que não existem mais
+    public boolean load(String cacheName, String key) {
+        switch (cacheName) {
+            case CacheNames.PRODUCTS -> {
+                if (!productRepository.existsById(key)) {
+                    return false;
+                }
+                productService.getProductById(key);
+                return true;
+            }
+            case CacheNames.PRODUCTS_BY_CATEGORY -> {
+                Matcher m = PAGED_KEY.matcher(key);
+                if (!m.matches()) {
+                    return false;
+                }
+                productService.getProductsByCategory(m.group(1), page(m), size(m));
+                return true;
+            }
+            case CacheNames.RECOMMENDED_PRODUCTS -> {
+                Matcher m = PAGED_KEY.matcher(key);
+                if (!m.matches() || !productRepository.existsById(m.group(1))) {
+                    return false;
+                }
+                productService.getRecommendedProducts(m.group(1), page(m), size(m));
+                return true;
+            }
+            case CacheNames.ALL_PRODUCTS -> {
+                // Só listagens sem filtro de nome: o nome pode conter '-' e tornar a chave ambígua
+                Matcher m = ALL_PRODUCTS_KEY.matcher(key);
+                if (!m.matches()) {
+                    return false;
+                }
+                String category = "null".equals(m.group(3)) ? null : m.group(3);
+                productService.getAllProducts(Integer.parseInt(m.group(1)), Integer.parseInt(m.group(2)), null, category);
+                return true;
+            }
+            case CacheNames.PRODUCT_IMAGES -> {
+                Matcher m = PAGED_KEY.matcher(key);
+                if (!m.matches()) {
+                    return false;
+                }
+                productImageService.getImagesByProductId(m.group(1), page(m), size(m));
+                return true;
+            }
+            case CacheNames.CATEGORIES -> {
+                // O cache "categories" guarda tanto chaves por id quanto por slug
+                if (categoryRepository.findById(key).isPresent()) {
+                    categoryService.getCategoryById(key);
+                    return true;
+                }
+                if (categoryRepository.findBySlug(key).isPresent()) {
+                    categoryService.getCategoryBySlug(key);
+                    return true;
+                }
+                return false;
+            }
+            case CacheNames.ALL_CATEGORIES -> {
+                Matcher m = PAGE_SIZE_KEY.matcher(key);
+                if (!m.matches()) {
+                    return false;
+                }
+                categoryService.getAllCategories(Integer.parseInt(m.group(1)), Integer.parseInt(m.group(2)));
+                return true;
+            }
+            default -> {
+                return false;
+            }
+        }
+    }
+
+    private static int page(Matcher m) {
+        return Integer.parseInt(m.group(2));
+    }
+
+    private static int size(Matcher m) {
+        return Integer.parseInt(m.group(3));
+    }
+}
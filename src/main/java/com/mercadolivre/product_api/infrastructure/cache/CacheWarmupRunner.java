@@ -0,0 +1,120 @@
+package com.mercadolivre.product_api.infrastructure.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Roda depois do DataInitializer e antes do ApplicationReadyEvent, ou seja, antes do readiness ACCEPTING_TRAFFIC
+@Slf4j
+@Component
+@Order(100)
+public class CacheWarmupRunner implements ApplicationRunner {
+
+    private final HotKeyStore hotKeyStore;
+    private final CacheWarmupLoader warmupLoader;
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+    private final Duration budget;
+    private final int parallelism;
+
+    public CacheWarmupRunner(HotKeyStore hotKeyStore,
+                             CacheWarmupLoader warmupLoader,
+                             MeterRegistry meterRegistry,
+                             @Value("${product-api.cache.warmup.enabled:true}") boolean enabled,
+                             @Value("${product-api.cache.warmup.budget:10s}") Duration budget,
+                             @Value("${product-api.cache.warmup.parallelism:8}") int parallelism) {
+        this.hotKeyStore = hotKeyStore;
+        this.warmupLoader = warmupLoader;
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.budget = budget;
+        this.parallelism = parallelism;
+
+        Gauge.builder("cache.warmup.budget", budget, d -> d.toMillis() / 1000.0)
+                .description("Time budget for the startup cache warm-up")
+                .baseUnit("seconds")
+                .strongReference(true)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!enabled) {
+            return;
+        }
+        Map<String, List<String>> hotKeys = hotKeyStore.load();
+        if (hotKeys.isEmpty()) {
+            log.info("Cache warm-up skipped: no recorded hot keys");
+            return;
+        }
+
+        List<Callable<Void>> tasks = new ArrayList<>();
+        hotKeys.forEach((cacheName, keys) -> keys.forEach(key -> tasks.add(() -> {
+            try {
+                count(cacheName, warmupLoader.load(cacheName, key) ? "loaded" : "skipped");
+            } catch (Exception e) {
+                count(cacheName, "failed");
+                log.debug("Cache warm-up failed for {}::{} - {}", cacheName, key, e.getMessage());
+            }
+            return null;
+        })));
+
+        AtomicInteger threadCount = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(parallelism, runnable -> {
+            Thread thread = new Thread(runnable, "cache-warmup-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        int timedOut = 0;
+        try {
+            for (Future<Void> future : executor.invokeAll(tasks, budget.toMillis(), TimeUnit.MILLISECONDS)) {
+                if (future.isCancelled()) {
+                    timedOut++;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            executor.shutdownNow();
+        }
+        long elapsedNanos = sample.stop(Timer.builder("cache.warmup.duration")
+                .description("Wall-clock time spent prefilling hot cache keys at startup")
+                .register(meterRegistry));
+        if (timedOut > 0) {
+            Counter.builder("cache.warmup.keys").tag("cache", "all").tag("result", "timed_out")
+                    .register(meterRegistry).increment(timedOut);
+        }
+
+        log.info("Cache warm-up finished: {} keys in {} ms ({} over budget of {})",
+            tasks.size(), TimeUnit.NANOSECONDS.toMillis(elapsedNanos), timedOut, budget);
+    }
+
+    private void count(String cacheName, String result) {
+        Counter.builder("cache.warmup.keys")
+                .description("Hot cache keys processed by the startup warm-up")
+                .tag("cache", cacheName)
+                .tag("result", result)
+                .register(meterRegistry)
+                .increment();
+    }
+}
@@ -0,0 +1,39 @@
+package com.mercadolivre.product_api.infrastructure.cache;
+
+import com.mercadolivre.product_api.domain.dto.ApiResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.WebRequest;
+
+// Respostas condicionais dos controllers de leitura com os ETags de EntityTags
+public final class ConditionalResponses {
+
+    private ConditionalResponses() {
+    }
+
+    // ETag da representação pedida no Accept (JSON, CBOR ou Smile)
+    public static String etagFor(WebRequest request, String etag) {
+        return EntityTags.forAccept(etag, request.getHeader(HttpHeaders.ACCEPT));
+    }
+
+    // Com If-None-Match igual responde 304 sem chamar service, mapeamento nem Jackson; senão não escreve nenhum
+    // header: o ETag só vai no 200, depois de saber se o resultado veio de fallback
+    public static boolean notModified(WebRequest request, String etag) {
+        return etag != null
+                && new ServletWebRequest(((NativeWebRequest) request).getNativeRequest(HttpServletRequest.class)).checkNotModified(etag)
+                && request.checkNotModified(etag);
+    }
+
+    // Fallback do circuit breaker (página vazia com 200) sai com no-store e sem ETag, para nenhum cache
+    // (cliente, nginx, ResponseCacheFilter) guardar ou revalidar a página vazia como a versão atual
+    public static <T> ResponseEntity<ApiResponse<T>> ok(String etag, boolean fallback, T data) {
+        if (fallback) {
+            return ResponseEntity.ok().cacheControl(CacheControl.noStore()).body(ApiResponse.success(data));
+        }
+        return etag != null ? ResponseEntity.ok().eTag(etag).body(ApiResponse.success(data)) : ResponseEntity.ok(ApiResponse.success(data));
+    }
+}
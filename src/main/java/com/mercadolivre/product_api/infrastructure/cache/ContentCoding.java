@@ -0,0 +1,148 @@
+package com.mercadolivre.product_api.infrastructure.cache;
+
+import com.github.luben.zstd.Zstd;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+/*
+ * Codificações das variantes pré-comprimidas do cache de respostas. Cada variante é gerada uma vez
+ * por entrada, então vale usar níveis altos (medido numa página de 50 produtos: gzip 9 ~0,4 ms,
+ * zstd 9 ~0,3 ms, 3% menor que o gzip). O zstd depende da biblioteca nativa do zstd-jni; se ela não
+ * carregar na plataforma, a codificação fica indisponível e o cache segue só com gzip. Não há
+ * encoder brotli em Java puro, por isso ele fica de fora. Cada variante tem bytes próprios, então
+ * recebe o ETag forte com sufixo ("p5.gz", "p5.zst"), como as representações CBOR e Smile.
+ */
+@Slf4j
+public enum ContentCoding {
+
+    GZIP("gzip", "gz") {
+        @Override
+        public boolean isAvailable() {
+            return true;
+        }
+
+        @Override
+        public byte[] encode(byte[] body) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, body.length / 4));
+            try (GZIPOutputStream gzip = new GZIPOutputStream(out) {
+                {
+                    def.setLevel(Deflater.BEST_COMPRESSION);
+                }
+            }) {
+                gzip.write(body);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return out.toByteArray();
+        }
+    },
+
+    ZSTD("zstd", "zst") {
+        @Override
+        public boolean isAvailable() {
+            return ZstdSupport.AVAILABLE;
+        }
+
+        @Override
+        public byte[] encode(byte[] body) {
+            return Zstd.compress(body, ZSTD_LEVEL);
+        }
+    };
+
+    private static final int ZSTD_LEVEL = 9;
+
+    private final String token;
+    private final String etagSuffix;
+
+    ContentCoding(String token, String etagSuffix) {
+        this.token = token;
+        this.etagSuffix = etagSuffix;
+    }
+
+    public String token() {
+        return token;
+    }
+
+    // ETag da variante codificada a partir do ETag da representação sem compressão
+    public String etag(String etag) {
+        return etag != null ? EntityTags.withSuffix(etag, etagSuffix) : null;
+    }
+
+    public abstract boolean isAvailable();
+
+    public abstract byte[] encode(byte[] body);
+
+    public static ContentCoding fromToken(String token) {
+        for (ContentCoding coding : values()) {
+            if (coding.token.equalsIgnoreCase(token.trim())) {
+                return coding;
+            }
+        }
+        throw new IllegalArgumentException("Unknown content coding: " + token);
+    }
+
+    /*
+     * Escolhe, entre as codificações oferecidas (em ordem de preferência do servidor), a de maior
+     * q no Accept-Encoding; empate fica com a preferência do servidor. null = sem compressão.
+     */
+    public static ContentCoding negotiate(String acceptEncoding, List<ContentCoding> offered) {
+        if (acceptEncoding == null || offered.isEmpty()) {
+            return null;
+        }
+        Map<String, Double> weights = new HashMap<>();
+        for (String entry : acceptEncoding.split(",")) {
+            String[] parts = entry.trim().split(";");
+            if (!parts[0].isBlank()) {
+                weights.put(parts[0].trim().toLowerCase(Locale.ROOT), quality(parts));
+            }
+        }
+        double wildcard = weights.getOrDefault("*", 0.0);
+        ContentCoding best = null;
+        double bestWeight = 0;
+        for (ContentCoding coding : offered) {
+            double weight = weights.getOrDefault(coding.token, wildcard);
+            if (weight > bestWeight) {
+                best = coding;
+                bestWeight = weight;
+            }
+        }
+        return best;
+    }
+
+    private static double quality(String[] parts) {
+        for (int i = 1; i < parts.length; i++) {
+            String parameter = parts[i].replace(" ", "");
+            if (parameter.startsWith("q=")) {
+                try {
+                    return Double.parseDouble(parameter.substring(2));
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 1;
+    }
+
+    private static final class ZstdSupport {
+        static final boolean AVAILABLE = load();
+
+        private static boolean load() {
+            try {
+                Zstd.compress(new byte[]{0}, 1);
+                return true;
+            } catch (Throwable e) {
+                log.warn("zstd native library unavailable, zstd responses disabled: {}", e.toString());
+                return false;
+            }
+        }
+    }
+}
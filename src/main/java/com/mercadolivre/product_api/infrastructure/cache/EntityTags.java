@@ -0,0 +1,123 @@
+package com.mercadolivre.product_api.infrastructure.cache;
+
+import com.mercadolivre.product_api.domain.model.Product;
+import com.mercadolivre.product_api.domain.repository.CategoryRepository;
+import com.mercadolivre.product_api.domain.repository.ProductImageRepository;
+import com.mercadolivre.product_api.domain.repository.ProductRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeTypeUtils;
+
+import java.security.SecureRandom;
+import java.util.List;
+
+/*
+ * ETags fortes das leituras de produtos e categorias, montados só com as versões mantidas pelos
+ * repositórios (sem serializar nem fazer hash do corpo), para o controller responder 304 antes de
+ * chamar o service. Cada tag vale para uma URL: a query string já separa páginas e filtros. As
+ * versões são contadores do processo que recomeçam do zero, então a mesma versão em outra réplica
+ * ou depois de um restart pode descrever outros bytes: toda tag leva um bootId
+ * aleatório gerado na inicialização ("<bootId>-p5"), e um ETag de outro processo nunca revalida
+ * (o cliente só perde o 304 uma vez). Representações binárias (CBOR, Smile) do mesmo dado recebem um
+ * sufixo, já que um ETag forte identifica os bytes. ConditionalResponses aplica as tags nos controllers.
+ */
+@Component
+@RequiredArgsConstructor
+public class EntityTags {
+
+    private static final MediaType CBOR = MediaType.valueOf("application/cbor");
+    private static final MediaType SMILE = MediaType.valueOf("application/x-jackson-smile");
+
+    private final ProductRepository productRepository;
+    private final CategoryRepository categoryRepository;
+    private final ProductImageRepository productImageRepository;
+    private final String bootId = Long.toString(new SecureRandom().nextLong() & Long.MAX_VALUE, 36);
+
+    // null quando o produto não existe: 404 nunca é validado
+    public String product(String id) {
+        long version = productRepository.versionOf(id);
+        return version > 0 ? tag("p", version) : null;
+    }
+
+    // Busca por nome e filtros varrem o catálogo inteiro
+    public String products() {
+        return tag("c", productRepository.catalogVersion());
+    }
+
+    public String productsInCategory(String category) {
+        return tag("k", productRepository.categoryVersion(category));
+    }
+
+    // Recomendações dependem do próprio produto (categoria) e dos demais produtos da categoria dele
+    public String recommended(String id) {
+        Product product = productRepository.findById(id).orElse(null);
+        if (product == null) {
+            return null;
+        }
+        return tag("r", productRepository.versionOf(id), productRepository.categoryVersion(product.getCategory()));
+    }
+
+    // Categorias compartilham uma única versão
+    public String categories() {
+        return tag("g", categoryRepository.version());
+    }
+
+    public String category(String id) {
+        return categoryRepository.findById(id).isPresent() ? categories() : null;
+    }
+
+    public String categoryBySlug(String slug) {
+        return categoryRepository.findBySlug(slug).isPresent() ? categories() : null;
+    }
+
+    // Com ?embed= a resposta também depende das imagens e dos nomes de categoria
+    public String withEmbeds(String etag, String embed) {
+        if (etag == null || embed == null || embed.isBlank()) {
+            return etag;
+        }
+        return withSuffix(etag, "i" + productImageRepository.version() + ".g" + categoryRepository.version());
+    }
+
+    // Mesma ordem dos conversores: JSON primeiro (inclusive para */*), depois Smile e CBOR
+    public static String forAccept(String etag, String accept) {
+        if (etag == null || accept == null || accept.isBlank()) {
+            return etag;
+        }
+        List<MediaType> accepted;
+        try {
+            accepted = MediaType.parseMediaTypes(accept);
+        } catch (InvalidMediaTypeException e) {
+            return etag;
+        }
+        MimeTypeUtils.sortBySpecificity(accepted);
+        for (MediaType mediaType : accepted) {
+            if (mediaType.getQualityValue() == 0) {
+                continue;
+            }
+            if (mediaType.isCompatibleWith(MediaType.APPLICATION_JSON)) {
+                return etag;
+            }
+            if (mediaType.isCompatibleWith(SMILE)) {
+                return withSuffix(etag, "smile");
+            }
+            if (mediaType.isCompatibleWith(CBOR)) {
+                return withSuffix(etag, "cbor");
+            }
+        }
+        return etag;
+    }
+
+    static String withSuffix(String etag, String suffix) {
+        return etag.substring(0, etag.length() - 1) + "." + suffix + "\"";
+    }
+
+    private String tag(String kind, long version) {
+        return "\"" + bootId + "-" + kind + version + "\"";
+    }
+
+    private String tag(String kind, long version, long dependency) {
+        return "\"" + bootId + "-" + kind + version + "." + dependency + "\"";
+    }
+}
@@ -0,0 +1,70 @@
+package com.mercadolivre.product_api.infrastructure.cache;
+
+import com.mercadolivre.product_api.infrastructure.sketch.CountMinSketch;
+import com.mercadolivre.product_api.infrastructure.sketch.TopKTracker;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+// Heavy hitters do cache "products": count-min sketch + top-K, com decaimento periódico pela metade
+@Component
+public class HotKeyDetector {
+
+    public record HotKey(String key, double ratePerSecond) {
+    }
+
+    private final CountMinSketch sketch;
+    private final TopKTracker<String> topKeys;
+    private final double thresholdPerSecond;
+    private final double decayIntervalSeconds;
+
+    public HotKeyDetector(@Value("${product-api.cache.hot-keys.top-k:20}") int topK,
+                          @Value("${product-api.cache.hot-keys.threshold-per-second:50}") double thresholdPerSecond,
+                          @Value("${product-api.cache.hot-keys.decay-interval-ms:10000}") long decayIntervalMs) {
+        this.sketch = new CountMinSketch(4096);
+        this.topKeys = new TopKTracker<>(topK);
+        this.thresholdPerSecond = thresholdPerSecond;
+        this.decayIntervalSeconds = decayIntervalMs / 1000.0;
+    }
+
+    // Retorna true quando a chave está acima do limiar de acessos por segundo
+    public boolean record(String key) {
+        int count = sketch.increment(key);
+        topKeys.offer(key, count);
+        return rateOf(count) >= thresholdPerSecond;
+    }
+
+    public boolean isHot(String key) {
+        return rateOf(sketch.estimate(key)) >= thresholdPerSecond;
+    }
+
+    public List<HotKey> hotKeys() {
+        return topKeys.top().stream()
+                .map(entry -> new HotKey(entry.key(), rateOf(entry.count())))
+                .filter(hotKey -> hotKey.ratePerSecond() >= thresholdPerSecond)
+                .toList();
+    }
+
+    public List<HotKey> topKeys() {
+        return topKeys.top().stream()
+                .map(entry -> new HotKey(entry.key(), rateOf(entry.count())))
+                .toList();
+    }
+
+    public double getThresholdPerSecond() {
+        return thresholdPerSecond;
+    }
+
+    @Scheduled(fixedDelayString = "${product-api.cache.hot-keys.decay-interval-ms:10000}")
+    public void decay() {
+        sketch.halve();
+        topKeys.halve();
+    }
+
+    // Com meia-vida de um intervalo, a contagem estável de uma taxa r converge para 2 * r * intervalo
+    private double rateOf(long count) {
+        return count / (2.0 * decayIntervalSeconds);
+    }
+}
@@ -0,0 +1,53 @@
+package com.mercadolivre.product_api.infrastructure.cache;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+
+// Aplica o HotKeyPinningCache ao cache "products" e mantém as cópias locais atualizadas
+@Component
+public class HotKeyPinning implements CacheDecorator {
+
+    private final HotKeyDetector detector;
+    private final boolean enabled;
+    private final int maxPinned;
+    private volatile HotKeyPinningCache pinningCache;
+
+    public HotKeyPinning(HotKeyDetector detector,
+                         @Value("${product-api.cache.hot-keys.pinning-enabled:true}") boolean enabled,
+                         @Value("${product-api.cache.hot-keys.max-pinned:20}") int maxPinned) {
+        this.detector = detector;
+        this.enabled = enabled;
+        this.maxPinned = maxPinned;
+    }
+
+    @Override
+    public Cache decorate(Cache cache) {
+        if (!enabled || !CacheNames.PRODUCTS.equals(cache.getName())) {
+            return cache;
+        }
+        HotKeyPinningCache decorated = new HotKeyPinningCache(cache, detector, maxPinned);
+        pinningCache = decorated;
+        return decorated;
+    }
+
+    public Set<Object> pinnedKeys() {
+        HotKeyPinningCache cache = pinningCache;
+        return cache == null ? Set.of() : cache.pinnedKeys();
+    }
+
+    public HotKeyDetector getDetector() {
+        return detector;
+    }
+
+    @Scheduled(fixedDelayString = "${product-api.cache.hot-keys.refresh-interval-ms:2000}")
+    public void refreshPinned() {
+        HotKeyPinningCache cache = pinningCache;
+        if (cache != null) {
+            cache.refresh();
+        }
+    }
+}
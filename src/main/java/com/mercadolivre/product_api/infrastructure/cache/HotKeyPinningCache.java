@@ -0,0 +1,156 @@
+package com.mercadolivre.product_api.infrastructure.cache;
+
+import org.springframework.cache.Cache;
+import org.springframework.lang.Nullable;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Cópia local (por nó) das chaves quentes, servida sem ida ao Redis; as demais chaves passam direto
+public class HotKeyPinningCache implements Cache {
+
+    private record Pinned(ValueWrapper value) {
+    }
+
+    private final Cache delegate;
+    private final HotKeyDetector detector;
+    private final int maxPinned;
+    private final Map<Object, Pinned> pinned = new ConcurrentHashMap<>();
+    // Incrementado a cada escrita/evicção para não fixar um valor lido antes de uma invalidação concorrente
+    private final AtomicLong writeEpoch = new AtomicLong();
+
+    public HotKeyPinningCache(Cache delegate, HotKeyDetector detector, int maxPinned) {
+        this.delegate = delegate;
+        this.detector = detector;
+        this.maxPinned = maxPinned;
+    }
+
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return delegate.getNativeCache();
+    }
+
+    @Override
+    @Nullable
+    public ValueWrapper get(Object key) {
+        boolean hot = detector.record(String.valueOf(key));
+        Pinned local = pinned.get(key);
+        if (local != null) {
+            return local.value();
+        }
+        long epoch = writeEpoch.get();
+        ValueWrapper value = delegate.get(key);
+        if (hot && value != null) {
+            pin(key, value, epoch);
+        }
+        return value;
+    }
+
+    @Override
+    @Nullable
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, @Nullable Class<T> type) {
+        ValueWrapper value = get(key);
+        if (value == null) {
+            return null;
+        }
+        Object raw = value.get();
+        if (raw != null && type != null && !type.isInstance(raw)) {
+            throw new IllegalStateException("Cached value is not of required type [" + type.getName() + "]: " + raw);
+        }
+        return (T) raw;
+    }
+
+    @Override
+    @Nullable
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        ValueWrapper value = get(key);
+        if (value != null) {
+            return (T) value.get();
+        }
+        return delegate.get(key, valueLoader);
+    }
+
+    @Override
+    public void put(Object key, @Nullable Object value) {
+        writeEpoch.incrementAndGet();
+        pinned.remove(key);
+        delegate.put(key, value);
+    }
+
+    @Override
+    @Nullable
+    public ValueWrapper putIfAbsent(Object key, @Nullable Object value) {
+        writeEpoch.incrementAndGet();
+        pinned.remove(key);
+        return delegate.putIfAbsent(key, value);
+    }
+
+    @Override
+    public void evict(Object key) {
+        writeEpoch.incrementAndGet();
+        pinned.remove(key);
+        delegate.evict(key);
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        writeEpoch.incrementAndGet();
+        pinned.remove(key);
+        return delegate.evictIfPresent(key);
+    }
+
+    @Override
+    public void clear() {
+        writeEpoch.incrementAndGet();
+        pinned.clear();
+        delegate.clear();
+    }
+
+    @Override
+    public boolean invalidate() {
+        writeEpoch.incrementAndGet();
+        pinned.clear();
+        return delegate.invalidate();
+    }
+
+    public Set<Object> pinnedKeys() {
+        return Set.copyOf(pinned.keySet());
+    }
+
+    // Recarrega as cópias locais do cache compartilhado e solta as chaves que esfriaram
+    public void refresh() {
+        for (Object key : pinned.keySet()) {
+            long epoch = writeEpoch.get();
+            if (!detector.isHot(String.valueOf(key))) {
+                pinned.remove(key);
+                continue;
+            }
+            ValueWrapper value = delegate.get(key);
+            if (value == null) {
+                pinned.remove(key);
+            } else if (writeEpoch.get() == epoch) {
+                pinned.put(key, new Pinned(value));
+            }
+        }
+    }
+
+    private void pin(Object key, ValueWrapper value, long epoch) {
+        if (pinned.size() >= maxPinned && !pinned.containsKey(key)) {
+            return;
+        }
+        pinned.put(key, new Pinned(value));
+        if (writeEpoch.get() != epoch) {
+            pinned.remove(key);
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.mercadolivre.product_api.infrastructure.cache;
+
+import com.mercadolivre.product_api.infrastructure.sketch.CountMinSketch;
+import com.mercadolivre.product_api.infrastructure.sketch.TopKTracker;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Conta acessos por cache com um count-min sketch e grava periodicamente o top-N de cada cache
+@Slf4j
+@Component
+public class HotKeyRecorder implements CacheObserver {
+
+    private final HotKeyStore hotKeyStore;
+    private final int topN;
+    private final Map<String, CountMinSketch> sketches = new ConcurrentHashMap<>();
+    private final Map<String, TopKTracker<String>> topKeys = new ConcurrentHashMap<>();
+
+    public HotKeyRecorder(HotKeyStore hotKeyStore,
+                          @Value("${product-api.cache.warmup.top-n:50}") int topN) {
+        this.hotKeyStore = hotKeyStore;
+        this.topN = topN;
+    }
+
+    @Override
+    public void onGet(String cacheName, Object key, boolean hit) {
+        String hotKey = String.valueOf(key);
+        int count = sketches.computeIfAbsent(cacheName, n -> new CountMinSketch(topN * 64)).increment(hotKey);
+        topKeys.computeIfAbsent(cacheName, n -> new TopKTracker<>(topN)).offer(hotKey, count);
+    }
+
+    public Map<String, List<String>> hotKeys() {
+        Map<String, List<String>> hotKeys = new LinkedHashMap<>();
+        topKeys.forEach((cacheName, tracker) -> {
+            List<String> keys = tracker.top().stream().map(TopKTracker.Entry::key).toList();
+            if (!keys.isEmpty()) {
+                hotKeys.put(cacheName, keys);
+            }
+        });
+        return hotKeys;
+    }
+
+    @Scheduled(initialDelayString = "${product-api.cache.warmup.record-interval-ms:60000}",
+               fixedDelayString = "${product-api.cache.warmup.record-interval-ms:60000}")
+    public void recordHotKeys() {
+        Map<String, List<String>> hotKeys = hotKeys();
+        if (hotKeys.isEmpty()) {
+            return;
+        }
+        hotKeyStore.save(hotKeys);
+        // Envelhece as contagens para que o próximo snapshot reflita o tráfego recente
+        sketches.values().forEach(CountMinSketch::halve);
+        topKeys.values().forEach(TopKTracker::halve);
+        log.debug("Recorded hot cache keys for {} caches", hotKeys.size());
+    }
+}
@@ -0,0 +1,76 @@
+package com.mercadolivre.product_api.infrastructure.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// Persiste as chaves mais acessadas por cache em um arquivo texto "cacheName<TAB>key"
+@Slf4j
+@Component
+public class HotKeyStore {
+
+    private final Path file;
+
+    public HotKeyStore(@Value("${product-api.cache.warmup.hot-keys-file:${java.io.tmpdir}/product-api/${product-api.instance-id:local}/hot-keys.tsv}") Path file) {
+        this.file = file;
+    }
+
+    public void save(Map<String, List<String>> hotKeys) {
+        try {
+            Path directory = Files.createDirectories(file.toAbsolutePath().getParent());
+            // Temporário com nome único: duas gravações nunca se misturam no mesmo arquivo
+            Path tmp = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+            try (BufferedWriter writer = Files.newBufferedWriter(tmp, StandardCharsets.UTF_8)) {
+                for (Map.Entry<String, List<String>> entry : hotKeys.entrySet()) {
+                    for (String key : entry.getValue()) {
+                        if (key.indexOf('\n') >= 0 || key.indexOf('\t') >= 0) {
+                            continue;
+                        }
+                        writer.write(entry.getKey());
+                        writer.write('\t');
+                        writer.write(key);
+                        writer.newLine();
+                    }
+                }
+            }
+            try {
+                Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(tmp);
+            }
+        } catch (IOException e) {
+            log.warn("Could not persist hot cache keys to {}: {}", file, e.getMessage());
+        }
+    }
+
+    public Map<String, List<String>> load() {
+        Map<String, List<String>> hotKeys = new LinkedHashMap<>();
+        if (!Files.isReadable(file)) {
+            return hotKeys;
+        }
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                int tab = line.indexOf('\t');
+                if (tab > 0) {
+                    hotKeys.computeIfAbsent(line.substring(0, tab), k -> new ArrayList<>()).add(line.substring(tab + 1));
+                }
+            }
+        } catch (IOException e) {
+            log.warn("Could not read hot cache keys from {}: {}", file, e.getMessage());
+        }
+        return hotKeys;
+    }
+}
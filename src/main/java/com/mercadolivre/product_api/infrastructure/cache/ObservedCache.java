@@ -0,0 +1,142 @@
+package com.mercadolivre.product_api.infrastructure.cache;
+
+import org.springframework.cache.Cache;
+import org.springframework.lang.Nullable;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+public class ObservedCache implements Cache {
+
+    private final Cache delegate;
+    private final List<CacheObserver> observers;
+
+    public ObservedCache(Cache delegate, List<CacheObserver> observers) {
+        this.delegate = delegate;
+        this.observers = observers;
+    }
+
+    public Cache getDelegate() {
+        return delegate;
+    }
+
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return delegate.getNativeCache();
+    }
+
+    @Override
+    @Nullable
+    public ValueWrapper get(Object key) {
+        ValueWrapper value = delegate.get(key);
+        notifyGet(key, value != null);
+        return value;
+    }
+
+    @Override
+    @Nullable
+    public <T> T get(Object key, @Nullable Class<T> type) {
+        T value = delegate.get(key, type);
+        notifyGet(key, value != null);
+        return value;
+    }
+
+    @Override
+    @Nullable
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        boolean[] loaded = {false};
+        T value = delegate.get(key, () -> {
+            loaded[0] = true;
+            return valueLoader.call();
+        });
+        notifyGet(key, !loaded[0]);
+        if (loaded[0]) {
+            notifyPut(key, value);
+        }
+        return value;
+    }
+
+    @Override
+    @Nullable
+    public CompletableFuture<?> retrieve(Object key) {
+        return delegate.retrieve(key);
+    }
+
+    @Override
+    public <T> CompletableFuture<T> retrieve(Object key, Supplier<CompletableFuture<T>> valueLoader) {
+        return delegate.retrieve(key, valueLoader);
+    }
+
+    @Override
+    public void put(Object key, @Nullable Object value) {
+        delegate.put(key, value);
+        notifyPut(key, value);
+    }
+
+    @Override
+    @Nullable
+    public ValueWrapper putIfAbsent(Object key, @Nullable Object value) {
+        ValueWrapper existing = delegate.putIfAbsent(key, value);
+        if (existing == null) {
+            notifyPut(key, value);
+        }
+        return existing;
+    }
+
+    @Override
+    public void evict(Object key) {
+        delegate.evict(key);
+        notifyEvict(key);
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        boolean evicted = delegate.evictIfPresent(key);
+        notifyEvict(key);
+        return evicted;
+    }
+
+    @Override
+    public void clear() {
+        delegate.clear();
+        notifyClear();
+    }
+
+    @Override
+    public boolean invalidate() {
+        boolean invalidated = delegate.invalidate();
+        notifyClear();
+        return invalidated;
+    }
+
+    private void notifyGet(Object key, boolean hit) {
+        for (CacheObserver observer : observers) {
+            observer.onGet(getName(), key, hit);
+        }
+    }
+
+    private void notifyPut(Object key, Object value) {
+        for (CacheObserver observer : observers) {
+            observer.onPut(getName(), key, value);
+        }
+    }
+
+    private void notifyEvict(Object key) {
+        for (CacheObserver observer : observers) {
+            observer.onEvict(getName(), key);
+        }
+    }
+
+    private void notifyClear() {
+        for (CacheObserver observer : observers) {
+            observer.onClear(getName());
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.mercadolivre.product_api.infrastructure.cache;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.lang.Nullable;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class ObservedCacheManager implements CacheManager {
+
+    private final CacheManager delegate;
+    private final List<CacheObserver> observers;
+    private final List<CacheDecorator> decorators;
+    private final Map<String, ObservedCache> caches = new ConcurrentHashMap<>();
+
+    public ObservedCacheManager(CacheManager delegate, List<CacheObserver> observers) {
+        this(delegate, observers, List.of());
+    }
+
+    public ObservedCacheManager(CacheManager delegate, List<CacheObserver> observers, List<CacheDecorator> decorators) {
+        this.delegate = delegate;
+        this.observers = List.copyOf(observers);
+        this.decorators = List.copyOf(decorators);
+    }
+
+    public CacheManager getDelegate() {
+        return delegate;
+    }
+
+    @Override
+    @Nullable
+    public Cache getCache(String name) {
+        ObservedCache cache = caches.get(name);
+        if (cache != null) {
+            return cache;
+        }
+        Cache target = delegate.getCache(name);
+        if (target == null) {
+            return null;
+        }
+        return caches.computeIfAbsent(name, n -> {
+            Cache decorated = target;
+            for (CacheDecorator decorator : decorators) {
+                decorated = decorator.decorate(decorated);
+            }
+            return new ObservedCache(decorated, observers);
+        });
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return delegate.getCacheNames();
+    }
+}
@@ -0,0 +1,71 @@
+package com.mercadolivre.product_api.infrastructure.cache;
+
+import com.mercadolivre.product_api.domain.event.ProductChangedEvent;
+import com.mercadolivre.product_api.domain.model.Product;
+import com.mercadolivre.product_api.domain.repository.ProductRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.HashSet;
+import java.util.Set;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductCacheInvalidator {
+
+    private final CacheDependencyIndex dependencyIndex;
+    private final ObjectProvider<CacheManager> cacheManager;
+    private final ObjectProvider<ProductRepository> productRepository;
+
+    // Síncrono: a invalidação termina antes de o save/delete retornar ao chamador
+    @EventListener
+    public void onProductChanged(ProductChangedEvent event) {
+        CacheManager manager = cacheManager.getIfAvailable();
+        if (manager == null) {
+            return;
+        }
+
+        Set<CacheEntryRef> stale = new HashSet<>(dependencyIndex.findByTag(CacheDependencyIndex.productTag(event.getProductId())));
+
+        if (event.isMembershipChange()) {
+            stale.addAll(dependencyIndex.findByTag(CacheDependencyIndex.ALL_PRODUCTS_TAG));
+            stale.addAll(dependencyIndex.findByTag(CacheDependencyIndex.baseProductTag(event.getProductId())));
+            addCategoryScope(event.getCategory(), stale);
+            addCategoryScope(event.getPreviousCategory(), stale);
+        } else if (event.isNameChange()) {
+            stale.addAll(dependencyIndex.findByTag(CacheDependencyIndex.ALL_PRODUCTS_TAG));
+        }
+
+        evict(manager, CacheNames.PRODUCTS, event.getProductId());
+        for (CacheEntryRef ref : stale) {
+            evict(manager, ref.cacheName(), ref.key());
+        }
+
+        log.debug("Cache invalidation for product {} ({}): {} dependent entries evicted",
+            event.getProductId(), event.getChangeType(), stale.size());
+    }
+
+    private void addCategoryScope(String category, Set<CacheEntryRef> stale) {
+        if (category == null) {
+            return;
+        }
+        stale.addAll(dependencyIndex.findByTag(CacheDependencyIndex.categoryTag(category)));
+        // Recomendações vazias de produtos da categoria não contêm nenhum produto para indexar
+        for (Product sibling : productRepository.getObject().findByCategory(category)) {
+            stale.addAll(dependencyIndex.findByTag(CacheDependencyIndex.baseProductTag(sibling.getId())));
+        }
+    }
+
+    private void evict(CacheManager manager, String cacheName, Object key) {
+        Cache cache = manager.getCache(cacheName);
+        if (cache != null) {
+            cache.evict(key);
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.mercadolivre.product_api.infrastructure.cache;
+
+import com.mercadolivre.product_api.domain.event.ProductChangedEvent;
+import com.mercadolivre.product_api.domain.model.Product;
+import com.mercadolivre.product_api.domain.repository.ProductRepository;
+import com.mercadolivre.product_api.infrastructure.sketch.CuckooFilter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+// Cache negativo: ids que o filtro garante não existir são rejeitados antes do cache e do serviço
+@Slf4j
+@Component
+public class ProductIdFilter {
+
+    private final ProductRepository productRepository;
+    private final boolean enabled;
+    private final int expectedProducts;
+    private final Counter rejections;
+    private volatile CuckooFilter filter;
+
+    public ProductIdFilter(ProductRepository productRepository,
+                           MeterRegistry meterRegistry,
+                           @Value("${product-api.product-id-filter.enabled:true}") boolean enabled,
+                           @Value("${product-api.product-id-filter.expected-products:100000}") int expectedProducts) {
+        this.productRepository = productRepository;
+        this.enabled = enabled;
+        this.expectedProducts = expectedProducts;
+        this.filter = new CuckooFilter(expectedProducts);
+
+        this.rejections = Counter.builder("product.id.filter.rejections")
+                .description("Product lookups rejected as definite misses by the id filter")
+                .register(meterRegistry);
+        Gauge.builder("product.id.filter.false.positive.rate", this, f -> f.filter.expectedFalsePositiveRate())
+                .description("Expected false-positive rate of the product id filter at its current load")
+                .register(meterRegistry);
+        Gauge.builder("product.id.filter.memory", this, f -> f.filter.memoryBytes())
+                .description("Memory used by the product id filter table")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder("product.id.filter.size", this, f -> f.filter.size())
+                .description("Product ids currently tracked by the filter")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void initialize() {
+        rebuild(expectedProducts);
+    }
+
+    public boolean mightContain(String productId) {
+        if (!enabled || productId == null) {
+            return true;
+        }
+        if (filter.mightContain(productId)) {
+            return true;
+        }
+        rejections.increment();
+        return false;
+    }
+
+    // Sincronizado com o rebuild para que nenhuma inserção concorrente se perca na troca de filtro
+    @EventListener
+    public synchronized void onProductChanged(ProductChangedEvent event) {
+        switch (event.getChangeType()) {
+            case CREATED -> {
+                if (!filter.add(event.getProductId())) {
+                    rebuild(Math.max(expectedProducts, filter.size() * 2));
+                }
+            }
+            case DELETED -> filter.remove(event.getProductId());
+            default -> { }
+        }
+    }
+
+    // Reconstrói a partir do repositório; o filtro antigo segue atendendo leituras até a troca
+    private synchronized void rebuild(int expectedProducts) {
+        List<Product> products = productRepository.findAll();
+        int capacity = Math.max(expectedProducts, products.size() * 2);
+        CuckooFilter rebuilt = new CuckooFilter(capacity);
+        for (Product product : products) {
+            rebuilt.add(product.getId());
+        }
+        filter = rebuilt;
+        log.info("Product id filter rebuilt: {} ids, {} slots, {} bytes",
+            rebuilt.size(), rebuilt.capacity(), rebuilt.memoryBytes());
+    }
+}
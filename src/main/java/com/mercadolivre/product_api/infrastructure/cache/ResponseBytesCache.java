@@ -0,0 +1,222 @@
+package com.mercadolivre.product_api.infrastructure.cache;
+
+import com.mercadolivre.product_api.domain.repository.CategoryRepository;
+import com.mercadolivre.product_api.domain.repository.ProductImageRepository;
+import com.mercadolivre.product_api.domain.repository.ProductRepository;
+import com.mercadolivre.product_api.infrastructure.cache.local.TinyLfuStore;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/*
+ * Cache das respostas HTTP já serializadas (bytes JSON finais e as variantes zstd/gzip, comprimidas
+ * uma única vez ao guardar) das leituras mais quentes de produtos e categorias. Respostas menores que
+ * server.compression.min-response-size nunca são comprimidas. A chave inclui a versão dos dados mantida pelos
+ * repositórios: cada escrita incrementa a versão do produto e a do catálogo (listagens e categorias),
+ * então entradas antigas deixam de ser alcançáveis na hora e saem pela política W-TinyLFU ou pelo TTL.
+ * Respostas CBOR e Smile (chave varia pelo Accept) ficam guardadas nos próprios bytes binários.
+ * Como a chave é calculada antes de a requisição executar, uma resposta montada durante uma
+ * alteração fica sob a versão anterior e nunca é servida.
+ */
+@Component
+@ConditionalOnProperty(name = "product-api.response-cache.enabled", havingValue = "true", matchIfMissing = true)
+public class ResponseBytesCache {
+
+    static final String CACHE_NAME = "http-responses";
+
+    private static final Pattern PRODUCT_BY_ID = Pattern.compile("^/api/v1/products/([^/]+)$");
+    private static final Pattern CATALOG = Pattern.compile(
+            "^/api/v1/(products|products/category/[^/]+|products/[^/]+/recommended|categories|categories/[^/]+|categories/slug/[^/]+)$");
+    private static final String TRENDING = "trending";
+
+    public static final class CachedResponse {
+        private final String contentType;
+        private final String etag;
+        private final byte[] body;
+        private final Map<ContentCoding, byte[]> encoded;
+
+        CachedResponse(String contentType, String etag, byte[] body, Map<ContentCoding, byte[]> encoded) {
+            this.contentType = contentType;
+            this.etag = etag;
+            this.body = body;
+            this.encoded = encoded;
+        }
+
+        public String contentType() {
+            return contentType;
+        }
+
+        // ETag emitido pelo controller no miss; a chave já fixa a versão, então continua válido no hit
+        public String etag() {
+            return etag;
+        }
+
+        public byte[] body() {
+            return body;
+        }
+
+        // null quando a variante não foi gerada (resposta pequena, tipo não comprimível ou codificação desligada)
+        public byte[] encoded(ContentCoding coding) {
+            return encoded.get(coding);
+        }
+
+        public long retainedBytes() {
+            long variants = 0;
+            for (byte[] variant : encoded.values()) {
+                variants += variant.length;
+            }
+            return body.length + variants + (contentType != null ? contentType.length() : 0)
+                    + (etag != null ? etag.length() : 0);
+        }
+    }
+
+    private final TinyLfuStore store;
+    private final ProductRepository productRepository;
+    private final CategoryRepository categoryRepository;
+    private final ProductImageRepository productImageRepository;
+    private final long ttlNanos;
+    private final int maxEntryBytes;
+    private final boolean compressionEnabled;
+    private final long compressionMinBytes;
+    private final List<String> compressibleTypes;
+    private final List<ContentCoding> codings;
+    private final Counter hits;
+    private final Counter misses;
+
+    @Autowired
+    public ResponseBytesCache(ProductRepository productRepository,
+                              CategoryRepository categoryRepository,
+                              ProductImageRepository productImageRepository,
+                              MeterRegistry meterRegistry,
+                              @Value("${product-api.response-cache.max-weight-bytes:33554432}") long maxWeightBytes,
+                              @Value("${product-api.response-cache.max-entry-bytes:262144}") int maxEntryBytes,
+                              @Value("${product-api.response-cache.ttl:60s}") Duration ttl,
+                              @Value("${server.compression.enabled:false}") boolean compressionEnabled,
+                              @Value("${server.compression.min-response-size:2KB}") DataSize compressionMinSize,
+                              @Value("${server.compression.mime-types:application/json}") List<String> compressibleTypes,
+                              @Value("${product-api.response-cache.codings:zstd,gzip}") List<String> codings) {
+        this.store = new TinyLfuStore(maxWeightBytes);
+        this.productRepository = productRepository;
+        this.categoryRepository = categoryRepository;
+        this.productImageRepository = productImageRepository;
+        this.maxEntryBytes = maxEntryBytes;
+        this.ttlNanos = ttl.toNanos();
+        this.compressionEnabled = compressionEnabled;
+        this.compressionMinBytes = compressionMinSize.toBytes();
+        this.compressibleTypes = compressibleTypes;
+        this.codings = codings.stream()
+                .map(ContentCoding::fromToken)
+                .filter(ContentCoding::isAvailable)
+                .toList();
+
+        this.hits = Counter.builder("http.response.cache")
+                .tag("result", "hit")
+                .description("Cacheable responses, served from pre-serialized bytes (hit) or by the controller (miss)")
+                .register(meterRegistry);
+        this.misses = Counter.builder("http.response.cache")
+                .tag("result", "miss")
+                .description("Cacheable responses, served from pre-serialized bytes (hit) or by the controller (miss)")
+                .register(meterRegistry);
+        Gauge.builder("http.response.cache.weight", store, s -> s.usage(CACHE_NAME).weight())
+                .description("Estimated bytes held by the response cache")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    // null quando o endpoint não é cacheado
+    public String keyFor(HttpServletRequest request) {
+        if (!"GET".equals(request.getMethod())) {
+            return null;
+        }
+        String path = request.getRequestURI();
+        String query = nullToEmpty(request.getQueryString());
+        String variant = "|" + query + "|" + nullToEmpty(request.getHeader("Accept"));
+        Matcher product = PRODUCT_BY_ID.matcher(path);
+        if (product.matches() && !TRENDING.equals(product.group(1))) {
+            String id = product.group(1);
+            return "P:" + id + "#" + productRepository.versionOf(id) + embedVersions(query) + variant;
+        }
+        if (CATALOG.matcher(path).matches() && !path.endsWith("/" + TRENDING)) {
+            return "C#" + productRepository.catalogVersion() + "." + categoryRepository.version() + embedVersions(query)
+                    + ":" + path + variant;
+        }
+        return null;
+    }
+
+    // ?embed= traz imagem principal e nome da categoria: a entrada também depende dessas versões
+    private String embedVersions(String query) {
+        if (!query.contains("embed=")) {
+            return "";
+        }
+        return ".i" + productImageRepository.version() + ".g" + categoryRepository.version();
+    }
+
+    public CachedResponse get(String key) {
+        CachedResponse response = (CachedResponse) store.get(new CacheEntryRef(CACHE_NAME, key));
+        if (response != null) {
+            hits.increment();
+        } else {
+            misses.increment();
+        }
+        return response;
+    }
+
+    /*
+     * Gera as variantes comprimidas antes de publicar a entrada, então hits nunca comprimem. Devolve a
+     * entrada mesmo quando grande demais para guardar, para o miss sair pelo mesmo caminho do hit.
+     */
+    public CachedResponse put(String key, String contentType, String etag, byte[] body) {
+        boolean cacheable = body.length > 0 && body.length <= maxEntryBytes;
+        CachedResponse response = new CachedResponse(contentType, etag, body, encode(contentType, body));
+        if (cacheable) {
+            store.put(new CacheEntryRef(CACHE_NAME, key), response, ttlNanos);
+        }
+        return response;
+    }
+
+    // Mesmo critério da compressão do Tomcat, que não comprime respostas com ETag forte: aqui a compressão é
+    // feita pelo próprio cache, com um ETag por codificação (Vary: Accept-Encoding separa as variantes)
+    public ContentCoding negotiate(CachedResponse response, String acceptEncoding) {
+        if (response.encoded.isEmpty()) {
+            return null;
+        }
+        return ContentCoding.negotiate(acceptEncoding, codings.stream().filter(response.encoded::containsKey).toList());
+    }
+
+    public boolean isCompressionEnabled() {
+        return compressionEnabled;
+    }
+
+    private Map<ContentCoding, byte[]> encode(String contentType, byte[] body) {
+        if (!compressionEnabled || body.length < compressionMinBytes || !isCompressible(contentType)) {
+            return Map.of();
+        }
+        Map<ContentCoding, byte[]> encoded = new EnumMap<>(ContentCoding.class);
+        for (ContentCoding coding : codings) {
+            encoded.put(coding, coding.encode(body));
+        }
+        return encoded;
+    }
+
+    // CBOR e Smile ficam fora da lista de mime-types: binários já compactos, a compressão rende pouco
+    private boolean isCompressible(String contentType) {
+        return contentType != null && compressibleTypes.stream().anyMatch(contentType::startsWith);
+    }
+
+    private static String nullToEmpty(String value) {
+        return value != null ? value : "";
+    }
+}
@@ -0,0 +1,78 @@
+package com.mercadolivre.product_api.infrastructure.cache.local;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mercadolivre.product_api.application.dto.CategoryDTO;
+import com.mercadolivre.product_api.application.dto.PageResponseDTO;
+import com.mercadolivre.product_api.application.dto.ProductImageDTO;
+import com.mercadolivre.product_api.application.dto.ProductResponseDTO;
+import com.mercadolivre.product_api.infrastructure.cache.ResponseBytesCache;
+
+import java.math.BigDecimal;
+import java.time.temporal.Temporal;
+import java.util.Collection;
+
+// Estimativa aproximada (heap de 64 bits com compressed oops) do tamanho retido por uma entrada
+public final class EntryWeigher {
+
+    // Cópia de ObjectMapper com os serializers dos DTOs já construídos (projeções de ?fields=)
+    public static final int OBJECT_MAPPER = 32 * 1024;
+
+    private static final int NODE_OVERHEAD = 96;
+    private static final int OBJECT_HEADER = 16;
+    private static final int REFERENCE = 4;
+
+    private EntryWeigher() {
+    }
+
+    public static long weigh(Object key, Object value) {
+        return NODE_OVERHEAD + sizeOf(key) + sizeOf(value);
+    }
+
+    static long sizeOf(Object value) {
+        if (value == null) {
+            return 0;
+        }
+        if (value instanceof String s) {
+            return 40 + s.length();
+        }
+        if (value instanceof Number || value instanceof Boolean) {
+            return value instanceof BigDecimal ? 40 : OBJECT_HEADER;
+        }
+        if (value instanceof Temporal) {
+            return 48;
+        }
+        if (value instanceof ProductResponseDTO p) {
+            return OBJECT_HEADER + 9 * REFERENCE + sizeOf(p.getId()) + sizeOf(p.getName()) + sizeOf(p.getDescription())
+                    + sizeOf(p.getPrice()) + sizeOf(p.getQuantity()) + sizeOf(p.getCategory()) + sizeOf(p.getActive())
+                    + sizeOf(p.getCreatedAt()) + sizeOf(p.getUpdatedAt());
+        }
+        if (value instanceof CategoryDTO c) {
+            return OBJECT_HEADER + 5 * REFERENCE + sizeOf(c.getId()) + sizeOf(c.getName()) + sizeOf(c.getDescription())
+                    + sizeOf(c.getSlug()) + sizeOf(c.getProductCount());
+        }
+        if (value instanceof ProductImageDTO i) {
+            return OBJECT_HEADER + 6 * REFERENCE + sizeOf(i.getId()) + sizeOf(i.getProductId()) + sizeOf(i.getUrl())
+                    + sizeOf(i.getAltText()) + sizeOf(i.getIsPrimary()) + sizeOf(i.getDisplayOrder());
+        }
+        if (value instanceof byte[] bytes) {
+            return OBJECT_HEADER + bytes.length;
+        }
+        if (value instanceof ResponseBytesCache.CachedResponse response) {
+            return OBJECT_HEADER + 3 * REFERENCE + 2 * OBJECT_HEADER + response.retainedBytes();
+        }
+        if (value instanceof ObjectMapper) {
+            return OBJECT_MAPPER;
+        }
+        if (value instanceof PageResponseDTO<?> page) {
+            return OBJECT_HEADER + 32 + sizeOf(page.getContent());
+        }
+        if (value instanceof Collection<?> items) {
+            long size = OBJECT_HEADER + 16 + (long) items.size() * REFERENCE;
+            for (Object item : items) {
+                size += sizeOf(item);
+            }
+            return size;
+        }
+        return 64;
+    }
+}
@@ -0,0 +1,133 @@
+package com.mercadolivre.product_api.infrastructure.cache.local;
+
+import com.mercadolivre.product_api.infrastructure.cache.CacheEntryRef;
+import org.springframework.cache.support.AbstractValueAdaptingCache;
+import org.springframework.lang.Nullable;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.LongAdder;
+
+// Visão de um cache nomeado sobre o TinyLfuStore compartilhado; valores nulos não são armazenados
+public class TinyLfuCache extends AbstractValueAdaptingCache {
+
+    private final String name;
+    private final TinyLfuStore store;
+    private final long ttlNanos;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder puts = new LongAdder();
+
+    public TinyLfuCache(String name, TinyLfuStore store, Duration ttl) {
+        super(false);
+        this.name = name;
+        this.store = store;
+        this.ttlNanos = ttl == null ? 0 : ttl.toNanos();
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return store;
+    }
+
+    @Override
+    @Nullable
+    protected Object lookup(Object key) {
+        Object value = store.get(new CacheEntryRef(name, key));
+        if (value == null) {
+            misses.increment();
+        } else {
+            hits.increment();
+        }
+        return value;
+    }
+
+    @Override
+    @Nullable
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        Object cached = lookup(key);
+        if (cached != null) {
+            return (T) fromStoreValue(cached);
+        }
+        try {
+            T value = valueLoader.call();
+            put(key, value);
+            return value;
+        } catch (Exception e) {
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+    }
+
+    @Override
+    public void put(Object key, @Nullable Object value) {
+        if (value == null) {
+            evict(key);
+            return;
+        }
+        puts.increment();
+        store.put(new CacheEntryRef(name, key), value, ttlNanos);
+    }
+
+    @Override
+    @Nullable
+    public ValueWrapper putIfAbsent(Object key, @Nullable Object value) {
+        if (value == null) {
+            return get(key);
+        }
+        Object existing = store.putIfAbsent(new CacheEntryRef(name, key), value, ttlNanos);
+        if (existing == null) {
+            puts.increment();
+        }
+        return toValueWrapper(existing);
+    }
+
+    @Override
+    public void evict(Object key) {
+        store.remove(new CacheEntryRef(name, key));
+    }
+
+    @Override
+    public void clear() {
+        store.clear(name);
+    }
+
+    public long hitCount() {
+        return hits.sum();
+    }
+
+    public long missCount() {
+        return misses.sum();
+    }
+
+    public long putCount() {
+        return puts.sum();
+    }
+
+    public double hitRatio() {
+        long h = hits.sum();
+        long total = h + misses.sum();
+        return total == 0 ? 0.0 : (double) h / total;
+    }
+
+    public long size() {
+        return store.usage(name).entries();
+    }
+
+    public long weightedSize() {
+        return store.usage(name).weight();
+    }
+
+    public long evictionCount() {
+        return store.usage(name).evictions();
+    }
+
+    public long evictedWeight() {
+        return store.usage(name).evictedWeight();
+    }
+}
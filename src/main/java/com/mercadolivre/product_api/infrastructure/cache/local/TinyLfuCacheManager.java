@@ -0,0 +1,51 @@
+package com.mercadolivre.product_api.infrastructure.cache.local;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+public class TinyLfuCacheManager implements CacheManager {
+
+    private final TinyLfuStore store;
+    private final Duration defaultTtl;
+    private final Map<String, Duration> ttls;
+    private final Consumer<TinyLfuCache> onCreate;
+    private final Map<String, TinyLfuCache> caches = new ConcurrentHashMap<>();
+
+    public TinyLfuCacheManager(TinyLfuStore store, Duration defaultTtl, Map<String, Duration> ttls,
+                               Consumer<TinyLfuCache> onCreate) {
+        this.store = store;
+        this.defaultTtl = defaultTtl;
+        this.ttls = Map.copyOf(ttls);
+        this.onCreate = onCreate;
+        ttls.keySet().forEach(this::getCache);
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        TinyLfuCache cache = caches.get(name);
+        if (cache != null) {
+            return cache;
+        }
+        return caches.computeIfAbsent(name, n -> {
+            TinyLfuCache created = new TinyLfuCache(n, store, ttls.getOrDefault(n, defaultTtl));
+            onCreate.accept(created);
+            return created;
+        });
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return Collections.unmodifiableSet(caches.keySet());
+    }
+
+    public TinyLfuStore getStore() {
+        return store;
+    }
+}
@@ -0,0 +1,64 @@
+package com.mercadolivre.product_api.infrastructure.cache.local;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.binder.cache.CacheMeterBinder;
+
+// Métricas padrão de cache do Micrometer (cache.gets, cache.puts, cache.evictions, cache.size) + peso e hit ratio
+public class TinyLfuCacheMetrics extends CacheMeterBinder<TinyLfuCache> {
+
+    public TinyLfuCacheMetrics(TinyLfuCache cache, Iterable<Tag> tags) {
+        super(cache, cache.getName(), tags);
+    }
+
+    @Override
+    protected Long size() {
+        TinyLfuCache cache = getCache();
+        return cache == null ? null : cache.size();
+    }
+
+    @Override
+    protected long hitCount() {
+        TinyLfuCache cache = getCache();
+        return cache == null ? 0 : cache.hitCount();
+    }
+
+    @Override
+    protected Long missCount() {
+        TinyLfuCache cache = getCache();
+        return cache == null ? null : cache.missCount();
+    }
+
+    @Override
+    protected Long evictionCount() {
+        TinyLfuCache cache = getCache();
+        return cache == null ? null : cache.evictionCount();
+    }
+
+    @Override
+    protected long putCount() {
+        TinyLfuCache cache = getCache();
+        return cache == null ? 0 : cache.putCount();
+    }
+
+    @Override
+    protected void bindImplementationSpecificMetrics(MeterRegistry registry) {
+        TinyLfuCache cache = getCache();
+        Gauge.builder("cache.weighted.size", cache, TinyLfuCache::weightedSize)
+                .tags(getTagsWithCacheName())
+                .description("Estimated bytes retained by the cache entries")
+                .baseUnit("bytes")
+                .register(registry);
+        Gauge.builder("cache.hit.ratio", cache, TinyLfuCache::hitRatio)
+                .tags(getTagsWithCacheName())
+                .description("Fraction of lookups served from the cache")
+                .register(registry);
+        FunctionCounter.builder("cache.eviction.weight", cache, TinyLfuCache::evictedWeight)
+                .tags(getTagsWithCacheName())
+                .description("Bytes evicted from the cache by the W-TinyLFU policy")
+                .baseUnit("bytes")
+                .register(registry);
+    }
+}
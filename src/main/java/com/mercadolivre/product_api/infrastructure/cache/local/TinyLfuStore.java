@@ -0,0 +1,371 @@
+package com.mercadolivre.product_api.infrastructure.cache.local;
+
+import com.mercadolivre.product_api.infrastructure.cache.CacheEntryRef;
+import com.mercadolivre.product_api.infrastructure.sketch.CountMinSketch;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/*
+ * Armazenamento W-TinyLFU com limite em bytes, compartilhado por todos os caches locais.
+ * Novas entradas entram numa janela LRU pequena (1%); ao sair da janela, a candidata só é
+ * admitida na região principal (SLRU: probation + protected) se for mais frequente que a
+ * vítima da probation. Assim, páginas acessadas uma única vez por crawlers morrem na janela
+ * e não desalojam produtos quentes.
+ */
+public class TinyLfuStore {
+
+    private static final int WINDOW = 0;
+    private static final int PROBATION = 1;
+    private static final int PROTECTED = 2;
+
+    static final class Node {
+        final CacheEntryRef key;
+        final Object value;
+        final long weight;
+        final long expiresAtNanos;
+        int queue;
+        Node prev;
+        Node next;
+
+        Node(CacheEntryRef key, Object value, long weight, long expiresAtNanos) {
+            this.key = key;
+            this.value = value;
+            this.weight = weight;
+            this.expiresAtNanos = expiresAtNanos;
+        }
+
+        boolean isExpired(long now) {
+            return expiresAtNanos != 0 && now - expiresAtNanos >= 0;
+        }
+    }
+
+    // Lista duplamente encadeada em ordem de acesso: head = LRU, tail = MRU
+    private static final class AccessOrderQueue {
+        private Node head;
+        private Node tail;
+
+        void addLast(Node node) {
+            node.prev = tail;
+            node.next = null;
+            if (tail == null) {
+                head = node;
+            } else {
+                tail.next = node;
+            }
+            tail = node;
+        }
+
+        void remove(Node node) {
+            if (node.prev == null) {
+                head = node.next;
+            } else {
+                node.prev.next = node.next;
+            }
+            if (node.next == null) {
+                tail = node.prev;
+            } else {
+                node.next.prev = node.prev;
+            }
+            node.prev = null;
+            node.next = null;
+        }
+
+        void moveToLast(Node node) {
+            if (tail != node) {
+                remove(node);
+                addLast(node);
+            }
+        }
+
+        Node first() {
+            return head;
+        }
+    }
+
+    public static final class Usage {
+        private final AtomicLong entries = new AtomicLong();
+        private final AtomicLong weight = new AtomicLong();
+        private final LongAdder evictions = new LongAdder();
+        private final LongAdder evictedWeight = new LongAdder();
+
+        public long entries() {
+            return entries.get();
+        }
+
+        public long weight() {
+            return weight.get();
+        }
+
+        public long evictions() {
+            return evictions.sum();
+        }
+
+        public long evictedWeight() {
+            return evictedWeight.sum();
+        }
+    }
+
+    private final ConcurrentHashMap<CacheEntryRef, Node> data = new ConcurrentHashMap<>();
+    private final Map<String, Usage> usageByCache = new ConcurrentHashMap<>();
+    private final ReentrantLock lock = new ReentrantLock();
+    private final CountMinSketch sketch;
+    private final LongAdder accessesSinceReset = new LongAdder();
+    private final long sampleSize;
+
+    private final long maxWeight;
+    private final long windowMaxWeight;
+    private final long protectedMaxWeight;
+    private final AccessOrderQueue window = new AccessOrderQueue();
+    private final AccessOrderQueue probation = new AccessOrderQueue();
+    private final AccessOrderQueue protectedQueue = new AccessOrderQueue();
+    private long windowWeight;
+    private long probationWeight;
+    private long protectedWeight;
+
+    public TinyLfuStore(long maxWeightBytes) {
+        this.maxWeight = maxWeightBytes;
+        this.windowMaxWeight = Math.max(1, maxWeightBytes / 100);
+        this.protectedMaxWeight = (long) ((maxWeightBytes - windowMaxWeight) * 0.8);
+        int expectedEntries = (int) Math.max(1024, Math.min(1 << 20, maxWeightBytes / 1024));
+        this.sketch = new CountMinSketch(expectedEntries);
+        this.sampleSize = 10L * sketch.width();
+    }
+
+    public Object get(CacheEntryRef key) {
+        recordAccess(key);
+        Node node = data.get(key);
+        if (node == null) {
+            return null;
+        }
+        if (node.isExpired(System.nanoTime())) {
+            lock.lock();
+            try {
+                if (data.remove(key, node)) {
+                    unlink(node);
+                    usage(key.cacheName()).entries.decrementAndGet();
+                    usage(key.cacheName()).weight.addAndGet(-node.weight);
+                }
+            } finally {
+                lock.unlock();
+            }
+            return null;
+        }
+        // Reordenação com perda: sob contenção a leitura não espera pelo lock da política
+        if (lock.tryLock()) {
+            try {
+                if (data.get(key) == node) {
+                    onAccess(node);
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+        return node.value;
+    }
+
+    public void put(CacheEntryRef key, Object value, long ttlNanos) {
+        put(key, value, ttlNanos, false);
+    }
+
+    // Retorna o valor existente (sem sobrescrever) ou null quando a entrada foi gravada
+    public Object putIfAbsent(CacheEntryRef key, Object value, long ttlNanos) {
+        return put(key, value, ttlNanos, true);
+    }
+
+    public void remove(CacheEntryRef key) {
+        lock.lock();
+        try {
+            Node node = data.remove(key);
+            if (node != null) {
+                unlink(node);
+                Usage usage = usage(key.cacheName());
+                usage.entries.decrementAndGet();
+                usage.weight.addAndGet(-node.weight);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void clear(String cacheName) {
+        lock.lock();
+        try {
+            for (Node node : data.values()) {
+                if (node.key.cacheName().equals(cacheName)) {
+                    data.remove(node.key, node);
+                    unlink(node);
+                }
+            }
+            Usage usage = usage(cacheName);
+            usage.entries.set(0);
+            usage.weight.set(0);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public Usage usage(String cacheName) {
+        return usageByCache.computeIfAbsent(cacheName, n -> new Usage());
+    }
+
+    public long weightedSize() {
+        lock.lock();
+        try {
+            return windowWeight + probationWeight + protectedWeight;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long maxWeight() {
+        return maxWeight;
+    }
+
+    public int frequency(CacheEntryRef key) {
+        return sketch.estimate(key);
+    }
+
+    private Object put(CacheEntryRef key, Object value, long ttlNanos, boolean onlyIfAbsent) {
+        long weight = EntryWeigher.weigh(key.key(), value);
+        long expiresAt = ttlNanos > 0 ? System.nanoTime() + ttlNanos : 0;
+        recordAccess(key);
+        lock.lock();
+        try {
+            Node existing = data.get(key);
+            if (onlyIfAbsent && existing != null && !existing.isExpired(System.nanoTime())) {
+                return existing.value;
+            }
+            Usage usage = usage(key.cacheName());
+            if (existing != null) {
+                unlink(existing);
+                usage.entries.decrementAndGet();
+                usage.weight.addAndGet(-existing.weight);
+            }
+            Node node = new Node(key, value, weight, expiresAt);
+            data.put(key, node);
+            node.queue = WINDOW;
+            window.addLast(node);
+            windowWeight += weight;
+            usage.entries.incrementAndGet();
+            usage.weight.addAndGet(weight);
+
+            evictEntries();
+            maybeResetSketch();
+            return null;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void recordAccess(CacheEntryRef key) {
+        sketch.increment(key);
+        accessesSinceReset.increment();
+    }
+
+    // Envelhecimento do TinyLFU: a cada amostra de acessos as frequências caem pela metade
+    private void maybeResetSketch() {
+        if (accessesSinceReset.sum() >= sampleSize) {
+            sketch.halve();
+            accessesSinceReset.reset();
+        }
+    }
+
+    private void onAccess(Node node) {
+        switch (node.queue) {
+            case WINDOW -> window.moveToLast(node);
+            case PROBATION -> {
+                probation.remove(node);
+                probationWeight -= node.weight;
+                node.queue = PROTECTED;
+                protectedQueue.addLast(node);
+                protectedWeight += node.weight;
+                while (protectedWeight > protectedMaxWeight && protectedQueue.first() != null) {
+                    Node demoted = protectedQueue.first();
+                    protectedQueue.remove(demoted);
+                    protectedWeight -= demoted.weight;
+                    demoted.queue = PROBATION;
+                    probation.addLast(demoted);
+                    probationWeight += demoted.weight;
+                }
+            }
+            default -> protectedQueue.moveToLast(node);
+        }
+    }
+
+    private void evictEntries() {
+        while (windowWeight > windowMaxWeight && window.first() != null) {
+            Node candidate = window.first();
+            window.remove(candidate);
+            windowWeight -= candidate.weight;
+            admit(candidate);
+        }
+        while (windowWeight + probationWeight + protectedWeight > maxWeight) {
+            Node victim = probation.first() != null ? probation.first()
+                    : protectedQueue.first() != null ? protectedQueue.first() : window.first();
+            if (victim == null) {
+                break;
+            }
+            evict(victim);
+        }
+    }
+
+    private void admit(Node candidate) {
+        long mainMaxWeight = maxWeight - windowMaxWeight;
+        if (candidate.weight > mainMaxWeight) {
+            evictDetached(candidate);
+            return;
+        }
+        int candidateFrequency = sketch.estimate(candidate.key);
+        while (probationWeight + protectedWeight + candidate.weight > mainMaxWeight) {
+            Node victim = probation.first() != null ? probation.first() : protectedQueue.first();
+            if (victim == null) {
+                break;
+            }
+            if (candidateFrequency > sketch.estimate(victim.key)) {
+                evict(victim);
+            } else {
+                evictDetached(candidate);
+                return;
+            }
+        }
+        candidate.queue = PROBATION;
+        probation.addLast(candidate);
+        probationWeight += candidate.weight;
+    }
+
+    private void evict(Node node) {
+        unlink(node);
+        evictDetached(node);
+    }
+
+    private void evictDetached(Node node) {
+        if (data.remove(node.key, node)) {
+            Usage usage = usage(node.key.cacheName());
+            usage.entries.decrementAndGet();
+            usage.weight.addAndGet(-node.weight);
+            usage.evictions.increment();
+            usage.evictedWeight.add(node.weight);
+        }
+    }
+
+    private void unlink(Node node) {
+        switch (node.queue) {
+            case WINDOW -> {
+                window.remove(node);
+                windowWeight -= node.weight;
+            }
+            case PROBATION -> {
+                probation.remove(node);
+                probationWeight -= node.weight;
+            }
+            default -> {
+                protectedQueue.remove(node);
+                protectedWeight -= node.weight;
+            }
+        }
+    }
+}
@@ -2,7 +2,9 @@ package com.mercadolivre.product_api.infrastructure.config;
 
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.aop.interceptor.AsyncUncaughtExceptionHandler;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.scheduling.annotation.AsyncConfigurer;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
@@ -14,8 +16,20 @@ import java.util.concurrent.Executor;
 @EnableAsync
 public class AsyncConfig implements AsyncConfigurer {
 
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
     @Override
     public Executor getAsyncExecutor() {
+        if (virtualThreads) {
+            // Uma virtual thread por tarefa: handlers que bloqueiam em I/O não prendem threads de plataforma.
+            // A concorrência contra cada dependência é limitada pelos bulkheads, não pelo tamanho do pool
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("async-event-");
+            executor.setVirtualThreads(true);
+            executor.setTaskTerminationTimeout(60_000);
+            return executor;
+        }
+
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
         executor.setCorePoolSize(5);
         executor.setMaxPoolSize(10);
@@ -23,6 +37,10 @@ public class AsyncConfig implements AsyncConfigurer {
         executor.setThreadNamePrefix("async-event-");
         executor.setWaitForTasksToCompleteOnShutdown(true);
         executor.setAwaitTerminationSeconds(60);
+        // Fila cheia não pode propagar RejectedExecutionException para quem publicou o evento
+        executor.setRejectedExecutionHandler((task, pool) ->
+            log.warn("Async executor saturated (active: {}, queued: {}), discarding task",
+                pool.getActiveCount(), pool.getQueue().size()));
         executor.initialize();
         return executor;
     }
@@ -0,0 +1,33 @@
+package com.mercadolivre.product_api.infrastructure.config;
+
+import com.mercadolivre.product_api.infrastructure.cache.CacheDecorator;
+import com.mercadolivre.product_api.infrastructure.cache.CacheObserver;
+import com.mercadolivre.product_api.infrastructure.cache.ObservedCacheManager;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.support.NoOpCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class CacheObserverConfig {
+
+    // Envolve o CacheManager ativo (Redis ou local) para que os observers vejam leituras, escritas e evicções
+    @Bean
+    public static BeanPostProcessor observedCacheManagerPostProcessor(ObjectProvider<CacheObserver> observers,
+                                                                      ObjectProvider<CacheDecorator> decorators) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof CacheManager manager
+                        && !(bean instanceof ObservedCacheManager)
+                        && !(bean instanceof NoOpCacheManager)) {
+                    return new ObservedCacheManager(manager,
+                            observers.orderedStream().toList(), decorators.orderedStream().toList());
+                }
+                return bean;
+            }
+        };
+    }
+}
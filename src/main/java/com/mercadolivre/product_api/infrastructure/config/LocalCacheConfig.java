@@ -0,0 +1,50 @@
+package com.mercadolivre.product_api.infrastructure.config;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.mercadolivre.product_api.infrastructure.cache.CacheNames;
+import com.mercadolivre.product_api.infrastructure.cache.local.TinyLfuCacheManager;
+import com.mercadolivre.product_api.infrastructure.cache.local.TinyLfuCacheMetrics;
+import com.mercadolivre.product_api.infrastructure.cache.local.TinyLfuStore;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+// Cache em memória limitado por peso (W-TinyLFU) para ambientes sem Redis
+@Configuration
+@EnableCaching
+@ConditionalOnProperty(name = "spring.cache.type", havingValue = "simple")
+public class LocalCacheConfig {
+
+    @Bean
+    public TinyLfuStore tinyLfuStore(@Value("${product-api.cache.local.max-weight-bytes:67108864}") long maxWeightBytes) {
+        return new TinyLfuStore(maxWeightBytes);
+    }
+
+    @Bean
+    public CacheManager cacheManager(TinyLfuStore tinyLfuStore, MeterRegistry meterRegistry) {
+        // Mesmos TTLs do RedisConfig para manter o comportamento entre os dois modos
+        Map<String, Duration> ttls = new HashMap<>();
+        ttls.put(CacheNames.PRODUCTS, Duration.ofHours(3));
+        ttls.put(CacheNames.ALL_PRODUCTS, Duration.ofMinutes(30));
+        ttls.put(CacheNames.PRODUCTS_BY_CATEGORY, Duration.ofHours(1));
+        ttls.put(CacheNames.RECOMMENDED_PRODUCTS, Duration.ofHours(1));
+        ttls.put(CacheNames.PRODUCT_IMAGES, Duration.ofHours(6));
+        ttls.put(CacheNames.ALL_PRODUCT_IMAGES, Duration.ofHours(6));
+        ttls.put(CacheNames.CATEGORIES, Duration.ofHours(12));
+        ttls.put(CacheNames.ALL_CATEGORIES, Duration.ofHours(12));
+
+        return new TinyLfuCacheManager(tinyLfuStore, Duration.ofHours(2), ttls,
+                cache -> new TinyLfuCacheMetrics(cache, List.of()).bindTo(meterRegistry));
+    }
+
+}
@@ -1,14 +1,21 @@
 package com.mercadolivre.product_api.infrastructure.config;
 
+import com.mercadolivre.product_api.presentation.controller.CategoryController;
+import com.mercadolivre.product_api.presentation.controller.ProductController;
+import com.mercadolivre.product_api.presentation.controller.ProductImageController;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.info.Contact;
 import io.swagger.v3.oas.models.info.Info;
 import io.swagger.v3.oas.models.info.License;
+import io.swagger.v3.oas.models.media.StringSchema;
+import io.swagger.v3.oas.models.parameters.QueryParameter;
 import io.swagger.v3.oas.models.servers.Server;
+import org.springdoc.core.customizers.OperationCustomizer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 import java.util.List;
+import java.util.Set;
 
 @Configuration
 public class OpenApiConfig {
@@ -39,4 +46,20 @@ public class OpenApiConfig {
                 .servers(List.of(localServer));
     }
 
+    // ?fields= é aplicado pelo SparseFieldsJsonConverter, fora das assinaturas dos controllers
+    @Bean
+    public OperationCustomizer sparseFieldsParameter() {
+        Set<Class<?>> projectable = Set.of(ProductController.class, CategoryController.class, ProductImageController.class);
+        return (operation, handlerMethod) -> {
+            if (projectable.contains(handlerMethod.getBeanType())) {
+                operation.addParametersItem(new QueryParameter()
+                        .name("fields")
+                        .description("Campos a retornar, separados por vírgula (ex: id,name,price); o id sempre é incluído")
+                        .required(false)
+                        .schema(new StringSchema()));
+            }
+            return operation;
+        };
+    }
+
 }
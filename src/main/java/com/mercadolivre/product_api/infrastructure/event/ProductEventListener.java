@@ -1,97 +1,160 @@
 package com.mercadolivre.product_api.infrastructure.event;
 
 import com.mercadolivre.product_api.domain.event.ProductViewedEvent;
+import com.mercadolivre.product_api.infrastructure.index.HandleCounters;
+import com.mercadolivre.product_api.infrastructure.index.ProductIdRegistry;
+import com.mercadolivre.product_api.infrastructure.monitoring.SlidingWindowCounter;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.context.event.EventListener;
-import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.ObjIntConsumer;
 
+// Contadores de visualização (analytics, categoria e auditoria) aplicados em lote pelo ProductViewPipeline
 @Slf4j
 @Component
-public class ProductEventListener {
+@RequiredArgsConstructor
+public class ProductEventListener implements ProductViewHandler {
 
-    // Simulação de armazenamento de métricas
-    private final Map<String, AtomicInteger> productViewsCount = new ConcurrentHashMap<>();
+    // Totais por produto em contadores primitivos indexados pelo handle do ProductIdRegistry (o mesmo do repositório)
+    private final ProductIdRegistry productIds;
+    private final HandleCounters productViewsCount = new HandleCounters();
     private final Map<String, AtomicInteger> categoryViewsCount = new ConcurrentHashMap<>();
 
-    @Async
-    @EventListener
-    public void handleProductAnalytics(ProductViewedEvent event) {
-        log.info("[ASYNC-ANALYTICS] Processing analytics for product: {} - RequestID: {} - Thread: {}", 
-            event.getProductName(), event.getRequestId(), Thread.currentThread().getName());
-        
-        try {
-            // Simula processamento de analytics
-            Thread.sleep(500);
-            
-            // Incrementa contador de visualizações do produto
-            productViewsCount.computeIfAbsent(event.getProductId(), k -> new AtomicInteger(0))
-                .incrementAndGet();
-            
-            log.info("[ASYNC-ANALYTICS] Analytics processed for product: {} - Total views: {}", 
-                event.getProductName(), 
-                productViewsCount.get(event.getProductId()).get());
-                
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            log.error("Analytics processing interrupted", e);
+    // Visualizações recentes (1m, 5m, 1h, 24h); chaves sem visualização há mais de 24h são removidas
+    private static final long WINDOW_RETENTION_MILLIS = TimeUnit.HOURS.toMillis(24);
+    private static final Map<String, Long> NO_RECENT_VIEWS = Map.copyOf(new SlidingWindowCounter().snapshot());
+    private final Map<String, SlidingWindowCounter> productViewWindows = new ConcurrentHashMap<>();
+    private final Map<String, SlidingWindowCounter> categoryViewWindows = new ConcurrentHashMap<>();
+
+    @Override
+    public void handleBatch(List<ProductViewedEvent> events) {
+        handleProductAnalytics(events);
+        handleCategoryMetrics(events);
+        handleAuditLog(events);
+    }
+
+    @Override
+    public void handleCoalescedViews(ProductViewedEvent event, int views) {
+        recordProductViews(event.getProductId(), views);
+        if (event.getCategory() != null) {
+            recordViews(categoryViewsCount, categoryViewWindows, event.getCategory(), views);
         }
+        log.debug("[AUDIT] {} coalesced views for product: {} - first RequestID: {}",
+            views, event.getProductId(), event.getRequestId());
+    }
+
+    public void handleProductAnalytics(ProductViewedEvent event) {
+        handleProductAnalytics(List.of(event));
     }
 
-    @Async
-    @EventListener
     public void handleCategoryMetrics(ProductViewedEvent event) {
-        log.info("[ASYNC-METRICS] Processing category metrics for: {} - RequestID: {} - Thread: {}", 
-            event.getCategory(), event.getRequestId(), Thread.currentThread().getName());
-        
-        try {
-            // Simula processamento de métricas
-            Thread.sleep(300);
-            
-            // Incrementa contador de visualizações da categoria
-            categoryViewsCount.computeIfAbsent(event.getCategory(), k -> new AtomicInteger(0))
-                .incrementAndGet();
-            
-            log.info("[ASYNC-METRICS] Category metrics processed: {} - Total views: {}", 
-                event.getCategory(),
-                categoryViewsCount.get(event.getCategory()).get());
-                
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            log.error("Category metrics processing interrupted", e);
-        }
+        handleCategoryMetrics(List.of(event));
     }
 
-    @Async
-    @EventListener
     public void handleAuditLog(ProductViewedEvent event) {
-        log.info("[ASYNC-AUDIT] Logging audit for product: {} - RequestID: {} - Thread: {} - ViewedAt: {}", 
-            event.getProductId(), event.getRequestId(), Thread.currentThread().getName(), 
-            event.getViewedAt());
-        
-        try {
-            // Simula gravação de auditoria
-            Thread.sleep(200);
-            
-            log.info("[ASYNC-AUDIT] Audit log saved for product: {} at {}", 
-                event.getProductName(), event.getViewedAt());
-                
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            log.error("Audit log processing interrupted", e);
+        handleAuditLog(List.of(event));
+    }
+
+    public void handleProductAnalytics(List<ProductViewedEvent> events) {
+        // Agrega o lote antes de tocar nos contadores compartilhados: um incremento por produto distinto
+        Map<String, Integer> views = new HashMap<>();
+        for (ProductViewedEvent event : events) {
+            views.merge(event.getProductId(), 1, Integer::sum);
+        }
+        views.forEach(this::recordProductViews);
+        log.debug("[ANALYTICS] Processed {} views for {} products", events.size(), views.size());
+    }
+
+    public void handleCategoryMetrics(List<ProductViewedEvent> events) {
+        Map<String, Integer> views = new HashMap<>();
+        for (ProductViewedEvent event : events) {
+            if (event.getCategory() != null) {
+                views.merge(event.getCategory(), 1, Integer::sum);
+            }
+        }
+        views.forEach((category, count) -> recordViews(categoryViewsCount, categoryViewWindows, category, count));
+        log.debug("[METRICS] Processed {} views for {} categories", events.size(), views.size());
+    }
+
+    public void handleAuditLog(List<ProductViewedEvent> events) {
+        if (!log.isDebugEnabled()) {
+            return;
+        }
+        for (ProductViewedEvent event : events) {
+            log.debug("[AUDIT] Product viewed: {} - RequestID: {} - ViewedAt: {}",
+                event.getProductId(), event.getRequestId(), event.getViewedAt());
         }
     }
 
     // Métodos para consultar métricas (útil para demonstração)
     public int getProductViewCount(String productId) {
-        return productViewsCount.getOrDefault(productId, new AtomicInteger(0)).get();
+        return productViewsCount.get(productIds.find(productId));
     }
 
     public int getCategoryViewCount(String category) {
         return categoryViewsCount.getOrDefault(category, new AtomicInteger(0)).get();
     }
+
+    // Leitura sem trava para checkpoint: cada valor é consistente, o conjunto reflete um instante aproximado
+    public void forEachProductViewCount(ObjIntConsumer<String> action) {
+        int handles = productIds.size();
+        for (int handle = 0; handle < handles; handle++) {
+            int views = productViewsCount.get(handle);
+            if (views != 0) {
+                action.accept(productIds.idOf(handle), views);
+            }
+        }
+    }
+
+    public void forEachCategoryViewCount(ObjIntConsumer<String> action) {
+        categoryViewsCount.forEach((category, views) -> action.accept(category, views.get()));
+    }
+
+    // Soma ao valor atual: visualizações contadas antes da restauração não se perdem
+    public void restoreProductViewCount(String productId, int views) {
+        productViewsCount.add(productIds.register(productId), views);
+    }
+
+    public void restoreCategoryViewCount(String category, int views) {
+        categoryViewsCount.computeIfAbsent(category, k -> new AtomicInteger(0)).addAndGet(views);
+    }
+
+    public Map<String, Long> getProductViewWindows(String productId) {
+        return windowsOf(productViewWindows, productId);
+    }
+
+    public Map<String, Long> getCategoryViewWindows(String category) {
+        return windowsOf(categoryViewWindows, category);
+    }
+
+    @Scheduled(fixedDelayString = "${product-api.view-metrics.purge-interval-ms:600000}")
+    public void purgeIdleWindows() {
+        long cutoff = System.currentTimeMillis() - WINDOW_RETENTION_MILLIS;
+        productViewWindows.values().removeIf(counter -> counter.lastUpdateMillis() < cutoff);
+        categoryViewWindows.values().removeIf(counter -> counter.lastUpdateMillis() < cutoff);
+    }
+
+    private void recordProductViews(String productId, int views) {
+        productViewsCount.add(productIds.register(productId), views);
+        productViewWindows.computeIfAbsent(productId, k -> new SlidingWindowCounter()).add(views);
+    }
+
+    private static void recordViews(Map<String, AtomicInteger> totals, Map<String, SlidingWindowCounter> windows,
+                                    String key, int views) {
+        totals.computeIfAbsent(key, k -> new AtomicInteger(0)).addAndGet(views);
+        windows.computeIfAbsent(key, k -> new SlidingWindowCounter()).add(views);
+    }
+
+    private static Map<String, Long> windowsOf(Map<String, SlidingWindowCounter> windows, String key) {
+        SlidingWindowCounter counter = windows.get(key);
+        return counter != null ? counter.snapshot() : NO_RECENT_VIEWS;
+    }
 }
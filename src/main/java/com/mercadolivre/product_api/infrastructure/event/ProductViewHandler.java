@@ -0,0 +1,14 @@
+package com.mercadolivre.product_api.infrastructure.event;
+
+import com.mercadolivre.product_api.domain.event.ProductViewedEvent;
+
+import java.util.List;
+
+// Consumidor de visualizações chamado pelo ProductViewPipeline nas threads do pipeline, um lote por vez
+public interface ProductViewHandler {
+
+    void handleBatch(List<ProductViewedEvent> events);
+
+    // Visualizações agregadas por produto quando o ring buffer estava cheio (política COALESCE)
+    void handleCoalescedViews(ProductViewedEvent event, int views);
+}
@@ -0,0 +1,238 @@
+package com.mercadolivre.product_api.infrastructure.event;
+
+import com.mercadolivre.product_api.domain.event.ProductViewedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/*
+ * Despacho único das visualizações: o listener só enfileira o evento no ring buffer (sem alocar
+ * tarefa nem trocar de thread) e consumidores dedicados drenam em lotes, aplicando analytics,
+ * métricas de categoria e auditoria de uma vez por lote. O excesso é tratado pela ViewOverflowPolicy.
+ */
+@Slf4j
+@Component
+// Só grava o snapshot final depois do dreno no shutdown
+@DependsOn("viewCountSnapshots")
+public class ProductViewPipeline {
+
+    private static final long MIN_IDLE_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+    private static final long MAX_IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final List<ProductViewHandler> handlers;
+    private final RingBuffer<ProductViewedEvent> buffer;
+    private final int consumers;
+    private final int batchSize;
+    private final ViewOverflowPolicy overflowPolicy;
+    private final int highWatermark;
+    private final int sampleRate;
+    private final int maxCoalescedProducts;
+    private final Map<String, PendingViews> coalesced = new ConcurrentHashMap<>();
+    private final Counter processed;
+    private final Counter dropped;
+    private final Counter sampled;
+    private final Counter coalescedViews;
+    private final Counter batches;
+    private final List<Thread> consumerThreads = new ArrayList<>();
+    private volatile boolean running;
+
+    public ProductViewPipeline(List<ProductViewHandler> handlers,
+                               MeterRegistry meterRegistry,
+                               @Value("${product-api.view-pipeline.capacity:65536}") int capacity,
+                               @Value("${product-api.view-pipeline.consumers:2}") int consumers,
+                               @Value("${product-api.view-pipeline.batch-size:1024}") int batchSize,
+                               @Value("${product-api.view-pipeline.overflow-policy:COALESCE}") ViewOverflowPolicy overflowPolicy,
+                               @Value("${product-api.view-pipeline.sample-rate:10}") int sampleRate,
+                               @Value("${product-api.view-pipeline.max-coalesced-products:10000}") int maxCoalescedProducts) {
+        this.handlers = List.copyOf(handlers);
+        this.buffer = new RingBuffer<>(capacity);
+        this.consumers = Math.max(1, consumers);
+        this.batchSize = Math.max(1, batchSize);
+        this.overflowPolicy = overflowPolicy;
+        this.highWatermark = buffer.capacity() - buffer.capacity() / 4;
+        this.sampleRate = Math.max(1, sampleRate);
+        this.maxCoalescedProducts = Math.max(1, maxCoalescedProducts);
+
+        this.processed = Counter.builder("product.view.pipeline.processed")
+                .description("Product view events applied by the pipeline handlers")
+                .register(meterRegistry);
+        this.dropped = Counter.builder("product.view.pipeline.dropped")
+                .description("Product view events discarded because the ring buffer was full")
+                .register(meterRegistry);
+        this.sampled = Counter.builder("product.view.pipeline.sampled")
+                .description("Product view events skipped by sampling while the backlog was above the high watermark")
+                .register(meterRegistry);
+        this.coalescedViews = Counter.builder("product.view.pipeline.coalesced")
+                .description("Product view events merged into per-product pending counts while the ring buffer was full")
+                .register(meterRegistry);
+        this.batches = Counter.builder("product.view.pipeline.batches")
+                .description("Batches drained from the ring buffer")
+                .register(meterRegistry);
+        Gauge.builder("product.view.pipeline.backlog", buffer, RingBuffer::size)
+                .description("Product view events waiting in the ring buffer")
+                .register(meterRegistry);
+        Gauge.builder("product.view.pipeline.capacity", buffer, RingBuffer::capacity)
+                .description("Capacity of the product view ring buffer")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void start() {
+        running = true;
+        for (int i = 0; i < consumers; i++) {
+            Thread thread = new Thread(this::consume, "view-pipeline-" + i);
+            thread.setDaemon(true);
+            consumerThreads.add(thread);
+            thread.start();
+        }
+        log.info("Product view pipeline started: capacity={}, consumers={}, batchSize={}, overflowPolicy={}",
+                buffer.capacity(), consumers, batchSize, overflowPolicy);
+    }
+
+    @PreDestroy
+    void stop() {
+        running = false;
+        for (Thread thread : consumerThreads) {
+            LockSupport.unpark(thread);
+            try {
+                thread.join(TimeUnit.SECONDS.toMillis(5));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        consumerThreads.clear();
+        // O que sobrou no buffer é aplicado na thread de shutdown para não perder visualizações
+        List<ProductViewedEvent> batch = new ArrayList<>(batchSize);
+        while (drainBatch(batch) > 0) {
+            batch.clear();
+        }
+        flushCoalesced();
+        log.info("Product view pipeline stopped");
+    }
+
+    // Chamado na thread da requisição: nunca bloqueia nem propaga exceção para a leitura do produto
+    @EventListener
+    public void onProductViewed(ProductViewedEvent event) {
+        try {
+            if (overflowPolicy == ViewOverflowPolicy.SAMPLE && buffer.size() >= highWatermark
+                    && ThreadLocalRandom.current().nextInt(sampleRate) != 0) {
+                sampled.increment();
+                return;
+            }
+            if (buffer.offer(event)) {
+                return;
+            }
+            if (overflowPolicy == ViewOverflowPolicy.COALESCE && coalesce(event)) {
+                coalescedViews.increment();
+                return;
+            }
+            dropped.increment();
+        } catch (RuntimeException e) {
+            dropped.increment();
+            log.warn("Failed to enqueue product view event for product {}", event.getProductId(), e);
+        }
+    }
+
+    public int backlog() {
+        return buffer.size();
+    }
+
+    private void consume() {
+        List<ProductViewedEvent> batch = new ArrayList<>(batchSize);
+        long idlePark = MIN_IDLE_PARK_NANOS;
+        while (running) {
+            int drained = drainBatch(batch);
+            batch.clear();
+            if (flushCoalesced() + drained > 0) {
+                idlePark = MIN_IDLE_PARK_NANOS;
+            } else {
+                LockSupport.parkNanos(this, idlePark);
+                idlePark = Math.min(idlePark * 2, MAX_IDLE_PARK_NANOS);
+            }
+        }
+    }
+
+    private int drainBatch(List<ProductViewedEvent> batch) {
+        int drained = buffer.drain(batch::add, batchSize);
+        if (drained == 0) {
+            return 0;
+        }
+        for (ProductViewHandler handler : handlers) {
+            // Um handler com falha não impede os demais de processar o lote
+            try {
+                handler.handleBatch(batch);
+            } catch (RuntimeException e) {
+                log.error("{} failed to process batch of {} product view events",
+                        handler.getClass().getSimpleName(), drained, e);
+            }
+        }
+        processed.increment(drained);
+        batches.increment();
+        return drained;
+    }
+
+    private boolean coalesce(ProductViewedEvent event) {
+        String productId = event.getProductId();
+        if (productId == null || (coalesced.size() >= maxCoalescedProducts && !coalesced.containsKey(productId))) {
+            return false;
+        }
+        // compute trava o bin da chave, então o incremento nunca corre com a remoção em flushCoalesced
+        coalesced.compute(productId, (id, pending) -> {
+            if (pending == null) {
+                return new PendingViews(event);
+            }
+            pending.views++;
+            return pending;
+        });
+        return true;
+    }
+
+    private int flushCoalesced() {
+        if (coalesced.isEmpty()) {
+            return 0;
+        }
+        int flushed = 0;
+        for (String productId : coalesced.keySet()) {
+            PendingViews pending = coalesced.remove(productId);
+            if (pending == null) {
+                continue;
+            }
+            for (ProductViewHandler handler : handlers) {
+                try {
+                    handler.handleCoalescedViews(pending.event, pending.views);
+                } catch (RuntimeException e) {
+                    log.error("{} failed to apply {} coalesced views for product {}",
+                            handler.getClass().getSimpleName(), pending.views, productId, e);
+                }
+            }
+            processed.increment(pending.views);
+            flushed += pending.views;
+        }
+        return flushed;
+    }
+
+    private static final class PendingViews {
+        private final ProductViewedEvent event;
+        private int views = 1;
+
+        private PendingViews(ProductViewedEvent event) {
+            this.event = event;
+        }
+    }
+}
@@ -0,0 +1,209 @@
+package com.mercadolivre.product_api.infrastructure.event;
+
+import com.mercadolivre.product_api.domain.repository.ProductRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.ObjIntConsumer;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+
+/*
+ * Checkpoint dos totais de visualização do ProductEventListener em um arquivo binário compacto:
+ * cabeçalho, registros "tag, tamanho, chave UTF-8, contagem" e um CRC32 no final. A escrita percorre os
+ * contadores sem trava (os incrementos seguem durante o checkpoint), grava em um arquivo temporário
+ * e troca com move atômico, então uma queda no meio nunca corrompe o último snapshot válido. O
+ * arquivo é de uma instância só (product-api.instance-id no caminho) e o temporário tem nome único,
+ * então réplicas no mesmo volume nunca misturam nem somam os contadores umas das outras.
+ * Restaurado depois da carga de dados (DataInitializer) e antes de a aplicação aceitar tráfego;
+ * contagens de produtos que não existem mais no repositório são descartadas, para não recriar
+ * handles órfãos que voltariam a cada checkpoint. Gravado de novo no shutdown depois que o pipeline
+ * drena o que restou (ver @DependsOn em ProductViewPipeline).
+ */
+@Slf4j
+@Component
+@Order(50)
+public class ViewCountSnapshots implements ApplicationRunner {
+
+    private static final int MAGIC = 0x50564331; // "PVC1"
+    private static final byte PRODUCT = 1;
+    private static final byte CATEGORY = 2;
+    private static final byte END = 0;
+    private static final int HEADER_BYTES = Integer.BYTES + Long.BYTES;
+    private static final int MAX_KEY_BYTES = 0xFFFF;
+    private static final int BUFFER_BYTES = 1 << 20;
+
+    private final ProductEventListener eventListener;
+    private final ProductRepository productRepository;
+    private final Path file;
+    private final boolean enabled;
+    private final Timer writeTimer;
+    private final ReentrantLock writeLock = new ReentrantLock();
+
+    public ViewCountSnapshots(ProductEventListener eventListener,
+                              ProductRepository productRepository,
+                              MeterRegistry meterRegistry,
+                              @Value("${product-api.view-snapshot.file:${java.io.tmpdir}/product-api/${product-api.instance-id:local}/view-counts.snapshot}") Path file,
+                              @Value("${product-api.view-snapshot.enabled:true}") boolean enabled) {
+        this.eventListener = eventListener;
+        this.productRepository = productRepository;
+        this.file = file;
+        this.enabled = enabled;
+        this.writeTimer = Timer.builder("product.view.snapshot.write")
+                .description("Time spent checkpointing view counters to disk")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        restore();
+    }
+
+    public void restore() {
+        if (!enabled || !Files.isReadable(file)) {
+            return;
+        }
+        long start = System.nanoTime();
+        byte[] data;
+        try {
+            data = Files.readAllBytes(file);
+        } catch (IOException e) {
+            log.warn("Could not restore view counts from {}: {}", file, e.getMessage());
+            return;
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(data);
+        if (data.length < HEADER_BYTES + 1 + Long.BYTES || buffer.getInt(0) != MAGIC) {
+            log.warn("Ignoring view count snapshot {}: unknown format", file);
+            return;
+        }
+        // Valida o arquivo inteiro antes de aplicar: nunca restaura metade de um snapshot
+        CRC32 crc = new CRC32();
+        crc.update(data, 0, data.length - Long.BYTES);
+        if (buffer.getLong(data.length - Long.BYTES) != crc.getValue()) {
+            log.warn("Ignoring view count snapshot {}: checksum mismatch", file);
+            return;
+        }
+        long takenAt = buffer.getLong(Integer.BYTES);
+        int restored = 0;
+        int discarded = 0;
+        int pos = HEADER_BYTES;
+        byte tag;
+        while ((tag = data[pos]) != END) {
+            int keyLength = buffer.getShort(pos + 1) & 0xFFFF;
+            String key = new String(data, pos + 3, keyLength, StandardCharsets.UTF_8);
+            int views = buffer.getInt(pos + 3 + keyLength);
+            pos += 3 + keyLength + Integer.BYTES;
+            if (tag == PRODUCT) {
+                if (!productRepository.existsById(key)) {
+                    discarded++;
+                    continue;
+                }
+                eventListener.restoreProductViewCount(key, views);
+            } else {
+                eventListener.restoreCategoryViewCount(key, views);
+            }
+            restored++;
+        }
+        log.info("Restored {} view counters ({} for unknown products discarded) from snapshot taken at {} in {} ms",
+                restored, discarded, Instant.ofEpochMilli(takenAt), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    }
+
+    @Scheduled(fixedDelayString = "${product-api.view-snapshot.interval-ms:60000}",
+               initialDelayString = "${product-api.view-snapshot.interval-ms:60000}")
+    public void checkpoint() {
+        if (enabled) {
+            writeTimer.record(this::write);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        checkpoint();
+    }
+
+    private void write() {
+        writeLock.lock();
+        try {
+            Path directory = Files.createDirectories(file.toAbsolutePath().getParent());
+            Path tmp = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+            try {
+                writeTo(tmp);
+                Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(tmp);
+            }
+        } catch (IOException e) {
+            log.warn("Could not write view count snapshot to {}: {}", file, e.getMessage());
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private void writeTo(Path tmp) throws IOException {
+        CRC32 crc = new CRC32();
+        try (OutputStream raw = Files.newOutputStream(tmp);
+             DataOutputStream out = new DataOutputStream(new CheckedOutputStream(
+                     new BufferedOutputStream(raw, BUFFER_BYTES), crc))) {
+            out.writeInt(MAGIC);
+            out.writeLong(System.currentTimeMillis());
+            writeSection(out, PRODUCT, eventListener::forEachProductViewCount);
+            writeSection(out, CATEGORY, eventListener::forEachCategoryViewCount);
+            out.writeByte(END);
+            out.writeLong(crc.getValue());
+        }
+        try (FileChannel channel = FileChannel.open(tmp, StandardOpenOption.WRITE)) {
+            channel.force(true);
+        }
+    }
+
+    private static void writeSection(DataOutputStream out, byte tag,
+                                     Consumer<ObjIntConsumer<String>> counters) throws IOException {
+        try {
+            counters.accept((key, views) -> writeEntry(out, tag, key, views));
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private static void writeEntry(DataOutputStream out, byte tag, String key, int views) {
+        if (views == 0) {
+            return;
+        }
+        try {
+            byte[] bytes = key.getBytes(StandardCharsets.UTF_8);
+            if (bytes.length > MAX_KEY_BYTES) {
+                return;
+            }
+            out.writeByte(tag);
+            out.writeShort(bytes.length);
+            out.write(bytes);
+            out.writeInt(views);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.mercadolivre.product_api.infrastructure.event;
+
+// O que fazer com visualizações quando o pipeline não dá conta; nenhuma opção bloqueia ou falha a leitura
+public enum ViewOverflowPolicy {
+
+    // Buffer cheio: descarta e contabiliza
+    DROP,
+
+    // Backlog acima da marca d'água: enfileira só 1 de cada sample-rate visualizações
+    SAMPLE,
+
+    // Buffer cheio: soma a visualização num contador pendente por produto, aplicado no próximo lote
+    COALESCE
+}
@@ -6,11 +6,13 @@ import java.util.Map;
 
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.context.request.WebRequest;
 
 import com.mercadolivre.product_api.domain.dto.ApiResponse;
+import com.mercadolivre.product_api.domain.exception.InvalidRequestException;
 import com.mercadolivre.product_api.domain.exception.ResourceNotFoundException;
 
 import lombok.extern.slf4j.Slf4j;
@@ -35,6 +37,24 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(response, HttpStatus.NOT_FOUND);
     }
 
+    @ExceptionHandler(InvalidRequestException.class)
+    public ResponseEntity<ApiResponse<Object>> handleInvalidRequestException(
+            InvalidRequestException ex, WebRequest request) {
+
+        log.warn("Invalid request: {}", ex.getMessage());
+
+        return badRequest(ex.getMessage(), request);
+    }
+
+    @ExceptionHandler(HttpMessageNotReadableException.class)
+    public ResponseEntity<ApiResponse<Object>> handleHttpMessageNotReadableException(
+            HttpMessageNotReadableException ex, WebRequest request) {
+
+        log.warn("Malformed request body: {}", ex.getMessage());
+
+        return badRequest("Malformed request body", request);
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ApiResponse<Object>> handleGlobalException(
             Exception ex, WebRequest request) {
@@ -50,4 +70,15 @@ public class GlobalExceptionHandler {
         
         return new ResponseEntity<>(response, HttpStatus.INTERNAL_SERVER_ERROR);
     }
+
+    private ResponseEntity<ApiResponse<Object>> badRequest(String message, WebRequest request) {
+        ApiResponse<Object> response = ApiResponse.error(
+            message,
+            "Bad Request",
+            HttpStatus.BAD_REQUEST.value(),
+            request.getDescription(false).replace("uri=", "")
+        );
+
+        return new ResponseEntity<>(response, HttpStatus.BAD_REQUEST);
+    }
 }
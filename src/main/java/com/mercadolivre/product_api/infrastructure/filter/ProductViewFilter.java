@@ -0,0 +1,76 @@
+package com.mercadolivre.product_api.infrastructure.filter;
+
+import com.mercadolivre.product_api.domain.event.ProductViewedEvent;
+import com.mercadolivre.product_api.domain.model.Product;
+import com.mercadolivre.product_api.domain.repository.ProductRepository;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/*
+ * Publica a visualização de produto a partir da requisição, não do serviço: todo GET em
+ * /products/{id} ou /products/{id}/detail respondido com 200 ou 304 conta, venha a resposta do
+ * controller, do cache de bytes (ResponseCacheFilter roda depois deste filtro), de um 304 por ETag ou
+ * de uma entrada de cache aquecida. Assim tendências, janelas e únicos medem popularidade e não taxa
+ * de miss do @Cacheable. O id é conferido no repositório antes de publicar.
+ */
+@Slf4j
+@Component
+@Order(3)
+@RequiredArgsConstructor
+public class ProductViewFilter extends OncePerRequestFilter {
+
+    private static final Pattern PRODUCT_READ = Pattern.compile("^/api/v1/products/([^/]+)(?:/detail)?$");
+    private static final String REQUEST_ID_MDC_KEY = "requestId";
+    private static final String VISITOR_ID_MDC_KEY = "visitorId";
+
+    private final ObjectProvider<ProductRepository> productRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !"GET".equals(request.getMethod());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+
+        filterChain.doFilter(request, response);
+
+        int status = response.getStatus();
+        if (status != HttpServletResponse.SC_OK && status != HttpServletResponse.SC_NOT_MODIFIED) {
+            return;
+        }
+        Matcher matcher = PRODUCT_READ.matcher(request.getRequestURI());
+        ProductRepository repository = productRepository.getIfAvailable();
+        if (matcher.matches() && repository != null) {
+            repository.findById(matcher.group(1)).ifPresent(this::publishView);
+        }
+    }
+
+    private void publishView(Product product) {
+        try {
+            eventPublisher.publishEvent(new ProductViewedEvent(
+                this, product.getId(), product.getName(), product.getCategory(),
+                MDC.get(REQUEST_ID_MDC_KEY), MDC.get(VISITOR_ID_MDC_KEY)
+            ));
+        } catch (RuntimeException e) {
+            // Falha de analytics nunca derruba a leitura do produto
+            log.warn("Failed to publish product viewed event for: {}", product.getId(), e);
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.mercadolivre.product_api.infrastructure.filter;
+
+import com.mercadolivre.product_api.infrastructure.cache.ContentCoding;
+import com.mercadolivre.product_api.infrastructure.cache.ResponseBytesCache;
+import com.mercadolivre.product_api.infrastructure.cache.ResponseBytesCache.CachedResponse;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+
+// Hit escreve os bytes guardados (ou a variante comprimida aceita) direto no output stream, sem passar por
+// controller, Jackson nem compressão;
+// com If-None-Match igual ao ETag guardado ou ao de uma das variantes comprimidas responde 304 sem corpo
+@Component
+@Order(4)
+@RequiredArgsConstructor
+public class ResponseCacheFilter extends OncePerRequestFilter {
+
+    static final String CACHE_STATUS_HEADER = "X-Response-Cache";
+
+    private final ObjectProvider<ResponseBytesCache> responseCache;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+
+        ResponseBytesCache cache = responseCache.getIfAvailable();
+        String key = cache != null ? cache.keyFor(request) : null;
+        if (key == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        CachedResponse cached = cache.get(key);
+        if (cached != null) {
+            if (cached.etag() != null && matches(request.getHeader(HttpHeaders.IF_NONE_MATCH), cached.etag())) {
+                notModified(cache, cached, request, response);
+            } else {
+                write(cache, cached, "HIT", request, response);
+            }
+            return;
+        }
+
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+        wrapper.setHeader(CACHE_STATUS_HEADER, "MISS");
+        filterChain.doFilter(request, wrapper);
+        if (wrapper.getStatus() == HttpServletResponse.SC_OK && wrapper.getContentType() != null
+                && !wrapper.containsHeader(HttpHeaders.SET_COOKIE) && !isNoStore(wrapper)) {
+            CachedResponse stored = cache.put(key, wrapper.getContentType(), wrapper.getHeader(HttpHeaders.ETAG),
+                    wrapper.getContentAsByteArray());
+            // O controller só conhece o ETag sem compressão; um cliente com a variante comprimida ainda leva 304
+            if (stored.etag() != null && matches(request.getHeader(HttpHeaders.IF_NONE_MATCH), stored.etag())) {
+                notModified(cache, stored, request, response);
+                response.setHeader(CACHE_STATUS_HEADER, "MISS");
+                return;
+            }
+            write(cache, stored, "MISS", request, response);
+            return;
+        }
+        wrapper.copyBodyToResponse();
+    }
+
+    private static void write(ResponseBytesCache cache, CachedResponse cached, String cacheStatus,
+                              HttpServletRequest request, HttpServletResponse response) throws IOException {
+        ContentCoding coding = cache.negotiate(cached, request.getHeader(HttpHeaders.ACCEPT_ENCODING));
+        byte[] body = coding != null ? cached.encoded(coding) : cached.body();
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentType(cached.contentType());
+        response.setContentLength(body.length);
+        response.setHeader(CACHE_STATUS_HEADER, cacheStatus);
+        if (cached.etag() != null) {
+            response.setHeader(HttpHeaders.ETAG, coding != null ? coding.etag(cached.etag()) : cached.etag());
+        }
+        response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+        if (cache.isCompressionEnabled()) {
+            response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        }
+        if (coding != null) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, coding.token());
+        }
+        response.getOutputStream().write(body);
+    }
+
+    // Fallback do circuit breaker (e qualquer resposta que proíbe cache) nunca vira entrada
+    private static boolean isNoStore(HttpServletResponse response) {
+        String cacheControl = response.getHeader(HttpHeaders.CACHE_CONTROL);
+        return cacheControl != null && cacheControl.contains("no-store");
+    }
+
+    // O 304 leva o ETag da variante que um 200 mandaria agora
+    private static void notModified(ResponseBytesCache cache, CachedResponse cached,
+                                    HttpServletRequest request, HttpServletResponse response) {
+        ContentCoding coding = cache.negotiate(cached, request.getHeader(HttpHeaders.ACCEPT_ENCODING));
+        response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+        response.setHeader(HttpHeaders.ETAG, coding != null ? coding.etag(cached.etag()) : cached.etag());
+        response.setHeader(CACHE_STATUS_HEADER, "HIT");
+        response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+        if (cache.isCompressionEnabled()) {
+            response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        }
+    }
+
+    // Comparação fraca, como pede o If-None-Match: ignora o prefixo W/, aceita lista ou * e qualquer variante
+    // comprimida do mesmo ETag (os bytes sem compressão são os mesmos)
+    static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        String expected = stripWeak(etag);
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals("*") || stripWeak(tag).equals(expected)) {
+                return true;
+            }
+            for (ContentCoding coding : ContentCoding.values()) {
+                if (stripWeak(tag).equals(coding.etag(expected))) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static String stripWeak(String tag) {
+        return tag.startsWith("W/") ? tag.substring(2) : tag;
+    }
+}
@@ -0,0 +1,66 @@
+package com.mercadolivre.product_api.infrastructure.filter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.MDC;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+// Identifica o visitante para contagem de únicos: header X-Visitor-ID ou hash do IP do cliente + User-Agent
+@Component
+@Order(2)
+public class VisitorIdFilter extends OncePerRequestFilter {
+
+    private static final String VISITOR_ID_HEADER = "X-Visitor-ID";
+    private static final String VISITOR_ID_MDC_KEY = "visitorId";
+    private static final int MAX_VISITOR_ID_LENGTH = 128;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+
+        MDC.put(VISITOR_ID_MDC_KEY, resolveVisitorId(request));
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            MDC.remove(VISITOR_ID_MDC_KEY);
+        }
+    }
+
+    static String resolveVisitorId(HttpServletRequest request) {
+        String visitorId = request.getHeader(VISITOR_ID_HEADER);
+        if (visitorId != null && !visitorId.isBlank()) {
+            return visitorId.length() > MAX_VISITOR_ID_LENGTH ? visitorId.substring(0, MAX_VISITOR_ID_LENGTH) : visitorId;
+        }
+        String userAgent = request.getHeader("User-Agent");
+        // O hash evita guardar IP em claro; só precisa ser estável por cliente
+        return "h:" + sha256(clientIp(request) + "|" + (userAgent == null ? "" : userAgent)).substring(0, 32);
+    }
+
+    private static String clientIp(HttpServletRequest request) {
+        String forwardedFor = request.getHeader("X-Forwarded-For");
+        if (forwardedFor != null && !forwardedFor.isBlank()) {
+            int comma = forwardedFor.indexOf(',');
+            return (comma >= 0 ? forwardedFor.substring(0, comma) : forwardedFor).trim();
+        }
+        return request.getRemoteAddr();
+    }
+
+    private static String sha256(String value) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
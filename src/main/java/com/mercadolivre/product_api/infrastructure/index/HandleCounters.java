@@ -0,0 +1,51 @@
+package com.mercadolivre.product_api.infrastructure.index;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/*
+ * Contadores int indexados por handle denso (ProductIdRegistry), em páginas de AtomicIntegerArray:
+ * 4 bytes por produto, incremento lock-free e sem hashing. Páginas são alocadas sob demanda e o
+ * diretório é copiado ao crescer, então leitores nunca travam.
+ */
+public class HandleCounters {
+
+    private static final int PAGE_SHIFT = 14;
+    private static final int PAGE_SIZE = 1 << PAGE_SHIFT;
+    private static final int PAGE_MASK = PAGE_SIZE - 1;
+
+    private volatile AtomicIntegerArray[] pages = new AtomicIntegerArray[0];
+
+    public int add(int handle, int delta) {
+        return page(handle).addAndGet(handle & PAGE_MASK, delta);
+    }
+
+    public int get(int handle) {
+        AtomicIntegerArray[] current = pages;
+        int index = handle >>> PAGE_SHIFT;
+        if (handle < 0 || index >= current.length || current[index] == null) {
+            return 0;
+        }
+        return current[index].get(handle & PAGE_MASK);
+    }
+
+    private AtomicIntegerArray page(int handle) {
+        AtomicIntegerArray[] current = pages;
+        int index = handle >>> PAGE_SHIFT;
+        if (index < current.length && current[index] != null) {
+            return current[index];
+        }
+        return allocate(index);
+    }
+
+    private synchronized AtomicIntegerArray allocate(int index) {
+        AtomicIntegerArray[] current = pages;
+        if (index < current.length && current[index] != null) {
+            return current[index];
+        }
+        AtomicIntegerArray[] grown = Arrays.copyOf(current, Math.max(current.length, index + 1));
+        grown[index] = new AtomicIntegerArray(PAGE_SIZE);
+        pages = grown;
+        return grown[index];
+    }
+}
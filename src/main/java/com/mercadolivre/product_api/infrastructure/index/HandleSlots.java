@@ -0,0 +1,52 @@
+package com.mercadolivre.product_api.infrastructure.index;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+// Referências indexadas por handle denso, em páginas alocadas sob demanda (mesmo esquema de HandleCounters)
+public class HandleSlots<T> {
+
+    private static final int PAGE_SHIFT = 14;
+    private static final int PAGE_SIZE = 1 << PAGE_SHIFT;
+    private static final int PAGE_MASK = PAGE_SIZE - 1;
+
+    private volatile AtomicReferenceArray<T>[] pages = newDirectory(0);
+
+    public T get(int handle) {
+        AtomicReferenceArray<T>[] current = pages;
+        int index = handle >>> PAGE_SHIFT;
+        if (handle < 0 || index >= current.length || current[index] == null) {
+            return null;
+        }
+        return current[index].get(handle & PAGE_MASK);
+    }
+
+    public T set(int handle, T value) {
+        return page(handle).getAndSet(handle & PAGE_MASK, value);
+    }
+
+    private AtomicReferenceArray<T> page(int handle) {
+        AtomicReferenceArray<T>[] current = pages;
+        int index = handle >>> PAGE_SHIFT;
+        if (index < current.length && current[index] != null) {
+            return current[index];
+        }
+        return allocate(index);
+    }
+
+    private synchronized AtomicReferenceArray<T> allocate(int index) {
+        AtomicReferenceArray<T>[] current = pages;
+        if (index < current.length && current[index] != null) {
+            return current[index];
+        }
+        AtomicReferenceArray<T>[] grown = Arrays.copyOf(current, Math.max(current.length, index + 1));
+        grown[index] = new AtomicReferenceArray<>(PAGE_SIZE);
+        pages = grown;
+        return grown[index];
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> AtomicReferenceArray<T>[] newDirectory(int length) {
+        return (AtomicReferenceArray<T>[]) new AtomicReferenceArray<?>[length];
+    }
+}
@@ -0,0 +1,102 @@
+package com.mercadolivre.product_api.infrastructure.index;
+
+import java.util.Arrays;
+
+/*
+ * Conjunto de handles (int >= 0) com endereçamento aberto e sondagem linear: 4 bytes por slot, sem
+ * boxing. A remoção desloca as entradas seguintes para trás (sem lápides), então a tabela não
+ * degrada com inserções e remoções alternadas. Sincronizado: usado em índices secundários com
+ * poucas escritas, onde a leitura copia os handles para um int[].
+ */
+public class IntOpenHashSet {
+
+    private static final int EMPTY = -1;
+    private static final int INITIAL_CAPACITY = 16;
+
+    private int[] slots = newSlots(INITIAL_CAPACITY);
+    private int size;
+
+    public synchronized boolean add(int value) {
+        int i = indexOf(value);
+        if (slots[i] == value) {
+            return false;
+        }
+        slots[i] = value;
+        if (++size * 2 > slots.length) {
+            rehash(slots.length * 2);
+        }
+        return true;
+    }
+
+    public synchronized boolean remove(int value) {
+        int i = indexOf(value);
+        if (slots[i] != value) {
+            return false;
+        }
+        int mask = slots.length - 1;
+        int hole = i;
+        int next = (i + 1) & mask;
+        while (slots[next] != EMPTY) {
+            int home = hash(slots[next]) & mask;
+            // Move para o buraco se a posição ideal da entrada não estiver entre o buraco e ela
+            if (((next - home) & mask) >= ((next - hole) & mask)) {
+                slots[hole] = slots[next];
+                hole = next;
+            }
+            next = (next + 1) & mask;
+        }
+        slots[hole] = EMPTY;
+        size--;
+        return true;
+    }
+
+    public synchronized boolean contains(int value) {
+        return slots[indexOf(value)] == value;
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    public synchronized int[] toArray() {
+        int[] values = new int[size];
+        int n = 0;
+        for (int slot : slots) {
+            if (slot != EMPTY) {
+                values[n++] = slot;
+            }
+        }
+        return values;
+    }
+
+    // Posição do valor ou do primeiro slot vazio da sua sequência de sondagem
+    private int indexOf(int value) {
+        int mask = slots.length - 1;
+        int i = hash(value) & mask;
+        while (slots[i] != EMPTY && slots[i] != value) {
+            i = (i + 1) & mask;
+        }
+        return i;
+    }
+
+    private void rehash(int capacity) {
+        int[] old = slots;
+        slots = newSlots(capacity);
+        for (int value : old) {
+            if (value != EMPTY) {
+                slots[indexOf(value)] = value;
+            }
+        }
+    }
+
+    private static int[] newSlots(int capacity) {
+        int[] slots = new int[capacity];
+        Arrays.fill(slots, EMPTY);
+        return slots;
+    }
+
+    private static int hash(int value) {
+        int h = value * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+}
@@ -0,0 +1,112 @@
+package com.mercadolivre.product_api.infrastructure.index;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.ReentrantLock;
+
+/*
+ * Associa cada id de produto (UUID em String) a um handle int denso, atribuído uma única vez e nunca
+ * reutilizado. Contadores e índices guardam o handle em arrays primitivos em vez de uma entrada de
+ * mapa por String. Tabela de endereçamento aberto (sondagem linear) com chaves e handles em arrays
+ * paralelos: a busca não trava nem aloca; o registro de um id novo é serializado e a tabela cresce
+ * por cópia, publicada de forma atômica. A String é a mesma instância guardada pelo produto.
+ */
+@Component
+public class ProductIdRegistry {
+
+    public static final int NOT_FOUND = -1;
+
+    private static final int INITIAL_CAPACITY = 1 << 10;
+
+    private record Table(AtomicReferenceArray<String> keys, int[] handles, int mask) {
+
+        static Table withCapacity(int capacity) {
+            return new Table(new AtomicReferenceArray<>(capacity), new int[capacity], capacity - 1);
+        }
+
+        // O handle é escrito antes da chave (escrita volátil): quem enxerga a chave enxerga o handle
+        void insert(String id, int handle) {
+            int i = spread(id.hashCode()) & mask;
+            while (keys.getPlain(i) != null) {
+                i = (i + 1) & mask;
+            }
+            handles[i] = handle;
+            keys.set(i, id);
+        }
+    }
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private volatile Table table = Table.withCapacity(INITIAL_CAPACITY);
+    private volatile String[] ids = new String[INITIAL_CAPACITY];
+    private volatile int size;
+
+    public int find(String id) {
+        Table current = table;
+        int i = spread(id.hashCode()) & current.mask();
+        String key;
+        while ((key = current.keys().get(i)) != null) {
+            if (key.equals(id)) {
+                return current.handles()[i];
+            }
+            i = (i + 1) & current.mask();
+        }
+        return NOT_FOUND;
+    }
+
+    public int register(String id) {
+        int handle = find(id);
+        if (handle != NOT_FOUND) {
+            return handle;
+        }
+        lock.lock();
+        try {
+            handle = find(id);
+            if (handle != NOT_FOUND) {
+                return handle;
+            }
+            handle = size;
+            if (handle == ids.length) {
+                ids = Arrays.copyOf(ids, ids.length * 2);
+            }
+            ids[handle] = id;
+            Table current = table;
+            // Fator de carga máximo de 0,75: sondagens ainda curtas e metade da memória de 0,5
+            if ((handle + 1) * 4L > current.keys().length() * 3L) {
+                current = grow(current);
+            }
+            current.insert(id, handle);
+            size = handle + 1;
+            return handle;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public String idOf(int handle) {
+        return handle >= 0 && handle < size ? ids[handle] : null;
+    }
+
+    // Handles válidos são 0 .. size() - 1
+    public int size() {
+        return size;
+    }
+
+    private Table grow(Table current) {
+        Table grown = Table.withCapacity(current.keys().length() * 2);
+        for (int i = 0; i < current.keys().length(); i++) {
+            String key = current.keys().getPlain(i);
+            if (key != null) {
+                grown.insert(key, current.handles()[i]);
+            }
+        }
+        table = grown;
+        return grown;
+    }
+
+    private static int spread(int hash) {
+        int h = hash * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+}
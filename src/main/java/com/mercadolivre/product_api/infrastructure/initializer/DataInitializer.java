@@ -7,14 +7,17 @@ import com.mercadolivre.product_api.infrastructure.repository.ProductImageReposi
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.CommandLineRunner;
+import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
 
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Slf4j
 @Component
+@Order(0)
 @RequiredArgsConstructor
 public class DataInitializer implements CommandLineRunner {
 
@@ -179,7 +182,7 @@ public class DataInitializer implements CommandLineRunner {
 
     private Product createProduct(String name, String description, BigDecimal price, Integer quantity, String category) {
         return Product.builder()
-                .id(UUID.randomUUID().toString())
+                .id(seedId("product:" + category + "/" + name))
                 .name(name)
                 .description(description)
                 .price(price)
@@ -193,7 +196,7 @@ public class DataInitializer implements CommandLineRunner {
 
     private void createImage(String productId, String url, String altText, Boolean isPrimary, Integer displayOrder) {
         ProductImage image = ProductImage.builder()
-                .id(UUID.randomUUID().toString())
+                .id(seedId("image:" + productId + "/" + displayOrder))
                 .productId(productId)
                 .url(url)
                 .altText(altText)
@@ -201,7 +204,11 @@ public class DataInitializer implements CommandLineRunner {
                 .displayOrder(displayOrder)
                 .build();
         
-        productImageRepository.findAll().add(image);
+        productImageRepository.save(image);
     }
 
+    // Id derivado do conteúdo: igual a cada boot, para que hot keys e snapshots gravados antes do restart continuem válidos
+    private static String seedId(String seed) {
+        return UUID.nameUUIDFromBytes(seed.getBytes(StandardCharsets.UTF_8)).toString();
+    }
 }
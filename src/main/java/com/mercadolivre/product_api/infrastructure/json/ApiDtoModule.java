@@ -0,0 +1,385 @@
+package com.mercadolivre.product_api.infrastructure.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.module.SimpleSerializers;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.mercadolivre.product_api.application.dto.CategoryDTO;
+import com.mercadolivre.product_api.application.dto.PageResponseDTO;
+import com.mercadolivre.product_api.application.dto.ProductImageDTO;
+import com.mercadolivre.product_api.application.dto.ProductResponseDTO;
+import com.mercadolivre.product_api.domain.dto.ApiResponse;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+/*
+ * Serializers escritos à mão para os DTOs que saem em toda resposta (ApiResponse, PageResponseDTO,
+ * produto, categoria e imagem), registrados no ObjectMapper do Spring como módulo. Cada um escreve
+ * as propriedades na mesma ordem e com os mesmos valores do BeanSerializer, mas sem introspecção nem
+ * BeanPropertyWriter por campo: nomes pré-codificados em SerializedString, números e datas escritos
+ * por JsonScalars. Funcionam com qualquer gerador Jackson (JSON, CBOR, Smile). Os DTOs de domínio
+ * projetáveis por ?fields= aceitam o conjunto de campos no construtor; FieldProjections registra
+ * essas versões nas cópias do mapper. Um campo novo num desses DTOs precisa entrar aqui também
+ * (ApiDtoModuleTest compara a saída com o BeanSerializer).
+ */
+@Component
+public class ApiDtoModule extends SimpleModule {
+
+    public static final String NAME = "ApiDtoModule";
+
+    public ApiDtoModule() {
+        super(NAME);
+        setSerializers(serializers(null));
+    }
+
+    // fields == null: todas as propriedades
+    static SimpleSerializers serializers(Set<String> fields) {
+        SimpleSerializers serializers = new SimpleSerializers();
+        serializers.addSerializer(ApiResponse.class, new ApiResponseSerializer());
+        serializers.addSerializer(PageResponseDTO.class, new PageSerializer());
+        serializers.addSerializer(ProductResponseDTO.class, new ProductSerializer(fields));
+        serializers.addSerializer(CategoryDTO.class, new CategorySerializer(fields));
+        serializers.addSerializer(ProductImageDTO.class, new ProductImageSerializer(fields));
+        return serializers;
+    }
+
+    private static boolean included(Set<String> fields, String name) {
+        return fields == null || fields.contains(name);
+    }
+
+    private static void writeString(JsonGenerator gen, SerializedString name, String value) throws IOException {
+        gen.writeFieldName(name);
+        gen.writeString(value);
+    }
+
+    private static void writeInteger(JsonGenerator gen, SerializedString name, Integer value) throws IOException {
+        gen.writeFieldName(name);
+        if (value == null) {
+            gen.writeNull();
+        } else {
+            gen.writeNumber(value.intValue());
+        }
+    }
+
+    private static void writeBoolean(JsonGenerator gen, SerializedString name, Boolean value) throws IOException {
+        gen.writeFieldName(name);
+        if (value == null) {
+            gen.writeNull();
+        } else {
+            gen.writeBoolean(value);
+        }
+    }
+
+    private static void writeDecimal(JsonGenerator gen, SerializedString name, BigDecimal value) throws IOException {
+        gen.writeFieldName(name);
+        if (value == null) {
+            gen.writeNull();
+        } else {
+            JsonScalars.writeDecimal(gen, value);
+        }
+    }
+
+    private static void writeDateTime(JsonGenerator gen, SerializerProvider provider, SerializedString name,
+                                      LocalDateTime value) throws IOException {
+        gen.writeFieldName(name);
+        if (value == null) {
+            gen.writeNull();
+        } else {
+            JsonScalars.writeDateTime(gen, provider, value);
+        }
+    }
+
+    // @JsonInclude(NON_NULL) do ApiResponse: só success sai sempre
+    @SuppressWarnings("rawtypes")
+    static final class ApiResponseSerializer extends StdSerializer<ApiResponse> {
+
+        private static final SerializedString SUCCESS = new SerializedString("success");
+        private static final SerializedString MESSAGE = new SerializedString("message");
+        private static final SerializedString DATA = new SerializedString("data");
+        private static final SerializedString TIMESTAMP = new SerializedString("timestamp");
+        private static final SerializedString ERROR = new SerializedString("error");
+        private static final SerializedString STATUS = new SerializedString("status");
+        private static final SerializedString PATH = new SerializedString("path");
+
+        ApiResponseSerializer() {
+            super(ApiResponse.class);
+        }
+
+        @Override
+        public void serialize(ApiResponse value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeStartObject(value);
+            gen.writeFieldName(SUCCESS);
+            gen.writeBoolean(value.isSuccess());
+            if (value.getMessage() != null) {
+                writeString(gen, MESSAGE, value.getMessage());
+            }
+            if (value.getData() != null) {
+                gen.writeFieldName(DATA);
+                provider.defaultSerializeValue(value.getData(), gen);
+            }
+            if (value.getTimestamp() != null) {
+                writeDateTime(gen, provider, TIMESTAMP, value.getTimestamp());
+            }
+            if (value.getError() != null) {
+                writeString(gen, ERROR, value.getError());
+            }
+            if (value.getStatus() != null) {
+                writeInteger(gen, STATUS, value.getStatus());
+            }
+            if (value.getPath() != null) {
+                writeString(gen, PATH, value.getPath());
+            }
+            gen.writeEndObject();
+        }
+    }
+
+    @SuppressWarnings("rawtypes")
+    static final class PageSerializer extends StdSerializer<PageResponseDTO> {
+
+        private static final SerializedString CONTENT = new SerializedString("content");
+        private static final SerializedString PAGE_NUMBER = new SerializedString("pageNumber");
+        private static final SerializedString PAGE_SIZE = new SerializedString("pageSize");
+        private static final SerializedString TOTAL_ELEMENTS = new SerializedString("totalElements");
+        private static final SerializedString TOTAL_PAGES = new SerializedString("totalPages");
+        private static final SerializedString FIRST = new SerializedString("first");
+        private static final SerializedString LAST = new SerializedString("last");
+        private static final SerializedString EMPTY = new SerializedString("empty");
+
+        PageSerializer() {
+            super(PageResponseDTO.class);
+        }
+
+        @Override
+        public void serialize(PageResponseDTO value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeStartObject(value);
+            gen.writeFieldName(CONTENT);
+            writeContent(value.getContent(), gen, provider);
+            gen.writeFieldName(PAGE_NUMBER);
+            gen.writeNumber(value.getPageNumber());
+            gen.writeFieldName(PAGE_SIZE);
+            gen.writeNumber(value.getPageSize());
+            gen.writeFieldName(TOTAL_ELEMENTS);
+            gen.writeNumber(value.getTotalElements());
+            gen.writeFieldName(TOTAL_PAGES);
+            gen.writeNumber(value.getTotalPages());
+            gen.writeFieldName(FIRST);
+            gen.writeBoolean(value.isFirst());
+            gen.writeFieldName(LAST);
+            gen.writeBoolean(value.isLast());
+            gen.writeFieldName(EMPTY);
+            gen.writeBoolean(value.isEmpty());
+            gen.writeEndObject();
+        }
+
+        // Páginas são homogêneas: o serializer só é procurado de novo quando a classe do item muda
+        private static void writeContent(List<?> content, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            if (content == null) {
+                gen.writeNull();
+                return;
+            }
+            gen.writeStartArray(content, content.size());
+            Class<?> lastType = null;
+            JsonSerializer<Object> serializer = null;
+            for (Object item : content) {
+                if (item == null) {
+                    gen.writeNull();
+                    continue;
+                }
+                if (item.getClass() != lastType) {
+                    lastType = item.getClass();
+                    serializer = provider.findTypedValueSerializer(lastType, true, null);
+                }
+                serializer.serialize(item, gen, provider);
+            }
+            gen.writeEndArray();
+        }
+    }
+
+    static final class ProductSerializer extends StdSerializer<ProductResponseDTO> {
+
+        private static final SerializedString ID = new SerializedString("id");
+        private static final SerializedString NAME = new SerializedString("name");
+        private static final SerializedString DESCRIPTION = new SerializedString("description");
+        private static final SerializedString PRICE = new SerializedString("price");
+        private static final SerializedString QUANTITY = new SerializedString("quantity");
+        private static final SerializedString CATEGORY = new SerializedString("category");
+        private static final SerializedString CATEGORY_NAME = new SerializedString("categoryName");
+        private static final SerializedString ACTIVE = new SerializedString("active");
+        private static final SerializedString CREATED_AT = new SerializedString("createdAt");
+        private static final SerializedString UPDATED_AT = new SerializedString("updatedAt");
+        private static final SerializedString PRIMARY_IMAGE = new SerializedString("primaryImage");
+        // A imagem embutida sai completa mesmo com ?fields=, que seleciona só propriedades do produto
+        private static final ProductImageSerializer FULL_IMAGE = new ProductImageSerializer(null);
+
+        private final boolean id;
+        private final boolean name;
+        private final boolean description;
+        private final boolean price;
+        private final boolean quantity;
+        private final boolean category;
+        private final boolean categoryName;
+        private final boolean active;
+        private final boolean createdAt;
+        private final boolean updatedAt;
+        private final boolean primaryImage;
+
+        ProductSerializer(Set<String> fields) {
+            super(ProductResponseDTO.class);
+            this.id = included(fields, "id");
+            this.name = included(fields, "name");
+            this.description = included(fields, "description");
+            this.price = included(fields, "price");
+            this.quantity = included(fields, "quantity");
+            this.category = included(fields, "category");
+            this.categoryName = included(fields, "categoryName");
+            this.active = included(fields, "active");
+            this.createdAt = included(fields, "createdAt");
+            this.updatedAt = included(fields, "updatedAt");
+            this.primaryImage = included(fields, "primaryImage");
+        }
+
+        @Override
+        public void serialize(ProductResponseDTO value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeStartObject(value);
+            if (id) {
+                writeString(gen, ID, value.getId());
+            }
+            if (name) {
+                writeString(gen, NAME, value.getName());
+            }
+            if (description) {
+                writeString(gen, DESCRIPTION, value.getDescription());
+            }
+            if (price) {
+                writeDecimal(gen, PRICE, value.getPrice());
+            }
+            if (quantity) {
+                writeInteger(gen, QUANTITY, value.getQuantity());
+            }
+            if (category) {
+                writeString(gen, CATEGORY, value.getCategory());
+            }
+            if (categoryName && value.getCategoryName() != null) {
+                writeString(gen, CATEGORY_NAME, value.getCategoryName());
+            }
+            if (active) {
+                writeBoolean(gen, ACTIVE, value.getActive());
+            }
+            if (createdAt) {
+                writeDateTime(gen, provider, CREATED_AT, value.getCreatedAt());
+            }
+            if (updatedAt) {
+                writeDateTime(gen, provider, UPDATED_AT, value.getUpdatedAt());
+            }
+            if (primaryImage && value.getPrimaryImage() != null) {
+                gen.writeFieldName(PRIMARY_IMAGE);
+                FULL_IMAGE.serialize(value.getPrimaryImage(), gen, provider);
+            }
+            gen.writeEndObject();
+        }
+    }
+
+    static final class CategorySerializer extends StdSerializer<CategoryDTO> {
+
+        private static final SerializedString ID = new SerializedString("id");
+        private static final SerializedString NAME = new SerializedString("name");
+        private static final SerializedString DESCRIPTION = new SerializedString("description");
+        private static final SerializedString SLUG = new SerializedString("slug");
+        private static final SerializedString PRODUCT_COUNT = new SerializedString("productCount");
+
+        private final boolean id;
+        private final boolean name;
+        private final boolean description;
+        private final boolean slug;
+        private final boolean productCount;
+
+        CategorySerializer(Set<String> fields) {
+            super(CategoryDTO.class);
+            this.id = included(fields, "id");
+            this.name = included(fields, "name");
+            this.description = included(fields, "description");
+            this.slug = included(fields, "slug");
+            this.productCount = included(fields, "productCount");
+        }
+
+        @Override
+        public void serialize(CategoryDTO value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeStartObject(value);
+            if (id) {
+                writeString(gen, ID, value.getId());
+            }
+            if (name) {
+                writeString(gen, NAME, value.getName());
+            }
+            if (description) {
+                writeString(gen, DESCRIPTION, value.getDescription());
+            }
+            if (slug) {
+                writeString(gen, SLUG, value.getSlug());
+            }
+            if (productCount) {
+                writeInteger(gen, PRODUCT_COUNT, value.getProductCount());
+            }
+            gen.writeEndObject();
+        }
+    }
+
+    static final class ProductImageSerializer extends StdSerializer<ProductImageDTO> {
+
+        private static final SerializedString ID = new SerializedString("id");
+        private static final SerializedString PRODUCT_ID = new SerializedString("productId");
+        private static final SerializedString URL = new SerializedString("url");
+        private static final SerializedString ALT_TEXT = new SerializedString("altText");
+        private static final SerializedString IS_PRIMARY = new SerializedString("isPrimary");
+        private static final SerializedString DISPLAY_ORDER = new SerializedString("displayOrder");
+
+        private final boolean id;
+        private final boolean productId;
+        private final boolean url;
+        private final boolean altText;
+        private final boolean isPrimary;
+        private final boolean displayOrder;
+
+        ProductImageSerializer(Set<String> fields) {
+            super(ProductImageDTO.class);
+            this.id = included(fields, "id");
+            this.productId = included(fields, "productId");
+            this.url = included(fields, "url");
+            this.altText = included(fields, "altText");
+            this.isPrimary = included(fields, "isPrimary");
+            this.displayOrder = included(fields, "displayOrder");
+        }
+
+        @Override
+        public void serialize(ProductImageDTO value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeStartObject(value);
+            if (id) {
+                writeString(gen, ID, value.getId());
+            }
+            if (productId) {
+                writeString(gen, PRODUCT_ID, value.getProductId());
+            }
+            if (url) {
+                writeString(gen, URL, value.getUrl());
+            }
+            if (altText) {
+                writeString(gen, ALT_TEXT, value.getAltText());
+            }
+            if (isPrimary) {
+                writeBoolean(gen, IS_PRIMARY, value.getIsPrimary());
+            }
+            if (displayOrder) {
+                writeInteger(gen, DISPLAY_ORDER, value.getDisplayOrder());
+            }
+            gen.writeEndObject();
+        }
+    }
+}
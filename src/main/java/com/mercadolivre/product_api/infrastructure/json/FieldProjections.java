@@ -0,0 +1,162 @@
+package com.mercadolivre.product_api.infrastructure.json;
+
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;
+import com.fasterxml.jackson.databind.ser.BeanPropertyWriter;
+import com.fasterxml.jackson.databind.ser.BeanSerializerModifier;
+import com.fasterxml.jackson.databind.ser.SerializerFactory;
+import com.mercadolivre.product_api.application.dto.CategoryDTO;
+import com.mercadolivre.product_api.application.dto.ProductImageDTO;
+import com.mercadolivre.product_api.application.dto.ProductResponseDTO;
+import com.mercadolivre.product_api.application.dto.TrendingProductDTO;
+import com.mercadolivre.product_api.infrastructure.cache.CacheEntryRef;
+import com.mercadolivre.product_api.infrastructure.cache.local.EntryWeigher;
+import com.mercadolivre.product_api.infrastructure.cache.local.TinyLfuStore;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/*
+ * Suporte a ?fields=id,name,price nos DTOs de produto, categoria e imagem, para qualquer formato
+ * Jackson (JSON, CBOR, Smile). Cada conjunto de campos (normalizado: só nomes conhecidos, ordenados)
+ * ganha uma cópia do ObjectMapper base cujo BeanSerializer dos DTOs já nasce só com as propriedades
+ * pedidas, então a requisição só escolhe o serializer pronto: nada de Map intermediário nem filtro
+ * avaliado campo a campo. O id sempre sai, para o cliente conseguir correlacionar os itens. Envelopes
+ * (ApiResponse, PageResponseDTO) não são afetados. Os mappers ficam num TinyLfuStore próprio com
+ * orçamento de maxFieldSets mappers: combinações pedidas uma vez (clientes gerando campos
+ * arbitrários) morrem na admissão, e um conjunto que fica popular entra no lugar do menos usado.
+ * Os três conversores só chamam install no mapper e customizeWriter: a instância viaja nos atributos
+ * da SerializationConfig do mapper, e todo writer derivado dele a carrega.
+ */
+class FieldProjections {
+
+    static final String FIELDS_PARAMETER = "fields";
+    static final String ALWAYS_INCLUDED = "id";
+    static final int DEFAULT_MAX_FIELD_SETS = 64;
+    static final String CACHE_NAME = "field-projections";
+    private static final Object CONFIG_ATTRIBUTE = FieldProjections.class;
+    // Peso estimado de um mapper projetado mais nó e chave no store
+    private static final long FIELD_SET_WEIGHT = EntryWeigher.OBJECT_MAPPER + 512;
+
+    private static final Set<Class<?>> PROJECTABLE = Set.of(
+            ProductResponseDTO.class, CategoryDTO.class, ProductImageDTO.class, TrendingProductDTO.class);
+
+    private final ObjectMapper baseMapper;
+    private final Set<String> knownFields;
+    private final TinyLfuStore mappersByFieldSet;
+    private final boolean handWritten;
+
+    FieldProjections(ObjectMapper baseMapper, int maxFieldSets) {
+        this.baseMapper = baseMapper;
+        this.mappersByFieldSet = new TinyLfuStore(maxFieldSets * FIELD_SET_WEIGHT);
+        this.handWritten = baseMapper.getRegisteredModuleIds().contains(ApiDtoModule.NAME);
+        SerializationConfig config = baseMapper.getSerializationConfig();
+        this.knownFields = PROJECTABLE.stream()
+                .flatMap(type -> config.introspect(config.constructType(type)).findProperties().stream())
+                .map(BeanPropertyDefinition::getName)
+                .collect(Collectors.toUnmodifiableSet());
+    }
+
+    // Liga ao mapper do conversor um FieldProjections próprio, com orçamento de maxFieldSets mappers
+    static ObjectMapper install(ObjectMapper mapper, int maxFieldSets) {
+        FieldProjections projections = new FieldProjections(mapper, maxFieldSets);
+        mapper.setConfig(mapper.getSerializationConfig().withAttribute(CONFIG_ATTRIBUTE, projections));
+        return mapper;
+    }
+
+    // null quando install não foi chamado para este mapper
+    static FieldProjections of(ObjectMapper mapper) {
+        return (FieldProjections) mapper.getSerializationConfig().getAttributes().getAttribute(CONFIG_ATTRIBUTE);
+    }
+
+    // customizeWriter dos conversores: writer projetado quando a requisição corrente pede campos válidos,
+    // senão o próprio writer recebido
+    static ObjectWriter customizeWriter(ObjectWriter writer, JavaType javaType) {
+        if (writer.getConfig().getAttributes().getAttribute(CONFIG_ATTRIBUTE) instanceof FieldProjections projections) {
+            return projections.customize(writer, javaType);
+        }
+        return writer;
+    }
+
+    private ObjectWriter customize(ObjectWriter writer, JavaType javaType) {
+        String fieldSet = canonicalFieldSet(requestedFields());
+        if (fieldSet == null) {
+            return writer;
+        }
+        return mapperFor(fieldSet).writerFor(javaType);
+    }
+
+    // null quando não há projeção válida: resposta completa
+    String canonicalFieldSet(String requested) {
+        if (requested == null || requested.isBlank()) {
+            return null;
+        }
+        Set<String> fields = Stream.of(requested.split(","))
+                .map(String::trim)
+                .filter(knownFields::contains)
+                .collect(Collectors.toCollection(TreeSet::new));
+        if (fields.isEmpty()) {
+            return null;
+        }
+        fields.add(ALWAYS_INCLUDED);
+        return String.join(",", fields);
+    }
+
+    ObjectMapper mapperFor(String fieldSet) {
+        CacheEntryRef key = new CacheEntryRef(CACHE_NAME, fieldSet);
+        if (mappersByFieldSet.get(key) instanceof ObjectMapper mapper) {
+            return mapper;
+        }
+        ObjectMapper mapper = projectingMapper(Set.of(fieldSet.split(",")));
+        // A admissão do W-TinyLFU decide se a cópia fica; sem espaço ela só atende esta requisição
+        return mappersByFieldSet.putIfAbsent(key, mapper, 0) instanceof ObjectMapper existing ? existing : mapper;
+    }
+
+    int cachedFieldSets() {
+        return (int) mappersByFieldSet.usage(CACHE_NAME).entries();
+    }
+
+    private ObjectMapper projectingMapper(Set<String> fields) {
+        ObjectMapper mapper = baseMapper.copy();
+        BeanSerializerModifier projection = new BeanSerializerModifier() {
+            @Override
+            public List<BeanPropertyWriter> changeProperties(SerializationConfig config, BeanDescription beanDesc,
+                                                             List<BeanPropertyWriter> beanProperties) {
+                if (!PROJECTABLE.contains(beanDesc.getBeanClass())) {
+                    return beanProperties;
+                }
+                return beanProperties.stream()
+                        .filter(property -> fields.contains(property.getName()))
+                        .toList();
+            }
+        };
+        // Parte da fábrica do mapper copiado, que já traz os serializers dos módulos (java.time etc.)
+        SerializerFactory factory = mapper.getSerializerFactory().withSerializerModifier(projection);
+        // Os serializers do ApiDtoModule não passam pelo modifier: entram versões já projetadas, na frente
+        if (handWritten) {
+            factory = factory.withAdditionalSerializers(ApiDtoModule.serializers(fields));
+        }
+        mapper.setSerializerFactory(factory);
+        return mapper;
+    }
+
+    private static String requestedFields() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes instanceof ServletRequestAttributes servletAttributes) {
+            HttpServletRequest request = servletAttributes.getRequest();
+            return request.getParameter(FIELDS_PARAMETER);
+        }
+        return null;
+    }
+}
@@ -0,0 +1,94 @@
+package com.mercadolivre.product_api.infrastructure.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.StreamWriteFeature;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.SerializerProvider;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/*
+ * Escrita de BigDecimal e LocalDateTime direto em char[] para o gerador, sem passar por
+ * BigDecimal.toString() nem DateTimeFormatter. A saída é idêntica à do Jackson padrão
+ * (toString() do BigDecimal, ISO_LOCAL_DATE_TIME do JavaTimeModule); fora do caso comum (escala
+ * negativa, valor fora de long, ano fora de 0..9999, datas como timestamp) delega ao Jackson.
+ */
+final class JsonScalars {
+
+    private static final int MAX_DECIMAL_CHARS = 40;
+    private static final int MAX_DATE_TIME_CHARS = 29;
+
+    private JsonScalars() {
+    }
+
+    static void writeDecimal(JsonGenerator gen, BigDecimal value) throws IOException {
+        int scale = value.scale();
+        // Formatos binários têm representação nativa; writeNumber(char[]) só é cru em JSON
+        if (!gen.canWriteFormattedNumbers() || gen.isEnabled(StreamWriteFeature.WRITE_BIGDECIMAL_AS_PLAIN)
+                || scale < 0 || scale > 18 || value.precision() > 18 || value.precision() - 1 - scale < -6) {
+            gen.writeNumber(value);
+            return;
+        }
+        long unscaled = value.unscaledValue().longValue();
+        char[] buffer = new char[MAX_DECIMAL_CHARS];
+        int end = buffer.length;
+        boolean negative = unscaled < 0;
+        long remaining = Math.abs(unscaled);
+        int digits = 0;
+        do {
+            buffer[--end] = (char) ('0' + remaining % 10);
+            remaining /= 10;
+            if (++digits == scale) {
+                buffer[--end] = '.';
+            }
+        } while (remaining > 0 || digits < scale);
+        if (scale > 0 && buffer[end] == '.') {
+            buffer[--end] = '0';
+        }
+        if (negative) {
+            buffer[--end] = '-';
+        }
+        gen.writeNumber(buffer, end, buffer.length - end);
+    }
+
+    static void writeDateTime(JsonGenerator gen, SerializerProvider provider, LocalDateTime value) throws IOException {
+        int year = value.getYear();
+        if (year < 0 || year > 9999 || provider.isEnabled(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)) {
+            provider.defaultSerializeValue(value, gen);
+            return;
+        }
+        char[] buffer = new char[MAX_DATE_TIME_CHARS];
+        putDigits(buffer, 0, year, 4);
+        buffer[4] = '-';
+        putDigits(buffer, 5, value.getMonthValue(), 2);
+        buffer[7] = '-';
+        putDigits(buffer, 8, value.getDayOfMonth(), 2);
+        buffer[10] = 'T';
+        putDigits(buffer, 11, value.getHour(), 2);
+        buffer[13] = ':';
+        putDigits(buffer, 14, value.getMinute(), 2);
+        buffer[16] = ':';
+        putDigits(buffer, 17, value.getSecond(), 2);
+        int length = 19;
+        int nano = value.getNano();
+        if (nano > 0) {
+            // Fração com os zeros à direita removidos, como o appendFraction(NANO_OF_SECOND, 0, 9, true)
+            buffer[length++] = '.';
+            putDigits(buffer, length, nano, 9);
+            length += 9;
+            while (buffer[length - 1] == '0') {
+                length--;
+            }
+        }
+        gen.writeString(buffer, 0, length);
+    }
+
+    private static void putDigits(char[] buffer, int offset, int value, int width) {
+        for (int i = offset + width - 1; i >= offset; i--) {
+            buffer[i] = (char) ('0' + value % 10);
+            value /= 10;
+        }
+    }
+}
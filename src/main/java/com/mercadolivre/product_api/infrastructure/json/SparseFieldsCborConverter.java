@@ -0,0 +1,26 @@
+package com.mercadolivre.product_api.infrastructure.json;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.stereotype.Component;
+
+// Accept: application/cbor, com a mesma configuração Jackson (spring.jackson.*) e os mesmos DTOs do JSON
+@Component
+public class SparseFieldsCborConverter extends MappingJackson2CborHttpMessageConverter {
+
+    @Autowired
+    public SparseFieldsCborConverter(Jackson2ObjectMapperBuilder builder) {
+        super(FieldProjections.install(builder.createXmlMapper(false).factory(new CBORFactory()).build(),
+                FieldProjections.DEFAULT_MAX_FIELD_SETS));
+    }
+
+    @Override
+    protected ObjectWriter customizeWriter(ObjectWriter writer, JavaType javaType, MediaType contentType) {
+        return FieldProjections.customizeWriter(writer, javaType);
+    }
+}
@@ -0,0 +1,32 @@
+package com.mercadolivre.product_api.infrastructure.json;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.stereotype.Component;
+
+// Conversor JSON padrão da aplicação, com ?fields= aplicado por FieldProjections
+@Component
+public class SparseFieldsJsonConverter extends MappingJackson2HttpMessageConverter {
+
+    @Autowired
+    public SparseFieldsJsonConverter(ObjectMapper objectMapper) {
+        this(objectMapper, FieldProjections.DEFAULT_MAX_FIELD_SETS);
+    }
+
+    SparseFieldsJsonConverter(ObjectMapper objectMapper, int maxFieldSets) {
+        super(FieldProjections.install(objectMapper, maxFieldSets));
+    }
+
+    @Override
+    protected ObjectWriter customizeWriter(ObjectWriter writer, JavaType javaType, MediaType contentType) {
+        return FieldProjections.customizeWriter(writer, javaType);
+    }
+
+    FieldProjections projections() {
+        return FieldProjections.of(getObjectMapper());
+    }
+}
@@ -0,0 +1,186 @@
+package com.mercadolivre.product_api.infrastructure.monitoring;
+
+import com.mercadolivre.product_api.domain.event.ProductViewedEvent;
+import com.mercadolivre.product_api.infrastructure.event.ProductViewHandler;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+import java.util.function.ToLongFunction;
+
+/*
+ * Total de visualizações somando todas as réplicas. Cada nó acumula deltas em memória (nenhuma
+ * chamada de rede por visualização) e os envia em lote ao ViewCountStore a cada flush-interval.
+ * A leitura soma o total do store, guardado por até max-staleness, com o que este nó ainda não
+ * enviou: o próprio nó nunca vê menos do que contou, e as outras réplicas aparecem com atraso de
+ * no máximo flush-interval + max-staleness.
+ */
+@Slf4j
+@Component
+public class ClusterViewCounter implements ProductViewHandler {
+
+    private record StoredCount(long value, long fetchedAtMillis) {
+    }
+
+    private record Deltas(Map<String, Long> products, Map<String, Long> categories) {
+        static final Deltas EMPTY = new Deltas(Map.of(), Map.of());
+    }
+
+    private final ViewCountStore store;
+    private final long maxStalenessMillis;
+    private final LongSupplier clock;
+
+    private final Map<String, Long> pendingProducts = new ConcurrentHashMap<>();
+    private final Map<String, Long> pendingCategories = new ConcurrentHashMap<>();
+    // Deltas já retirados do pendente mas ainda não confirmados pelo store
+    private volatile Deltas inFlight = Deltas.EMPTY;
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    private final Map<String, StoredCount> storedProducts = new ConcurrentHashMap<>();
+    private final Map<String, StoredCount> storedCategories = new ConcurrentHashMap<>();
+
+    private final Timer flushTimer;
+    private final Counter flushFailures;
+
+    @Autowired
+    public ClusterViewCounter(ViewCountStore store,
+                              MeterRegistry meterRegistry,
+                              @Value("${product-api.view-counts.max-staleness-ms:2000}") long maxStalenessMillis) {
+        this(store, meterRegistry, maxStalenessMillis, System::currentTimeMillis);
+    }
+
+    ClusterViewCounter(ViewCountStore store, MeterRegistry meterRegistry, long maxStalenessMillis, LongSupplier clock) {
+        this.store = store;
+        this.maxStalenessMillis = maxStalenessMillis;
+        this.clock = clock;
+        this.flushTimer = Timer.builder("product.view.counts.flush")
+                .description("Time spent sending batched view-count deltas to the shared store")
+                .register(meterRegistry);
+        this.flushFailures = Counter.builder("product.view.counts.flush.failures")
+                .description("Flushes that failed and were re-queued for the next interval")
+                .register(meterRegistry);
+        Gauge.builder("product.view.counts.pending", this, counter -> counter.pendingProducts.size())
+                .description("Products with view deltas not yet sent to the shared store")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void handleBatch(List<ProductViewedEvent> events) {
+        Map<String, Long> products = new HashMap<>();
+        Map<String, Long> categories = new HashMap<>();
+        for (ProductViewedEvent event : events) {
+            products.merge(event.getProductId(), 1L, Long::sum);
+            if (event.getCategory() != null) {
+                categories.merge(event.getCategory(), 1L, Long::sum);
+            }
+        }
+        products.forEach((id, views) -> pendingProducts.merge(id, views, Long::sum));
+        categories.forEach((category, views) -> pendingCategories.merge(category, views, Long::sum));
+    }
+
+    @Override
+    public void handleCoalescedViews(ProductViewedEvent event, int views) {
+        pendingProducts.merge(event.getProductId(), (long) views, Long::sum);
+        if (event.getCategory() != null) {
+            pendingCategories.merge(event.getCategory(), (long) views, Long::sum);
+        }
+    }
+
+    public long productViews(String productId) {
+        return stored(storedProducts, productId, store::productViews)
+                + pendingProducts.getOrDefault(productId, 0L)
+                + inFlight.products().getOrDefault(productId, 0L);
+    }
+
+    public long categoryViews(String category) {
+        return stored(storedCategories, category, store::categoryViews)
+                + pendingCategories.getOrDefault(category, 0L)
+                + inFlight.categories().getOrDefault(category, 0L);
+    }
+
+    @Scheduled(fixedDelayString = "${product-api.view-counts.flush-interval-ms:1000}")
+    public void flush() {
+        if (!flushLock.tryLock()) {
+            return;
+        }
+        try {
+            Deltas deltas = new Deltas(drain(pendingProducts), drain(pendingCategories));
+            if (!deltas.products().isEmpty() || !deltas.categories().isEmpty()) {
+                inFlight = deltas;
+                send(deltas);
+            }
+            evictStale(storedProducts);
+            evictStale(storedCategories);
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    private void send(Deltas deltas) {
+        try {
+            flushTimer.record(() -> store.increment(deltas.products(), deltas.categories()));
+            // Totais lidos antes do envio não incluem estes deltas; descarta-os para não contar duas vezes
+            storedProducts.keySet().removeAll(deltas.products().keySet());
+            storedCategories.keySet().removeAll(deltas.categories().keySet());
+        } catch (RuntimeException e) {
+            flushFailures.increment();
+            deltas.products().forEach((id, views) -> pendingProducts.merge(id, views, Long::sum));
+            deltas.categories().forEach((category, views) -> pendingCategories.merge(category, views, Long::sum));
+            log.warn("Could not flush view counts for {} products, will retry: {}",
+                    deltas.products().size(), e.getMessage());
+        } finally {
+            inFlight = Deltas.EMPTY;
+        }
+    }
+
+    private long stored(Map<String, StoredCount> cache, String key, ToLongFunction<String> loader) {
+        long now = clock.getAsLong();
+        StoredCount cached = cache.get(key);
+        if (cached != null && now - cached.fetchedAtMillis() < maxStalenessMillis) {
+            return cached.value();
+        }
+        try {
+            long value = loader.applyAsLong(key);
+            cache.put(key, new StoredCount(value, now));
+            return value;
+        } catch (RuntimeException e) {
+            log.debug("Could not read view count for {}, using last known value: {}", key, e.getMessage());
+            return cached != null ? cached.value() : 0L;
+        }
+    }
+
+    private void evictStale(Map<String, StoredCount> cache) {
+        long cutoff = clock.getAsLong() - maxStalenessMillis;
+        cache.values().removeIf(count -> count.fetchedAtMillis() < cutoff);
+    }
+
+    // remove(key) é atômico com o merge dos produtores: cada incremento entra neste lote ou no próximo
+    private static Map<String, Long> drain(Map<String, Long> pending) {
+        Map<String, Long> drained = new HashMap<>();
+        for (String key : pending.keySet()) {
+            Long views = pending.remove(key);
+            if (views != null) {
+                drained.put(key, views);
+            }
+        }
+        return drained;
+    }
+}
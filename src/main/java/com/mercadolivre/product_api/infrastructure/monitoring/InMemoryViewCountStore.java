@@ -0,0 +1,35 @@
+package com.mercadolivre.product_api.infrastructure.monitoring;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+// Totais no próprio nó: usado sem Redis (execução local) e como substituto nos testes
+@Component
+@ConditionalOnProperty(name = "product-api.view-counts.store", havingValue = "memory", matchIfMissing = true)
+public class InMemoryViewCountStore implements ViewCountStore {
+
+    private final Map<String, LongAdder> products = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> categories = new ConcurrentHashMap<>();
+
+    @Override
+    public void increment(Map<String, Long> productDeltas, Map<String, Long> categoryDeltas) {
+        productDeltas.forEach((id, delta) -> products.computeIfAbsent(id, k -> new LongAdder()).add(delta));
+        categoryDeltas.forEach((category, delta) -> categories.computeIfAbsent(category, k -> new LongAdder()).add(delta));
+    }
+
+    @Override
+    public long productViews(String productId) {
+        LongAdder adder = products.get(productId);
+        return adder != null ? adder.sum() : 0L;
+    }
+
+    @Override
+    public long categoryViews(String category) {
+        LongAdder adder = categories.get(category);
+        return adder != null ? adder.sum() : 0L;
+    }
+}
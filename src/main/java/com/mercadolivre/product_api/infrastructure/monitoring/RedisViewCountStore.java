@@ -0,0 +1,64 @@
+package com.mercadolivre.product_api.infrastructure.monitoring;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.RedisHashCommands;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+/*
+ * Totais globais em dois hashes do Redis (campo = id do produto ou categoria).
+ * Cada flush envia todos os deltas do nó em um único pipeline de HINCRBY: uma ida e volta
+ * por intervalo de flush, independente do número de visualizações.
+ */
+@Component
+@ConditionalOnProperty(name = "product-api.view-counts.store", havingValue = "redis")
+public class RedisViewCountStore implements ViewCountStore {
+
+    static final String PRODUCTS_KEY = "product-api:views:products";
+    static final String CATEGORIES_KEY = "product-api:views:categories";
+
+    private static final byte[] PRODUCTS_KEY_BYTES = PRODUCTS_KEY.getBytes(StandardCharsets.UTF_8);
+    private static final byte[] CATEGORIES_KEY_BYTES = CATEGORIES_KEY.getBytes(StandardCharsets.UTF_8);
+
+    private final StringRedisTemplate redisTemplate;
+
+    public RedisViewCountStore(StringRedisTemplate redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    @Override
+    public void increment(Map<String, Long> productDeltas, Map<String, Long> categoryDeltas) {
+        if (productDeltas.isEmpty() && categoryDeltas.isEmpty()) {
+            return;
+        }
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            RedisHashCommands hashes = connection.hashCommands();
+            productDeltas.forEach((id, delta) -> hashes.hIncrBy(PRODUCTS_KEY_BYTES, bytes(id), delta));
+            categoryDeltas.forEach((category, delta) -> hashes.hIncrBy(CATEGORIES_KEY_BYTES, bytes(category), delta));
+            return null;
+        });
+    }
+
+    @Override
+    public long productViews(String productId) {
+        return read(PRODUCTS_KEY, productId);
+    }
+
+    @Override
+    public long categoryViews(String category) {
+        return read(CATEGORIES_KEY, category);
+    }
+
+    private long read(String key, String field) {
+        Object value = redisTemplate.opsForHash().get(key, field);
+        return value != null ? Long.parseLong(value.toString()) : 0L;
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
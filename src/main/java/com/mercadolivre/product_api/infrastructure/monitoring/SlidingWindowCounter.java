@@ -0,0 +1,106 @@
+package com.mercadolivre.product_api.infrastructure.monitoring;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/*
+ * Contador de janelas deslizantes (1m, 5m, 1h, 24h). Cada janela é um anel de buckets com LongAdder:
+ * o incremento só toca o bucket do período atual e buckets antigos são descartados pelo carimbo de
+ * época, sem varredura. A leitura soma um número fixo de buckets; a janela avança em passos de um bucket.
+ */
+public class SlidingWindowCounter {
+
+    public enum Window {
+        ONE_MINUTE("1m", 5_000, 12),
+        FIVE_MINUTES("5m", 30_000, 10),
+        ONE_HOUR("1h", 300_000, 12),
+        ONE_DAY("24h", 3_600_000, 24);
+
+        private final String label;
+        private final long bucketMillis;
+        private final int buckets;
+
+        Window(String label, long bucketMillis, int buckets) {
+            this.label = label;
+            this.bucketMillis = bucketMillis;
+            this.buckets = buckets;
+        }
+
+        public String label() {
+            return label;
+        }
+    }
+
+    private static final Window[] WINDOWS = Window.values();
+
+    private record Bucket(long epoch, LongAdder count) {
+    }
+
+    private final LongSupplier clock;
+    private final AtomicReferenceArray<Bucket>[] rings;
+    private volatile long lastUpdateMillis;
+
+    public SlidingWindowCounter() {
+        this(System::currentTimeMillis);
+    }
+
+    @SuppressWarnings("unchecked")
+    public SlidingWindowCounter(LongSupplier clock) {
+        this.clock = clock;
+        this.rings = new AtomicReferenceArray[WINDOWS.length];
+        for (Window window : WINDOWS) {
+            rings[window.ordinal()] = new AtomicReferenceArray<>(window.buckets);
+        }
+    }
+
+    public void add(long count) {
+        long now = clock.getAsLong();
+        for (Window window : WINDOWS) {
+            currentBucket(rings[window.ordinal()], window, now / window.bucketMillis).count.add(count);
+        }
+        lastUpdateMillis = now;
+    }
+
+    public long sum(Window window) {
+        long currentEpoch = clock.getAsLong() / window.bucketMillis;
+        AtomicReferenceArray<Bucket> ring = rings[window.ordinal()];
+        long total = 0;
+        for (int i = 0; i < window.buckets; i++) {
+            Bucket bucket = ring.get(i);
+            if (bucket != null && currentEpoch - bucket.epoch < window.buckets) {
+                total += bucket.count.sum();
+            }
+        }
+        return total;
+    }
+
+    public Map<String, Long> snapshot() {
+        Map<String, Long> sums = new LinkedHashMap<>();
+        for (Window window : WINDOWS) {
+            sums.put(window.label, sum(window));
+        }
+        return sums;
+    }
+
+    public long lastUpdateMillis() {
+        return lastUpdateMillis;
+    }
+
+    private static Bucket currentBucket(AtomicReferenceArray<Bucket> ring, Window window, long epoch) {
+        int index = (int) (epoch % window.buckets);
+        while (true) {
+            Bucket bucket = ring.get(index);
+            if (bucket != null && bucket.epoch >= epoch) {
+                return bucket;
+            }
+            // Bucket de uma volta anterior do anel: substitui por um novo em vez de zerar (sem perder incrementos)
+            Bucket fresh = new Bucket(epoch, new LongAdder());
+            if (ring.compareAndSet(index, bucket, fresh)) {
+                return fresh;
+            }
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.mercadolivre.product_api.infrastructure.monitoring;
+
+import com.mercadolivre.product_api.infrastructure.sketch.HyperLogLog;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/*
+ * Visitantes únicos de uma chave (produto ou categoria): um HyperLogLog acumulado desde o início e um
+ * anel de 24 HyperLogLogs horários, alocados só nas horas com visualização. Janelas são a união
+ * dos buckets horários mais recentes, então avançam de hora em hora.
+ */
+public class UniqueViewerCounter {
+
+    public static final int PRECISION = 11;
+    private static final long BUCKET_MILLIS = TimeUnit.HOURS.toMillis(1);
+    private static final int BUCKETS = 24;
+
+    private final LongSupplier clock;
+    private final HyperLogLog total = new HyperLogLog(PRECISION);
+    private final HyperLogLog[] hourly = new HyperLogLog[BUCKETS];
+    private final long[] hourlyEpochs = new long[BUCKETS];
+    private long lastUpdateMillis;
+
+    public UniqueViewerCounter() {
+        this(System::currentTimeMillis);
+    }
+
+    public UniqueViewerCounter(LongSupplier clock) {
+        this.clock = clock;
+    }
+
+    public synchronized void add(String visitorId) {
+        long now = clock.getAsLong();
+        long epoch = now / BUCKET_MILLIS;
+        int index = (int) (epoch % BUCKETS);
+        if (hourly[index] == null || hourlyEpochs[index] != epoch) {
+            hourly[index] = new HyperLogLog(PRECISION);
+            hourlyEpochs[index] = epoch;
+        }
+        hourly[index].add(visitorId);
+        total.add(visitorId);
+        lastUpdateMillis = now;
+    }
+
+    // União dos últimos `hours` buckets horários (1 = hora corrente)
+    public synchronized long estimate(int hours) {
+        HyperLogLog union = new HyperLogLog(PRECISION);
+        long currentEpoch = clock.getAsLong() / BUCKET_MILLIS;
+        for (int i = 0; i < BUCKETS; i++) {
+            if (hourly[i] != null && currentEpoch - hourlyEpochs[i] < Math.min(hours, BUCKETS)) {
+                union.merge(hourly[i]);
+            }
+        }
+        return union.estimate();
+    }
+
+    public synchronized long estimateTotal() {
+        return total.estimate();
+    }
+
+    public Map<String, Long> snapshot() {
+        Map<String, Long> estimates = new LinkedHashMap<>();
+        estimates.put("currentHour", estimate(1));
+        estimates.put("24h", estimate(BUCKETS));
+        estimates.put("total", estimateTotal());
+        return estimates;
+    }
+
+    public synchronized long lastUpdateMillis() {
+        return lastUpdateMillis;
+    }
+
+    public static double standardError() {
+        return HyperLogLog.standardError(PRECISION);
+    }
+}
@@ -0,0 +1,70 @@
+package com.mercadolivre.product_api.infrastructure.monitoring;
+
+import com.mercadolivre.product_api.domain.event.ProductViewedEvent;
+import com.mercadolivre.product_api.infrastructure.event.ProductViewHandler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+// Visitantes únicos por produto e por categoria (HyperLogLog), alimentado pelo visitorId das visualizações
+@Component
+public class UniqueViewerTracker implements ProductViewHandler {
+
+    private static final long RETENTION_MILLIS = TimeUnit.HOURS.toMillis(24);
+
+    private final Map<String, UniqueViewerCounter> byProduct = new ConcurrentHashMap<>();
+    private final Map<String, UniqueViewerCounter> byCategory = new ConcurrentHashMap<>();
+
+    @Override
+    public void handleBatch(List<ProductViewedEvent> events) {
+        for (ProductViewedEvent event : events) {
+            record(event);
+        }
+    }
+
+    // Visualizações agregadas perdem os visitorIds repetidos; o evento guardado representa o primeiro visitante
+    @Override
+    public void handleCoalescedViews(ProductViewedEvent event, int views) {
+        record(event);
+    }
+
+    public Map<String, Long> productUniqueViewers(String productId) {
+        return snapshot(byProduct.get(productId));
+    }
+
+    public Map<String, Long> categoryUniqueViewers(String category) {
+        return snapshot(byCategory.get(category.toLowerCase(Locale.ROOT)));
+    }
+
+    public double standardError() {
+        return UniqueViewerCounter.standardError();
+    }
+
+    @Scheduled(fixedDelayString = "${product-api.view-metrics.purge-interval-ms:600000}")
+    public void purgeIdle() {
+        long cutoff = System.currentTimeMillis() - RETENTION_MILLIS;
+        byProduct.values().removeIf(counter -> counter.lastUpdateMillis() < cutoff);
+        byCategory.values().removeIf(counter -> counter.lastUpdateMillis() < cutoff);
+    }
+
+    private void record(ProductViewedEvent event) {
+        String visitorId = event.getVisitorId();
+        if (visitorId == null || event.getProductId() == null) {
+            return;
+        }
+        byProduct.computeIfAbsent(event.getProductId(), k -> new UniqueViewerCounter()).add(visitorId);
+        if (event.getCategory() != null) {
+            byCategory.computeIfAbsent(event.getCategory().toLowerCase(Locale.ROOT), k -> new UniqueViewerCounter())
+                    .add(visitorId);
+        }
+    }
+
+    private static Map<String, Long> snapshot(UniqueViewerCounter counter) {
+        return counter != null ? counter.snapshot() : Map.of("currentHour", 0L, "24h", 0L, "total", 0L);
+    }
+}
@@ -0,0 +1,13 @@
+package com.mercadolivre.product_api.infrastructure.monitoring;
+
+import java.util.Map;
+
+// Armazenamento compartilhado entre réplicas dos totais de visualização por produto e por categoria
+public interface ViewCountStore {
+
+    void increment(Map<String, Long> productDeltas, Map<String, Long> categoryDeltas);
+
+    long productViews(String productId);
+
+    long categoryViews(String category);
+}
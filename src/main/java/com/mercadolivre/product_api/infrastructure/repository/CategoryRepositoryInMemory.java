@@ -6,11 +6,16 @@ import org.springframework.stereotype.Repository;
 
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 @Repository
 public class CategoryRepositoryInMemory implements CategoryRepository {
 
     private final Map<String, Category> database = new ConcurrentHashMap<>();
+    // Dicionário slug -> categoria: produtos guardam o slug e listagens resolvem o nome por item
+    private final Map<String, Category> bySlug = new ConcurrentHashMap<>();
+    // Categorias mudam raramente e em bloco: uma versão única valida listagem e leituras individuais
+    private final AtomicLong version = new AtomicLong();
 
     public CategoryRepositoryInMemory() {
         // Dados iniciais para teste
@@ -42,9 +47,20 @@ public class CategoryRepositoryInMemory implements CategoryRepository {
                 .productCount(0)
                 .build();
 
-        database.put(eletronicos.getId(), eletronicos);
-        database.put(moda.getId(), moda);
-        database.put(casa.getId(), casa);
+        put(eletronicos);
+        put(moda);
+        put(casa);
+    }
+
+    private void put(Category category) {
+        Category previous = database.put(category.getId(), category);
+        if (previous != null && previous.getSlug() != null) {
+            bySlug.remove(previous.getSlug());
+        }
+        if (category.getSlug() != null) {
+            bySlug.put(category.getSlug(), category);
+        }
+        version.incrementAndGet();
     }
 
     @Override
@@ -59,9 +75,12 @@ public class CategoryRepositoryInMemory implements CategoryRepository {
 
     @Override
     public Optional<Category> findBySlug(String slug) {
-        return database.values().stream()
-                .filter(c -> c.getSlug() != null && c.getSlug().equals(slug))
-                .findFirst();
+        return slug == null ? Optional.empty() : Optional.ofNullable(bySlug.get(slug));
+    }
+
+    @Override
+    public long version() {
+        return version.get();
     }
 
 }
@@ -6,18 +6,24 @@ import org.springframework.stereotype.Repository;
 
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.stream.Collectors;
+import java.util.concurrent.atomic.AtomicLong;
 
 @Repository
 public class ProductImageRepositoryInMemory implements ProductImageRepository {
 
+    private static final Comparator<ProductImage> BY_DISPLAY_ORDER =
+            Comparator.comparing(ProductImage::getDisplayOrder, Comparator.nullsLast(Comparator.naturalOrder()));
+
     private final Map<String, ProductImage> database = new ConcurrentHashMap<>();
+    // Índice produto -> imagens já ordenadas por displayOrder (listas imutáveis trocadas na escrita)
+    private final Map<String, List<ProductImage>> byProduct = new ConcurrentHashMap<>();
+    // Imagem principal por produto, mantida na escrita: listagens embutem a imagem sem varrer o acervo
+    private final Map<String, ProductImage> primaryByProduct = new ConcurrentHashMap<>();
+    private final AtomicLong version = new AtomicLong();
 
     @Override
     public List<ProductImage> findByProductId(String productId) {
-        return database.values().stream()
-                .filter(img -> img.getProductId() != null && img.getProductId().equals(productId))
-                .collect(Collectors.toList());
+        return new ArrayList<>(byProduct.getOrDefault(productId, List.of()));
     }
 
     @Override
@@ -25,4 +31,63 @@ public class ProductImageRepositoryInMemory implements ProductImageRepository {
         return new ArrayList<>(database.values());
     }
 
+    @Override
+    public Map<String, List<ProductImage>> findByProductIds(Collection<String> productIds) {
+        Map<String, List<ProductImage>> images = new LinkedHashMap<>();
+        for (String productId : productIds) {
+            List<ProductImage> productImages = byProduct.get(productId);
+            if (productImages != null) {
+                images.put(productId, productImages);
+            }
+        }
+        return images;
+    }
+
+    @Override
+    public Optional<ProductImage> findPrimaryByProductId(String productId) {
+        return Optional.ofNullable(primaryByProduct.get(productId));
+    }
+
+    // Escritas serializadas para os índices nunca verem uma troca de imagem pela metade
+    @Override
+    public synchronized ProductImage save(ProductImage image) {
+        ProductImage previous = database.put(image.getId(), image);
+        if (previous != null && previous.getProductId() != null) {
+            reindex(previous.getProductId(), previous, null);
+        }
+        if (image.getProductId() != null) {
+            reindex(image.getProductId(), null, image);
+        }
+        version.incrementAndGet();
+        return image;
+    }
+
+    @Override
+    public long version() {
+        return version.get();
+    }
+
+    // Só a lista do produto é refeita; entre as marcadas como principal, vale a de menor displayOrder
+    private void reindex(String productId, ProductImage removed, ProductImage added) {
+        List<ProductImage> images = new ArrayList<>(byProduct.getOrDefault(productId, List.of()));
+        if (removed != null) {
+            images.removeIf(img -> img.getId().equals(removed.getId()));
+        }
+        if (added != null) {
+            images.add(added);
+        }
+        if (images.isEmpty()) {
+            byProduct.remove(productId);
+            primaryByProduct.remove(productId);
+            return;
+        }
+        images.sort(BY_DISPLAY_ORDER);
+        byProduct.put(productId, List.copyOf(images));
+        images.stream()
+                .filter(img -> Boolean.TRUE.equals(img.getIsPrimary()))
+                .findFirst()
+                .ifPresentOrElse(primary -> primaryByProduct.put(productId, primary),
+                        () -> primaryByProduct.remove(productId));
+    }
+
 }
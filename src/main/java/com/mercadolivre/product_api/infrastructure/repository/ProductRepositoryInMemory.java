@@ -1,49 +1,145 @@
 package com.mercadolivre.product_api.infrastructure.repository;
 
+import com.mercadolivre.product_api.domain.event.ProductChangedEvent;
+import com.mercadolivre.product_api.domain.event.ProductChangedEvent.ChangeType;
 import com.mercadolivre.product_api.domain.model.Product;
 import com.mercadolivre.product_api.domain.repository.ProductRepository;
+import com.mercadolivre.product_api.infrastructure.index.HandleCounters;
+import com.mercadolivre.product_api.infrastructure.index.HandleSlots;
+import com.mercadolivre.product_api.infrastructure.index.IntOpenHashSet;
+import com.mercadolivre.product_api.infrastructure.index.ProductIdRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Repository;
 
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.stream.Collectors;
+import java.util.concurrent.atomic.AtomicLong;
 
+// Produtos indexados pelo handle denso do ProductIdRegistry; o índice por categoria guarda handles primitivos.
+// As versões (produto, categoria e catálogo) sobem depois da escrita, então quem lê a versão nova já vê o dado novo
 @Repository
+@RequiredArgsConstructor
 public class ProductRepositoryInMemory implements ProductRepository {
 
-    private final Map<String, Product> database = new ConcurrentHashMap<>();
+    private final HandleSlots<Product> database = new HandleSlots<>();
+    private final Map<String, IntOpenHashSet> byCategory = new ConcurrentHashMap<>();
+    private final HandleCounters productVersions = new HandleCounters();
+    private final Map<String, AtomicLong> categoryVersions = new ConcurrentHashMap<>();
+    private final AtomicLong catalogVersion = new AtomicLong();
+    private final ProductIdRegistry productIds;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public Product save(Product product) {
-        database.put(product.getId(), product);
+        int handle = productIds.register(product.getId());
+        Product previous = database.set(handle, product);
+        reindex(handle, previous != null ? previous.getCategory() : null, product.getCategory());
+        bumpVersions(handle, previous != null ? previous.getCategory() : null, product.getCategory());
+        eventPublisher.publishEvent(new ProductChangedEvent(
+            this, product.getId(), product.getCategory(),
+            previous != null ? previous.getCategory() : null,
+            product.getName(),
+            previous != null ? previous.getName() : null,
+            previous != null ? ChangeType.UPDATED : ChangeType.CREATED
+        ));
         return product;
     }
 
     @Override
     public Optional<Product> findById(String id) {
-        return Optional.ofNullable(database.get(id));
+        return Optional.ofNullable(database.get(productIds.find(id)));
     }
 
     @Override
     public List<Product> findAll() {
-        return new ArrayList<>(database.values());
+        int handles = productIds.size();
+        List<Product> products = new ArrayList<>();
+        for (int handle = 0; handle < handles; handle++) {
+            Product product = database.get(handle);
+            if (product != null) {
+                products.add(product);
+            }
+        }
+        return products;
     }
 
     @Override
     public List<Product> findByCategory(String category) {
-        return database.values().stream()
-                .filter(p -> p.getCategory() != null && p.getCategory().equals(category))
-                .collect(Collectors.toList());
+        IntOpenHashSet handles = category != null ? byCategory.get(category) : null;
+        if (handles == null) {
+            return new ArrayList<>();
+        }
+        List<Product> products = new ArrayList<>(handles.size());
+        for (int handle : handles.toArray()) {
+            Product product = database.get(handle);
+            // Confere a categoria: um save concorrente pode ter mudado o produto depois da cópia dos handles
+            if (product != null && category.equals(product.getCategory())) {
+                products.add(product);
+            }
+        }
+        return products;
     }
 
     @Override
     public void deleteById(String id) {
-        database.remove(id);
+        int handle = productIds.find(id);
+        Product removed = handle != ProductIdRegistry.NOT_FOUND ? database.set(handle, null) : null;
+        if (removed != null) {
+            reindex(handle, removed.getCategory(), null);
+            bumpVersions(handle, removed.getCategory(), null);
+            eventPublisher.publishEvent(new ProductChangedEvent(
+                this, id, null, removed.getCategory(), null, removed.getName(), ChangeType.DELETED
+            ));
+        }
     }
 
     @Override
     public boolean existsById(String id) {
-        return database.containsKey(id);
+        return database.get(productIds.find(id)) != null;
     }
 
+    // 0 quando o produto não existe, para nunca validar um 404
+    @Override
+    public long versionOf(String id) {
+        int handle = productIds.find(id);
+        return database.get(handle) != null ? productVersions.get(handle) : 0;
+    }
+
+    @Override
+    public long categoryVersion(String category) {
+        AtomicLong version = category != null ? categoryVersions.get(category) : null;
+        return version != null ? version.get() : 0;
+    }
+
+    @Override
+    public long catalogVersion() {
+        return catalogVersion.get();
+    }
+
+    private void bumpVersions(int handle, String oldCategory, String newCategory) {
+        productVersions.add(handle, 1);
+        if (oldCategory != null) {
+            categoryVersions.computeIfAbsent(oldCategory, k -> new AtomicLong()).incrementAndGet();
+        }
+        if (newCategory != null && !newCategory.equals(oldCategory)) {
+            categoryVersions.computeIfAbsent(newCategory, k -> new AtomicLong()).incrementAndGet();
+        }
+        catalogVersion.incrementAndGet();
+    }
+
+    private void reindex(int handle, String oldCategory, String newCategory) {
+        if (Objects.equals(oldCategory, newCategory)) {
+            return;
+        }
+        if (oldCategory != null) {
+            IntOpenHashSet handles = byCategory.get(oldCategory);
+            if (handles != null) {
+                handles.remove(handle);
+            }
+        }
+        if (newCategory != null) {
+            byCategory.computeIfAbsent(newCategory, k -> new IntOpenHashSet()).add(handle);
+        }
+    }
 }
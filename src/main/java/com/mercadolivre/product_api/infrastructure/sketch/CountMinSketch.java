@@ -0,0 +1,72 @@
+package com.mercadolivre.product_api.infrastructure.sketch;
+
+// Estimador de frequência com memória fixa: depth linhas de width contadores, sempre superestima
+public class CountMinSketch {
+
+    private static final long[] SEEDS = {
+        0x9E3779B97F4A7C15L, 0xC2B2AE3D27D4EB4FL, 0x165667B19E3779F9L, 0xD6E8FEB86659FD93L
+    };
+
+    private final int width;
+    private final int mask;
+    private final int[][] table;
+
+    public CountMinSketch(int expectedKeys) {
+        this.width = Integer.highestOneBit(Math.max(64, expectedKeys) - 1) << 1;
+        this.mask = width - 1;
+        this.table = new int[SEEDS.length][width];
+    }
+
+    // Conservative update: só incrementa os contadores que estão no mínimo, reduzindo o erro
+    public int increment(Object key) {
+        int hash = key.hashCode();
+        int[] indexes = new int[SEEDS.length];
+        int min = Integer.MAX_VALUE;
+        for (int row = 0; row < SEEDS.length; row++) {
+            indexes[row] = indexOf(hash, row);
+            min = Math.min(min, table[row][indexes[row]]);
+        }
+        if (min == Integer.MAX_VALUE) {
+            return min;
+        }
+        int updated = min + 1;
+        for (int row = 0; row < SEEDS.length; row++) {
+            if (table[row][indexes[row]] < updated) {
+                table[row][indexes[row]] = updated;
+            }
+        }
+        return updated;
+    }
+
+    public int estimate(Object key) {
+        int hash = key.hashCode();
+        int min = Integer.MAX_VALUE;
+        for (int row = 0; row < SEEDS.length; row++) {
+            min = Math.min(min, table[row][indexOf(hash, row)]);
+        }
+        return min;
+    }
+
+    // Envelhecimento: divide todos os contadores por dois para que a popularidade antiga perca peso
+    public void halve() {
+        for (int[] row : table) {
+            for (int i = 0; i < row.length; i++) {
+                row[i] >>>= 1;
+            }
+        }
+    }
+
+    public int width() {
+        return width;
+    }
+
+    public long memoryBytes() {
+        return (long) SEEDS.length * width * Integer.BYTES;
+    }
+
+    private int indexOf(int hash, int row) {
+        long h = (hash + SEEDS[row]) * SEEDS[(row + 1) % SEEDS.length];
+        h ^= h >>> 31;
+        return (int) h & mask;
+    }
+}
@@ -0,0 +1,199 @@
+package com.mercadolivre.product_api.infrastructure.sketch;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.StampedLock;
+
+// Filtro de pertinência com remoção: buckets de 4 fingerprints de 16 bits, sem falsos negativos
+public class CuckooFilter {
+
+    private static final int SLOTS_PER_BUCKET = 4;
+    private static final int FINGERPRINT_BITS = 16;
+    private static final int MAX_KICKS = 500;
+
+    private final short[] table;
+    private final int bucketMask;
+    private final StampedLock lock = new StampedLock();
+    private int size;
+    // Fingerprint desalojado quando o filtro enche; continua sendo consultado para não gerar falso negativo
+    private short victim;
+    private int victimBucket;
+
+    public CuckooFilter(int expectedItems) {
+        int buckets = Math.max(1, (int) Math.ceil(expectedItems / (SLOTS_PER_BUCKET * 0.95)));
+        int bucketCount = Integer.highestOneBit(Math.max(2, buckets) - 1) << 1;
+        this.table = new short[bucketCount * SLOTS_PER_BUCKET];
+        this.bucketMask = bucketCount - 1;
+    }
+
+    // Retorna false quando o filtro está cheio; o chamador deve reconstruí-lo com mais capacidade
+    public boolean add(String item) {
+        long hash = hash64(item);
+        short fingerprint = fingerprint(hash);
+        int i1 = (int) hash & bucketMask;
+        long stamp = lock.writeLock();
+        try {
+            if (victim != 0) {
+                return false;
+            }
+            int i2 = alternate(i1, fingerprint);
+            if (insert(i1, fingerprint) || insert(i2, fingerprint)) {
+                size++;
+                return true;
+            }
+            int bucket = ThreadLocalRandom.current().nextBoolean() ? i1 : i2;
+            short current = fingerprint;
+            for (int kick = 0; kick < MAX_KICKS; kick++) {
+                int slot = bucket * SLOTS_PER_BUCKET + ThreadLocalRandom.current().nextInt(SLOTS_PER_BUCKET);
+                short displaced = table[slot];
+                table[slot] = current;
+                current = displaced;
+                bucket = alternate(bucket, current);
+                if (insert(bucket, current)) {
+                    size++;
+                    return true;
+                }
+            }
+            victim = current;
+            victimBucket = bucket;
+            size++;
+            return true;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    public boolean remove(String item) {
+        long hash = hash64(item);
+        short fingerprint = fingerprint(hash);
+        int i1 = (int) hash & bucketMask;
+        long stamp = lock.writeLock();
+        try {
+            int i2 = alternate(i1, fingerprint);
+            if (delete(i1, fingerprint) || delete(i2, fingerprint)) {
+                size--;
+                if (victim != 0 && insert(victimBucket, victim)) {
+                    victim = 0;
+                }
+                return true;
+            }
+            if (victim == fingerprint && (victimBucket == i1 || victimBucket == i2)) {
+                victim = 0;
+                size--;
+                return true;
+            }
+            return false;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    public boolean mightContain(String item) {
+        long hash = hash64(item);
+        short fingerprint = fingerprint(hash);
+        int i1 = (int) hash & bucketMask;
+        int i2 = alternate(i1, fingerprint);
+
+        long stamp = lock.tryOptimisticRead();
+        boolean found = contains(i1, i2, fingerprint);
+        if (lock.validate(stamp)) {
+            return found;
+        }
+        stamp = lock.readLock();
+        try {
+            return contains(i1, i2, fingerprint);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    public boolean isFull() {
+        return victim != 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int capacity() {
+        return table.length;
+    }
+
+    public double loadFactor() {
+        return (double) size / table.length;
+    }
+
+    // Limite superior da taxa de falso positivo: 2 * slots / 2^f, proporcional à ocupação
+    public double expectedFalsePositiveRate() {
+        return Math.min(1.0, loadFactor() * 2.0 * SLOTS_PER_BUCKET / (1 << FINGERPRINT_BITS));
+    }
+
+    public long memoryBytes() {
+        return (long) table.length * Short.BYTES;
+    }
+
+    private boolean contains(int i1, int i2, short fingerprint) {
+        return bucketContains(i1, fingerprint) || bucketContains(i2, fingerprint)
+                || (victim == fingerprint && (victimBucket == i1 || victimBucket == i2));
+    }
+
+    private boolean bucketContains(int bucket, short fingerprint) {
+        int base = bucket * SLOTS_PER_BUCKET;
+        for (int i = 0; i < SLOTS_PER_BUCKET; i++) {
+            if (table[base + i] == fingerprint) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean insert(int bucket, short fingerprint) {
+        int base = bucket * SLOTS_PER_BUCKET;
+        for (int i = 0; i < SLOTS_PER_BUCKET; i++) {
+            if (table[base + i] == 0) {
+                table[base + i] = fingerprint;
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean delete(int bucket, short fingerprint) {
+        int base = bucket * SLOTS_PER_BUCKET;
+        for (int i = 0; i < SLOTS_PER_BUCKET; i++) {
+            if (table[base + i] == fingerprint) {
+                table[base + i] = 0;
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private int alternate(int bucket, short fingerprint) {
+        return (bucket ^ (int) mix(fingerprint & 0xFFFF)) & bucketMask;
+    }
+
+    // Fingerprint nunca é zero, pois zero marca slot vazio
+    private static short fingerprint(long hash) {
+        int fp = (int) (hash >>> (64 - FINGERPRINT_BITS));
+        return (short) (fp == 0 ? 1 : fp);
+    }
+
+    static long hash64(String item) {
+        long h = 0xCBF29CE484222325L;
+        for (byte b : item.getBytes(StandardCharsets.UTF_8)) {
+            h ^= b;
+            h *= 0x100000001B3L;
+        }
+        return mix(h);
+    }
+
+    private static long mix(long h) {
+        h ^= h >>> 33;
+        h *= 0xFF51AFD7ED558CCDL;
+        h ^= h >>> 33;
+        h *= 0xC4CEB9FE1A85EC53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
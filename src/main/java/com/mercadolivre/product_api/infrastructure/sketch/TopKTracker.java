@@ -0,0 +1,58 @@
+package com.mercadolivre.product_api.infrastructure.sketch;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// Mantém as k chaves com maior contagem estimada; chaves abaixo do mínimo atual não pegam o lock
+public class TopKTracker<K> {
+
+    public record Entry<K>(K key, long count) {
+    }
+
+    private final int k;
+    private final Map<K, Long> counts = new HashMap<>();
+    private volatile long threshold;
+
+    public TopKTracker(int k) {
+        this.k = k;
+    }
+
+    public void offer(K key, long count) {
+        if (count <= threshold) {
+            return;
+        }
+        synchronized (this) {
+            counts.put(key, count);
+            if (counts.size() > k) {
+                K minKey = null;
+                long min = Long.MAX_VALUE;
+                for (Map.Entry<K, Long> entry : counts.entrySet()) {
+                    if (entry.getValue() < min) {
+                        min = entry.getValue();
+                        minKey = entry.getKey();
+                    }
+                }
+                counts.remove(minKey);
+                threshold = min;
+            }
+        }
+    }
+
+    public synchronized List<Entry<K>> top() {
+        List<Entry<K>> entries = new ArrayList<>(counts.size());
+        counts.forEach((key, count) -> entries.add(new Entry<>(key, count)));
+        entries.sort((a, b) -> Long.compare(b.count(), a.count()));
+        return entries;
+    }
+
+    public synchronized void halve() {
+        counts.replaceAll((key, count) -> count >>> 1);
+        threshold >>>= 1;
+    }
+
+    public synchronized void remove(K key) {
+        counts.remove(key);
+    }
+}
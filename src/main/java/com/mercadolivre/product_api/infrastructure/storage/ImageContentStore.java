@@ -0,0 +1,197 @@
+package com.mercadolivre.product_api.infrastructure.storage;
+
+import com.mercadolivre.product_api.infrastructure.cache.CacheEntryRef;
+import com.mercadolivre.product_api.infrastructure.cache.local.TinyLfuStore;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+/*
+ * Imagens em disco endereçadas pelo SHA-256 do conteúdo: <diretório>/<2 primeiros hex>/<sha256>.<ext>.
+ * Como o nome do arquivo é o próprio hash, um arquivo nunca muda depois de gravado; o mesmo conteúdo
+ * gravado duas vezes cai no mesmo arquivo e quem precisa de uma imagem nova recebe um nome novo.
+ * Arquivos pequenos (miniaturas) ficam numa W-TinyLFU própria, limitada em bytes: só as mais pedidas
+ * sobrevivem à admissão, e as demais saem do disco pelo page cache do sistema.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "product-api.image-store.enabled", havingValue = "true")
+public class ImageContentStore {
+
+    static final String CACHE_NAME = "image-thumbnails";
+
+    private static final Pattern FILE_NAME = Pattern.compile("^([0-9a-f]{64})\\.(jpg|jpeg|png|webp|gif|avif)$");
+    private static final Map<String, MediaType> MEDIA_TYPES = Map.of(
+            "jpg", MediaType.IMAGE_JPEG,
+            "jpeg", MediaType.IMAGE_JPEG,
+            "png", MediaType.IMAGE_PNG,
+            "gif", MediaType.IMAGE_GIF,
+            "webp", MediaType.parseMediaType("image/webp"),
+            "avif", MediaType.parseMediaType("image/avif"));
+
+    public record StoredImage(String fileName, String hash, Path path, long length, MediaType mediaType, byte[] bytes) {
+
+        // Conteúdo em memória (miniatura em cache) ou null quando deve ser lido do arquivo
+        public boolean inMemory() {
+            return bytes != null;
+        }
+    }
+
+    private final Path directory;
+    private final long thumbnailMaxBytes;
+    private final TinyLfuStore thumbnails;
+    private final Counter hits;
+    private final Counter misses;
+
+    public ImageContentStore(MeterRegistry meterRegistry,
+                             @Value("${product-api.image-store.directory:${java.io.tmpdir}/product-api/images}") Path directory,
+                             @Value("${product-api.image-store.thumbnail-max-bytes:65536}") long thumbnailMaxBytes,
+                             @Value("${product-api.image-store.thumbnail-cache-bytes:16777216}") long thumbnailCacheBytes) {
+        this.directory = directory.toAbsolutePath().normalize();
+        this.thumbnailMaxBytes = thumbnailMaxBytes;
+        this.thumbnails = new TinyLfuStore(thumbnailCacheBytes);
+        try {
+            Files.createDirectories(this.directory);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not open image store directory " + this.directory, e);
+        }
+
+        this.hits = Counter.builder("image.store.thumbnail.cache")
+                .tag("result", "hit")
+                .description("Small image reads, served from memory (hit) or from disk (miss)")
+                .register(meterRegistry);
+        this.misses = Counter.builder("image.store.thumbnail.cache")
+                .tag("result", "miss")
+                .description("Small image reads, served from memory (hit) or from disk (miss)")
+                .register(meterRegistry);
+        Gauge.builder("image.store.thumbnail.cache.weight", thumbnails, s -> s.usage(CACHE_NAME).weight())
+                .description("Estimated bytes held by the thumbnail cache")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        log.info("Image content store opened: directory={}, thumbnailMaxBytes={}, thumbnailCacheBytes={}",
+                this.directory, thumbnailMaxBytes, thumbnailCacheBytes);
+    }
+
+    // Grava o conteúdo (idempotente) e devolve o nome do arquivo, "<sha256>.<ext>"
+    public String put(byte[] content, String extension) {
+        String fileName = sha256(content) + "." + extension.toLowerCase(Locale.ROOT);
+        if (!FILE_NAME.matcher(fileName).matches()) {
+            throw new IllegalArgumentException("Unsupported image extension: " + extension);
+        }
+        Path target = pathOf(fileName);
+        if (Files.exists(target)) {
+            return fileName;
+        }
+        try {
+            Files.createDirectories(target.getParent());
+            // Arquivo temporário + rename: leitores nunca veem uma imagem pela metade
+            Path temp = Files.createTempFile(target.getParent(), fileName, ".tmp");
+            try {
+                Files.write(temp, content);
+                moveIntoPlace(temp, target);
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not store image " + fileName, e);
+        }
+        return fileName;
+    }
+
+    // Vazio para nomes inválidos (inclusive tentativas de path traversal) e arquivos inexistentes
+    public Optional<StoredImage> find(String fileName) {
+        var matcher = FILE_NAME.matcher(fileName);
+        if (!matcher.matches()) {
+            return Optional.empty();
+        }
+        Path path = pathOf(fileName);
+        MediaType mediaType = MEDIA_TYPES.get(matcher.group(2));
+        CacheEntryRef key = new CacheEntryRef(CACHE_NAME, fileName);
+        if (thumbnails.get(key) instanceof byte[] bytes) {
+            hits.increment();
+            return Optional.of(new StoredImage(fileName, matcher.group(1), path, bytes.length, mediaType, bytes));
+        }
+        try {
+            long length = Files.size(path);
+            byte[] bytes = null;
+            if (length <= thumbnailMaxBytes) {
+                misses.increment();
+                bytes = Files.readAllBytes(path);
+                thumbnails.put(key, bytes, 0);
+            }
+            return Optional.of(new StoredImage(fileName, matcher.group(1), path, length, mediaType, bytes));
+        } catch (NoSuchFileException e) {
+            return Optional.empty();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read image " + fileName, e);
+        }
+    }
+
+    /*
+     * Copia [position, position + count) do arquivo para o canal. Com destino FileChannel ou
+     * SocketChannel o kernel copia direto do page cache (sendfile); com outros canais a JDK usa um
+     * buffer intermediário, mas ainda sem montar a imagem inteira no heap.
+     */
+    public void transferTo(StoredImage image, long position, long count, WritableByteChannel target) throws IOException {
+        try (FileChannel channel = FileChannel.open(image.path(), StandardOpenOption.READ)) {
+            long remaining = count;
+            while (remaining > 0) {
+                long transferred = channel.transferTo(position, remaining, target);
+                if (transferred <= 0) {
+                    throw new EOFException("Image " + image.fileName() + " ended before byte " + (position + remaining));
+                }
+                position += transferred;
+                remaining -= transferred;
+            }
+        }
+    }
+
+    private Path pathOf(String fileName) {
+        return directory.resolve(fileName.substring(0, 2)).resolve(fileName);
+    }
+
+    private static void moveIntoPlace(Path temp, Path target) throws IOException {
+        try {
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            try {
+                Files.move(temp, target);
+            } catch (FileAlreadyExistsException ignored) {
+                // Outra requisição gravou o mesmo conteúdo primeiro
+            }
+        }
+    }
+
+    private static String sha256(byte[] content) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.mercadolivre.product_api.infrastructure.trending;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+// Top-K limitado por score: O(log K) por atualização, o menor membro sai quando alguém o supera. Não é thread-safe
+class RankedSet {
+
+    record Ranked(String key, double score) {
+    }
+
+    private static final Comparator<Ranked> ORDER = Comparator.comparingDouble(Ranked::score)
+            .thenComparing(Ranked::key);
+
+    private final int capacity;
+    private final TreeSet<Ranked> ranking = new TreeSet<>(ORDER);
+    private final Map<String, Ranked> members = new HashMap<>();
+
+    RankedSet(int capacity) {
+        this.capacity = capacity;
+    }
+
+    boolean offer(String key, double score) {
+        Ranked current = members.get(key);
+        if (current != null) {
+            ranking.remove(current);
+        } else if (members.size() >= capacity) {
+            Ranked lowest = ranking.first();
+            if (score <= lowest.score()) {
+                return false;
+            }
+            ranking.pollFirst();
+            members.remove(lowest.key());
+        }
+        Ranked updated = new Ranked(key, score);
+        ranking.add(updated);
+        members.put(key, updated);
+        return true;
+    }
+
+    boolean remove(String key) {
+        Ranked current = members.remove(key);
+        return current != null && ranking.remove(current);
+    }
+
+    boolean isEmpty() {
+        return members.isEmpty();
+    }
+
+    List<Ranked> descending() {
+        return new ArrayList<>(ranking.descendingSet());
+    }
+}
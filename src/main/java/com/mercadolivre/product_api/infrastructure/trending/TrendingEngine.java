@@ -0,0 +1,232 @@
+package com.mercadolivre.product_api.infrastructure.trending;
+
+import com.mercadolivre.product_api.domain.event.ProductChangedEvent;
+import com.mercadolivre.product_api.domain.event.ProductViewedEvent;
+import com.mercadolivre.product_api.infrastructure.event.ProductViewHandler;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/*
+ * Popularidade recente com decaimento exponencial (meia-vida configurável). Usa "forward decay":
+ * cada visualização soma e^(λ·(t - marco)), então os scores só crescem e a ordem entre produtos é a
+ * mesma do score decaído. Os rankings (global e por categoria) são top-K limitados, publicados como
+ * snapshots imutáveis a cada lote: a leitura é O(limit), sem lock e sem ordenar todos os produtos.
+ */
+@Slf4j
+@Component
+public class TrendingEngine implements ProductViewHandler {
+
+    public record Trend(String productId, double score) {
+    }
+
+    private record Ranking(List<RankedSet.Ranked> entries, long landmarkMillis) {
+        static final Ranking EMPTY = new Ranking(List.of(), 0);
+    }
+
+    private static final class ProductScore {
+        private double value;
+        private String category;
+
+        private ProductScore(String category) {
+            this.category = category;
+        }
+    }
+
+    // Reescala antes que e^(λ·Δt) perca precisão em double; abaixo do piso o produto deixa de ser rastreado
+    private static final double MAX_EXPONENT = 30;
+    private static final double MIN_SCORE = 0.01;
+
+    private final LongSupplier clock;
+    private final double lambdaPerMilli;
+    private final int topK;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Map<String, ProductScore> scores = new HashMap<>();
+    private RankedSet global;
+    private final Map<String, RankedSet> byCategory = new HashMap<>();
+    private long landmarkMillis;
+
+    private volatile Ranking globalRanking = Ranking.EMPTY;
+    private final Map<String, Ranking> categoryRankings = new ConcurrentHashMap<>();
+
+    @Autowired
+    public TrendingEngine(@Value("${product-api.trending.half-life:30m}") Duration halfLife,
+                          @Value("${product-api.trending.top-k:100}") int topK) {
+        this(halfLife, topK, System::currentTimeMillis);
+    }
+
+    TrendingEngine(Duration halfLife, int topK, LongSupplier clock) {
+        this.clock = clock;
+        this.lambdaPerMilli = Math.log(2) / halfLife.toMillis();
+        this.topK = topK;
+        this.global = new RankedSet(topK);
+        this.landmarkMillis = clock.getAsLong();
+    }
+
+    @Override
+    public void handleBatch(List<ProductViewedEvent> events) {
+        Map<String, Integer> views = new HashMap<>();
+        Map<String, String> categories = new HashMap<>();
+        for (ProductViewedEvent event : events) {
+            if (event.getProductId() != null) {
+                views.merge(event.getProductId(), 1, Integer::sum);
+                categories.put(event.getProductId(), event.getCategory());
+            }
+        }
+        apply(views, categories);
+    }
+
+    @Override
+    public void handleCoalescedViews(ProductViewedEvent event, int views) {
+        if (event.getProductId() != null) {
+            apply(Collections.singletonMap(event.getProductId(), views),
+                    Collections.singletonMap(event.getProductId(), event.getCategory()));
+        }
+    }
+
+    private void apply(Map<String, Integer> views, Map<String, String> categories) {
+        lock.lock();
+        try {
+            long now = clock.getAsLong();
+            maybeRescale(now);
+            double weight = Math.exp(lambdaPerMilli * (now - landmarkMillis));
+            Set<String> touchedCategories = new HashSet<>();
+            boolean globalChanged = false;
+            for (Map.Entry<String, Integer> entry : views.entrySet()) {
+                String category = normalize(categories.get(entry.getKey()));
+                ProductScore score = scores.computeIfAbsent(entry.getKey(), k -> new ProductScore(category));
+                score.value += weight * entry.getValue();
+                globalChanged |= global.offer(entry.getKey(), score.value);
+                if (score.category != null && categoryRanking(score.category).offer(entry.getKey(), score.value)) {
+                    touchedCategories.add(score.category);
+                }
+            }
+            if (globalChanged) {
+                publishGlobal();
+            }
+            touchedCategories.forEach(this::publishCategory);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Produtos excluídos saem dos rankings; troca de categoria move o produto para o ranking da nova
+    @EventListener
+    public void onProductChanged(ProductChangedEvent event) {
+        if (!event.isMembershipChange()) {
+            return;
+        }
+        lock.lock();
+        try {
+            String productId = event.getProductId();
+            ProductScore score = scores.get(productId);
+            String previous = normalize(event.getPreviousCategory());
+            if (previous != null) {
+                removeFromCategory(previous, productId);
+            }
+            if (event.getChangeType() == ProductChangedEvent.ChangeType.DELETED) {
+                scores.remove(productId);
+                if (global.remove(productId)) {
+                    publishGlobal();
+                }
+            } else if (score != null) {
+                score.category = normalize(event.getCategory());
+                if (score.category != null && categoryRanking(score.category).offer(productId, score.value)) {
+                    publishCategory(score.category);
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // O(limit): percorre o snapshot já ordenado e só converte os scores devolvidos
+    public List<Trend> top(String category, int limit) {
+        Ranking ranking = category == null ? globalRanking
+                : categoryRankings.getOrDefault(normalize(category), Ranking.EMPTY);
+        int size = Math.min(Math.max(limit, 0), ranking.entries().size());
+        if (size == 0) {
+            return List.of();
+        }
+        double decay = Math.exp(-lambdaPerMilli * (clock.getAsLong() - ranking.landmarkMillis()));
+        Trend[] trends = new Trend[size];
+        for (int i = 0; i < size; i++) {
+            RankedSet.Ranked ranked = ranking.entries().get(i);
+            trends[i] = new Trend(ranked.key(), ranked.score() * decay);
+        }
+        return List.of(trends);
+    }
+
+    public int capacity() {
+        return topK;
+    }
+
+    private void maybeRescale(long now) {
+        double exponent = lambdaPerMilli * (now - landmarkMillis);
+        if (exponent < MAX_EXPONENT) {
+            return;
+        }
+        double factor = Math.exp(-exponent);
+        scores.values().forEach(score -> score.value *= factor);
+        scores.values().removeIf(score -> score.value < MIN_SCORE);
+        landmarkMillis = now;
+
+        RankedSet rebuiltGlobal = new RankedSet(topK);
+        Map<String, RankedSet> rebuiltCategories = new HashMap<>();
+        scores.forEach((productId, score) -> {
+            rebuiltGlobal.offer(productId, score.value);
+            if (score.category != null) {
+                rebuiltCategories.computeIfAbsent(score.category, c -> new RankedSet(topK)).offer(productId, score.value);
+            }
+        });
+        global = rebuiltGlobal;
+        byCategory.clear();
+        byCategory.putAll(rebuiltCategories);
+        publishGlobal();
+        categoryRankings.keySet().retainAll(byCategory.keySet());
+        byCategory.keySet().forEach(this::publishCategory);
+        log.debug("Trending scores rescaled: {} products tracked", scores.size());
+    }
+
+    private RankedSet categoryRanking(String category) {
+        return byCategory.computeIfAbsent(category, c -> new RankedSet(topK));
+    }
+
+    private void removeFromCategory(String category, String productId) {
+        RankedSet ranking = byCategory.get(category);
+        if (ranking != null && ranking.remove(productId)) {
+            publishCategory(category);
+        }
+    }
+
+    private void publishGlobal() {
+        globalRanking = new Ranking(List.copyOf(global.descending()), landmarkMillis);
+    }
+
+    private void publishCategory(String category) {
+        RankedSet ranking = byCategory.get(category);
+        if (ranking == null || ranking.isEmpty()) {
+            categoryRankings.remove(category);
+        } else {
+            categoryRankings.put(category, new Ranking(List.copyOf(ranking.descending()), landmarkMillis));
+        }
+    }
+
+    private static String normalize(String category) {
+        return category == null ? null : category.toLowerCase(Locale.ROOT);
+    }
+}
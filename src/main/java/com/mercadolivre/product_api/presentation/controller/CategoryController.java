@@ -6,11 +6,14 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import com.mercadolivre.product_api.application.dto.CategoryDTO;
 import com.mercadolivre.product_api.application.dto.PageResponseDTO;
 import com.mercadolivre.product_api.application.service.ICategoryService;
 import com.mercadolivre.product_api.domain.dto.ApiResponse;
+import com.mercadolivre.product_api.infrastructure.cache.ConditionalResponses;
+import com.mercadolivre.product_api.infrastructure.cache.EntityTags;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -24,34 +27,48 @@ import lombok.RequiredArgsConstructor;
 public class CategoryController {
 
     private final ICategoryService categoryService;
+    private final EntityTags entityTags;
 
     @Operation(summary = "Listar todas as categorias com paginação", 
                description = "Retorna as categorias disponíveis no sistema com paginação")
     @GetMapping
     public ResponseEntity<ApiResponse<PageResponseDTO<CategoryDTO>>> getAllCategories(
             @Parameter(description = "Número da página (começa em 0)") @RequestParam(defaultValue = "0") int page,
-            @Parameter(description = "Quantidade de itens por página (máximo 50)") @RequestParam(defaultValue = "20") int size) {
+            @Parameter(description = "Quantidade de itens por página (máximo 50)") @RequestParam(defaultValue = "20") int size,
+            WebRequest request) {
         if (size > 50) size = 50;
+        String etag = ConditionalResponses.etagFor(request, entityTags.categories());
+        if (ConditionalResponses.notModified(request, etag)) {
+            return null;
+        }
         PageResponseDTO<CategoryDTO> data = categoryService.getAllCategories(page, size);
-        return ResponseEntity.ok(ApiResponse.success(data));
+        return ConditionalResponses.ok(etag, data.isFallback(), data);
     }
 
     @Operation(summary = "Buscar categoria por ID", 
                description = "Retorna os detalhes de uma categoria específica pelo ID")
     @GetMapping("/{id}")
     public ResponseEntity<ApiResponse<CategoryDTO>> getCategoryById(
-            @Parameter(description = "ID da categoria") @PathVariable String id) {
-        CategoryDTO data = categoryService.getCategoryById(id);
-        return ResponseEntity.ok(ApiResponse.success(data));
+            @Parameter(description = "ID da categoria") @PathVariable String id,
+            WebRequest request) {
+        String etag = ConditionalResponses.etagFor(request, entityTags.category(id));
+        if (ConditionalResponses.notModified(request, etag)) {
+            return null;
+        }
+        return ConditionalResponses.ok(etag, false, categoryService.getCategoryById(id));
     }
 
     @Operation(summary = "Buscar categoria por slug", 
                description = "Retorna os detalhes de uma categoria específica pelo slug (URL amigável)")
     @GetMapping("/slug/{slug}")
     public ResponseEntity<ApiResponse<CategoryDTO>> getCategoryBySlug(
-            @Parameter(description = "Slug da categoria (ex: eletronicos)") @PathVariable String slug) {
-        CategoryDTO data = categoryService.getCategoryBySlug(slug);
-        return ResponseEntity.ok(ApiResponse.success(data));
+            @Parameter(description = "Slug da categoria (ex: eletronicos)") @PathVariable String slug,
+            WebRequest request) {
+        String etag = ConditionalResponses.etagFor(request, entityTags.categoryBySlug(slug));
+        if (ConditionalResponses.notModified(request, etag)) {
+            return null;
+        }
+        return ConditionalResponses.ok(etag, false, categoryService.getCategoryBySlug(slug));
     }
 
 }
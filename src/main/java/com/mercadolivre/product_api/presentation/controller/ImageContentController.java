@@ -0,0 +1,130 @@
+package com.mercadolivre.product_api.presentation.controller;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import com.mercadolivre.product_api.domain.exception.ResourceNotFoundException;
+import com.mercadolivre.product_api.infrastructure.storage.ImageContentStore;
+import com.mercadolivre.product_api.infrastructure.storage.ImageContentStore.StoredImage;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+
+/*
+ * Bytes das imagens do armazenamento local endereçado por conteúdo. O nome do arquivo é o hash, então
+ * a resposta é imutável: cache de um ano com "immutable" e ETag = hash. Aceita um único intervalo
+ * (Range/If-Range); pedidos com vários intervalos recebem a imagem inteira, o que a RFC 9110 permite.
+ * Miniaturas em cache saem da memória; as demais vão por sendfile do Tomcat (o conector copia do page
+ * cache para o socket depois que o handler retorna) ou, sem suporte a sendfile, por FileChannel.transferTo.
+ */
+@Tag(name = "Imagens", description = "Endpoints para consulta de imagens de produtos")
+@RestController
+@RequestMapping("/api/v1/images")
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "product-api.image-store.enabled", havingValue = "true")
+public class ImageContentController {
+
+    static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private static final String IMMUTABLE = CacheControl.maxAge(365, TimeUnit.DAYS).cachePublic().immutable().getHeaderValue();
+
+    private final ImageContentStore imageContentStore;
+
+    @Operation(summary = "Baixar o conteúdo de uma imagem",
+               description = "Retorna os bytes da imagem pelo nome endereçado por conteúdo (<sha256>.<extensão>). "
+                       + "Suporta requisições Range de um intervalo e respostas condicionais por ETag")
+    @GetMapping("/content/{fileName}")
+    public void getImageContent(
+            @Parameter(description = "Nome do arquivo: SHA-256 do conteúdo seguido da extensão") @PathVariable String fileName,
+            HttpServletRequest request,
+            HttpServletResponse response) throws IOException {
+        StoredImage image = imageContentStore.find(fileName)
+                .orElseThrow(() -> new ResourceNotFoundException("Image", "fileName", fileName));
+        String etag = "\"" + image.hash() + "\"";
+        response.setHeader(HttpHeaders.CACHE_CONTROL, IMMUTABLE);
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        if (new ServletWebRequest(request, response).checkNotModified(etag)) {
+            return;
+        }
+        response.setContentType(image.mediaType().toString());
+
+        long length = image.length();
+        String range = request.getHeader(HttpHeaders.RANGE);
+        if (range == null || !matchesIfRange(request.getHeader(HttpHeaders.IF_RANGE), etag)) {
+            writeBody(request, response, image, 0, length);
+            return;
+        }
+        List<HttpRange> ranges;
+        try {
+            ranges = HttpRange.parseRanges(range);
+        } catch (IllegalArgumentException e) {
+            // Range malformado é ignorado (RFC 9110, 14.2)
+            ranges = List.of();
+        }
+        if (ranges.size() != 1) {
+            writeBody(request, response, image, 0, length);
+            return;
+        }
+        long start;
+        long end;
+        try {
+            start = ranges.get(0).getRangeStart(length);
+            end = ranges.get(0).getRangeEnd(length);
+        } catch (IllegalArgumentException e) {
+            start = length;
+            end = length - 1;
+        }
+        if (start > end) {
+            response.setStatus(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+            response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+            response.setContentLength(0);
+            return;
+        }
+        response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+        response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + length);
+        writeBody(request, response, image, start, end - start + 1);
+    }
+
+    // If-Range com data nunca casa: o validador forte aqui é o hash
+    private static boolean matchesIfRange(String ifRange, String etag) {
+        return ifRange == null || ifRange.trim().equals(etag);
+    }
+
+    private void writeBody(HttpServletRequest request, HttpServletResponse response, StoredImage image,
+                           long start, long count) throws IOException {
+        response.setContentLengthLong(count);
+        if ("HEAD".equals(request.getMethod()) || count == 0) {
+            return;
+        }
+        if (image.inMemory()) {
+            response.getOutputStream().write(image.bytes(), (int) start, (int) count);
+            return;
+        }
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            request.setAttribute(SENDFILE_FILENAME, image.path().toString());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, start + count);
+            return;
+        }
+        imageContentStore.transferTo(image, start, count, Channels.newChannel(response.getOutputStream()));
+    }
+}
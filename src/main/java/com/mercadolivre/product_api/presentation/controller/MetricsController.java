@@ -1,7 +1,11 @@
 package com.mercadolivre.product_api.presentation.controller;
 
 import com.mercadolivre.product_api.domain.dto.ApiResponse;
+import com.mercadolivre.product_api.infrastructure.cache.HotKeyDetector;
+import com.mercadolivre.product_api.infrastructure.cache.HotKeyPinning;
 import com.mercadolivre.product_api.infrastructure.event.ProductEventListener;
+import com.mercadolivre.product_api.infrastructure.monitoring.ClusterViewCounter;
+import com.mercadolivre.product_api.infrastructure.monitoring.UniqueViewerTracker;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -13,7 +17,9 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 @Tag(name = "Métricas", description = "Endpoints para consulta de métricas de visualização (Demo Async Events)")
 @RestController
@@ -22,36 +28,71 @@ import java.util.Map;
 public class MetricsController {
 
     private final ProductEventListener eventListener;
+    private final HotKeyPinning hotKeyPinning;
+    private final UniqueViewerTracker uniqueViewerTracker;
+    private final ClusterViewCounter clusterViewCounter;
 
     @Operation(summary = "Obter visualizações de um produto", 
-               description = "Retorna o número de visualizações de um produto específico (processado de forma assíncrona)")
+               description = "Retorna o número de visualizações de um produto específico (total somado entre as réplicas, contagem deste nó, janelas de 1m, 5m, 1h e 24h e visitantes únicos estimados por HyperLogLog)")
     @GetMapping("/products/{productId}/views")
     public ResponseEntity<ApiResponse<Map<String, Object>>> getProductViews(
             @Parameter(description = "ID do produto") @PathVariable String productId) {
         
-        int viewCount = eventListener.getProductViewCount(productId);
-        
         Map<String, Object> metrics = new HashMap<>();
         metrics.put("productId", productId);
-        metrics.put("viewCount", viewCount);
+        metrics.put("viewCount", clusterViewCounter.productViews(productId));
+        metrics.put("nodeViewCount", eventListener.getProductViewCount(productId));
+        metrics.put("windows", eventListener.getProductViewWindows(productId));
+        metrics.put("uniqueViewers", uniqueViewerTracker.productUniqueViewers(productId));
+        metrics.put("uniqueViewersStandardError", uniqueViewerTracker.standardError());
         metrics.put("note", "Métricas processadas de forma assíncrona via Spring Events");
         
         return ResponseEntity.ok(ApiResponse.success(metrics, "Product view metrics retrieved successfully"));
     }
 
     @Operation(summary = "Obter visualizações de uma categoria", 
-               description = "Retorna o número de visualizações de produtos de uma categoria (processado de forma assíncrona)")
+               description = "Retorna o número de visualizações de produtos de uma categoria (total somado entre as réplicas, contagem deste nó, janelas de 1m, 5m, 1h e 24h e visitantes únicos estimados por HyperLogLog)")
     @GetMapping("/categories/{category}/views")
     public ResponseEntity<ApiResponse<Map<String, Object>>> getCategoryViews(
             @Parameter(description = "Nome da categoria") @PathVariable String category) {
         
-        int viewCount = eventListener.getCategoryViewCount(category);
-        
         Map<String, Object> metrics = new HashMap<>();
         metrics.put("category", category);
-        metrics.put("viewCount", viewCount);
+        metrics.put("viewCount", clusterViewCounter.categoryViews(category));
+        metrics.put("nodeViewCount", eventListener.getCategoryViewCount(category));
+        metrics.put("windows", eventListener.getCategoryViewWindows(category));
+        metrics.put("uniqueViewers", uniqueViewerTracker.categoryUniqueViewers(category));
+        metrics.put("uniqueViewersStandardError", uniqueViewerTracker.standardError());
         metrics.put("note", "Métricas processadas de forma assíncrona via Spring Events");
         
         return ResponseEntity.ok(ApiResponse.success(metrics, "Category view metrics retrieved successfully"));
     }
+
+    @Operation(summary = "Obter chaves quentes do cache de produtos", 
+               description = "Retorna as chaves mais acessadas do cache de produtos neste nó, com a taxa estimada e se estão fixadas localmente")
+    @GetMapping("/cache/hot-keys")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> getHotKeys() {
+        
+        HotKeyDetector detector = hotKeyPinning.getDetector();
+        Set<Object> pinnedKeys = hotKeyPinning.pinnedKeys();
+        
+        List<Map<String, Object>> keys = detector.topKeys().stream()
+                .map(hotKey -> {
+                    Map<String, Object> entry = new HashMap<>();
+                    entry.put("key", hotKey.key());
+                    entry.put("ratePerSecond", hotKey.ratePerSecond());
+                    entry.put("hot", hotKey.ratePerSecond() >= detector.getThresholdPerSecond());
+                    entry.put("pinned", pinnedKeys.contains(hotKey.key()));
+                    return entry;
+                })
+                .toList();
+        
+        Map<String, Object> metrics = new HashMap<>();
+        metrics.put("cache", "products");
+        metrics.put("thresholdPerSecond", detector.getThresholdPerSecond());
+        metrics.put("keys", keys);
+        metrics.put("note", "Estimativas por nó (count-min sketch com decaimento), não globais");
+        
+        return ResponseEntity.ok(ApiResponse.success(metrics, "Hot cache keys retrieved successfully"));
+    }
 }
@@ -8,11 +8,21 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import com.mercadolivre.product_api.application.dto.PageResponseDTO;
+import com.mercadolivre.product_api.application.dto.ProductDetailDTO;
 import com.mercadolivre.product_api.application.dto.ProductResponseDTO;
+import com.mercadolivre.product_api.application.dto.TrendingProductDTO;
+import com.mercadolivre.product_api.application.service.IProductDetailService;
+import com.mercadolivre.product_api.application.service.IProductEmbedService;
 import com.mercadolivre.product_api.application.service.IProductService;
+import com.mercadolivre.product_api.application.service.ITrendingService;
 import com.mercadolivre.product_api.domain.dto.ApiResponse;
+import com.mercadolivre.product_api.domain.exception.ResourceNotFoundException;
+import com.mercadolivre.product_api.infrastructure.cache.ConditionalResponses;
+import com.mercadolivre.product_api.infrastructure.cache.EntityTags;
+import com.mercadolivre.product_api.infrastructure.cache.ProductIdFilter;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -26,6 +36,11 @@ import lombok.RequiredArgsConstructor;
 public class ProductController {
 
     private final IProductService productService;
+    private final IProductDetailService productDetailService;
+    private final IProductEmbedService productEmbedService;
+    private final ITrendingService trendingService;
+    private final ProductIdFilter productIdFilter;
+    private final EntityTags entityTags;
 
     @Operation(summary = "Listar todos os produtos com paginação e filtros", 
                description = "Retorna uma lista paginada de produtos com metadados de paginação. Pode filtrar por nome e/ou categoria")
@@ -34,9 +49,26 @@ public class ProductController {
             @Parameter(description = "Número da página (começa em 0)") @RequestParam(defaultValue = "0") int page,
             @Parameter(description = "Quantidade de itens por página (máximo 50)") @RequestParam(defaultValue = "20") int size,
             @Parameter(description = "Filtro por nome do produto (busca parcial)") @RequestParam(required = false) String name,
-            @Parameter(description = "Filtro por categoria do produto") @RequestParam(required = false) String category) {
+            @Parameter(description = "Filtro por categoria do produto") @RequestParam(required = false) String category,
+            @Parameter(description = "Dados embutidos em cada produto: primaryImage, categoryName (separados por vírgula)") @RequestParam(required = false) String embed,
+            WebRequest request) {
         if (size > 50) size = 50;
-        PageResponseDTO<ProductResponseDTO> data = productService.getAllProducts(page, size, name, category);
+        String etag = ConditionalResponses.etagFor(request, entityTags.withEmbeds(entityTags.products(), embed));
+        if (ConditionalResponses.notModified(request, etag)) {
+            return null;
+        }
+        PageResponseDTO<ProductResponseDTO> result = productService.getAllProducts(page, size, name, category);
+        return ConditionalResponses.ok(etag, result.isFallback(), productEmbedService.embed(result, embed));
+    }
+
+    @Operation(summary = "Listar produtos em alta", 
+               description = "Retorna os produtos mais populares no momento (visualizações com decaimento exponencial), no geral ou por categoria")
+    @GetMapping("/trending")
+    public ResponseEntity<ApiResponse<List<TrendingProductDTO>>> getTrendingProducts(
+            @Parameter(description = "Filtro por categoria do produto") @RequestParam(required = false) String category,
+            @Parameter(description = "Quantidade de produtos (máximo 50)") @RequestParam(defaultValue = "10") int limit) {
+        if (limit > 50) limit = 50;
+        List<TrendingProductDTO> data = trendingService.getTrendingProducts(category, Math.max(limit, 0));
         return ResponseEntity.ok(ApiResponse.success(data));
     }
 
@@ -44,9 +76,15 @@ public class ProductController {
                description = "Retorna os detalhes de um produto específico pelo ID")
     @GetMapping("/{id}")
     public ResponseEntity<ApiResponse<ProductResponseDTO>> getProductById(
-            @Parameter(description = "ID do produto") @PathVariable String id) {
-        ProductResponseDTO data = productService.getProductById(id);
-        return ResponseEntity.ok(ApiResponse.success(data));
+            @Parameter(description = "ID do produto") @PathVariable String id,
+            @Parameter(description = "Dados embutidos em cada produto: primaryImage, categoryName (separados por vírgula)") @RequestParam(required = false) String embed,
+            WebRequest request) {
+        requireKnownProduct(id);
+        String etag = ConditionalResponses.etagFor(request, entityTags.withEmbeds(entityTags.product(id), embed));
+        if (ConditionalResponses.notModified(request, etag)) {
+            return null;
+        }
+        return ConditionalResponses.ok(etag, false, productEmbedService.embed(productService.getProductById(id), embed));
     }
 
     @Operation(summary = "Buscar produtos por categoria com paginação", 
@@ -55,10 +93,16 @@ public class ProductController {
     public ResponseEntity<ApiResponse<PageResponseDTO<ProductResponseDTO>>> getProductsByCategory(
             @Parameter(description = "Slug ou nome da categoria") @PathVariable String category,
             @Parameter(description = "Número da página (começa em 0)") @RequestParam(defaultValue = "0") int page,
-            @Parameter(description = "Quantidade de itens por página (máximo 50)") @RequestParam(defaultValue = "20") int size) {
+            @Parameter(description = "Quantidade de itens por página (máximo 50)") @RequestParam(defaultValue = "20") int size,
+            @Parameter(description = "Dados embutidos em cada produto: primaryImage, categoryName (separados por vírgula)") @RequestParam(required = false) String embed,
+            WebRequest request) {
         if (size > 50) size = 50;
-        PageResponseDTO<ProductResponseDTO> data = productService.getProductsByCategory(category, page, size);
-        return ResponseEntity.ok(ApiResponse.success(data));
+        String etag = ConditionalResponses.etagFor(request, entityTags.withEmbeds(entityTags.productsInCategory(category), embed));
+        if (ConditionalResponses.notModified(request, etag)) {
+            return null;
+        }
+        PageResponseDTO<ProductResponseDTO> result = productService.getProductsByCategory(category, page, size);
+        return ConditionalResponses.ok(etag, result.isFallback(), productEmbedService.embed(result, embed));
     }
 
     @Operation(summary = "Buscar produtos recomendados com paginação", 
@@ -67,10 +111,36 @@ public class ProductController {
     public ResponseEntity<ApiResponse<PageResponseDTO<ProductResponseDTO>>> getRecommendedProducts(
             @Parameter(description = "ID do produto base para recomendações") @PathVariable String id,
             @Parameter(description = "Número da página (começa em 0)") @RequestParam(defaultValue = "0") int page,
-            @Parameter(description = "Quantidade de itens por página (máximo 50)") @RequestParam(defaultValue = "20") int size) {
+            @Parameter(description = "Quantidade de itens por página (máximo 50)") @RequestParam(defaultValue = "20") int size,
+            @Parameter(description = "Dados embutidos em cada produto: primaryImage, categoryName (separados por vírgula)") @RequestParam(required = false) String embed,
+            WebRequest request) {
         if (size > 50) size = 50;
-        PageResponseDTO<ProductResponseDTO> data = productService.getRecommendedProducts(id, page, size);
-        return ResponseEntity.ok(ApiResponse.success(data));
+        requireKnownProduct(id);
+        String etag = ConditionalResponses.etagFor(request, entityTags.withEmbeds(entityTags.recommended(id), embed));
+        if (ConditionalResponses.notModified(request, etag)) {
+            return null;
+        }
+        PageResponseDTO<ProductResponseDTO> result = productService.getRecommendedProducts(id, page, size);
+        return ConditionalResponses.ok(etag, result.isFallback(), productEmbedService.embed(result, embed));
+    }
+
+    @Operation(summary = "Buscar página completa do produto",
+               description = "Retorna produto, categoria, imagens e recomendados numa única chamada, buscados em paralelo. "
+                       + "Partes que falharem ou excederem o prazo vêm vazias e listadas em 'unavailable'")
+    @GetMapping("/{id}/detail")
+    public ResponseEntity<ApiResponse<ProductDetailDTO>> getProductDetail(
+            @Parameter(description = "ID do produto") @PathVariable String id) {
+        requireKnownProduct(id);
+        ProductDetailDTO data = productDetailService.getProductDetail(id);
+        // Resposta parcial não deve ficar no micro-cache do nginx
+        return ConditionalResponses.ok(null, !data.getUnavailable().isEmpty(), data);
+    }
+
+    // Ids que certamente não existem respondem 404 sem passar por retry, circuit breaker e cache
+    private void requireKnownProduct(String id) {
+        if (!productIdFilter.mightContain(id)) {
+            throw new ResourceNotFoundException("Product", "id", id);
+        }
     }
 
 }
@@ -1,16 +1,25 @@
 package com.mercadolivre.product_api.presentation.controller;
 
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.mercadolivre.product_api.application.dto.ImageBatchRequestDTO;
 import com.mercadolivre.product_api.application.dto.PageResponseDTO;
 import com.mercadolivre.product_api.application.dto.ProductImageDTO;
 import com.mercadolivre.product_api.application.service.IProductImageService;
 import com.mercadolivre.product_api.domain.dto.ApiResponse;
+import com.mercadolivre.product_api.domain.exception.InvalidRequestException;
+import com.mercadolivre.product_api.infrastructure.cache.ConditionalResponses;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -23,6 +32,8 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class ProductImageController {
 
+    static final int MAX_BATCH_PRODUCTS = 100;
+
     private final IProductImageService productImageService;
 
     @Operation(summary = "Buscar imagens por produto com paginação", 
@@ -34,6 +45,29 @@ public class ProductImageController {
             @Parameter(description = "Quantidade de itens por página (máximo 50)") @RequestParam(defaultValue = "20") int size) {
         if (size > 50) size = 50;
         PageResponseDTO<ProductImageDTO> data = productImageService.getImagesByProductId(productId, page, size);
+        // Página vazia do fallback não deve ficar no micro-cache do nginx
+        return ConditionalResponses.ok(null, data.isFallback(), data);
+    }
+
+    @Operation(summary = "Buscar imagens de vários produtos",
+               description = "Retorna as imagens de até 100 produtos numa única chamada, agrupadas por ID do produto "
+                       + "(na ordem pedida) e ordenadas por displayOrder. Produtos sem imagens recebem lista vazia")
+    @PostMapping("/batch")
+    public ResponseEntity<ApiResponse<Map<String, List<ProductImageDTO>>>> getImagesByProductIds(
+            @RequestBody ImageBatchRequestDTO batch) {
+        List<String> productIds = batch.getProductIds() == null ? List.of() : batch.getProductIds().stream()
+                .filter(Objects::nonNull)
+                .map(String::trim)
+                .filter(id -> !id.isEmpty())
+                .distinct()
+                .toList();
+        if (productIds.isEmpty()) {
+            throw new InvalidRequestException("productIds must contain at least one product id");
+        }
+        if (productIds.size() > MAX_BATCH_PRODUCTS) {
+            throw new InvalidRequestException("productIds must contain at most " + MAX_BATCH_PRODUCTS + " product ids");
+        }
+        Map<String, List<ProductImageDTO>> data = productImageService.getImagesByProductIds(productIds);
         return ResponseEntity.ok(ApiResponse.success(data));
     }
 
@@ -0,0 +1,202 @@
+package com.mercadolivre.product_api.application.service;
+
+import com.mercadolivre.product_api.application.dto.CategoryDTO;
+import com.mercadolivre.product_api.application.dto.PageResponseDTO;
+import com.mercadolivre.product_api.application.dto.ProductDetailDTO;
+import com.mercadolivre.product_api.application.dto.ProductImageDTO;
+import com.mercadolivre.product_api.application.dto.ProductResponseDTO;
+import com.mercadolivre.product_api.domain.exception.ResourceNotFoundException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.stubbing.Answer;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ProductDetailService Tests")
+class ProductDetailServiceTest {
+
+    @Mock
+    private IProductService productService;
+
+    @Mock
+    private IProductImageService productImageService;
+
+    @Mock
+    private ICategoryService categoryService;
+
+    private ProductDetailService productDetailService;
+    private ProductResponseDTO product;
+    private CategoryDTO category;
+    private PageResponseDTO<ProductImageDTO> images;
+    private PageResponseDTO<ProductResponseDTO> recommended;
+
+    @BeforeEach
+    void setUp() {
+        productDetailService = new ProductDetailService(productService, productImageService, categoryService, Duration.ofSeconds(2));
+        product = ProductResponseDTO.builder().id("1").name("Product 1").category("eletronicos").build();
+        category = CategoryDTO.builder().id("c1").name("Eletrônicos").slug("eletronicos").build();
+        images = PageResponseDTO.<ProductImageDTO>builder()
+                .content(List.of(ProductImageDTO.builder().id("img1").productId("1").isPrimary(true).build()))
+                .build();
+        recommended = PageResponseDTO.<ProductResponseDTO>builder()
+                .content(List.of(ProductResponseDTO.builder().id("2").category("eletronicos").build()))
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        productDetailService.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should fetch the parts concurrently, taking about as long as the slowest path")
+    void shouldFetchPartsConcurrently() {
+        // Given
+        when(productService.getProductById("1")).thenAnswer(after(100, product));
+        when(categoryService.getCategoryBySlug("eletronicos")).thenAnswer(after(100, category));
+        when(productImageService.getImagesByProductId("1", 0, 20)).thenAnswer(after(300, images));
+        when(productService.getRecommendedProducts("1", 0, 10)).thenAnswer(after(300, recommended));
+
+        // When
+        long start = System.nanoTime();
+        ProductDetailDTO detail = productDetailService.getProductDetail("1");
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        // Then
+        assertThat(detail.getProduct()).isEqualTo(product);
+        assertThat(detail.getCategory()).isEqualTo(category);
+        assertThat(detail.getImages()).isEqualTo(images.getContent());
+        assertThat(detail.getRecommended()).isEqualTo(recommended.getContent());
+        assertThat(detail.getUnavailable()).isEmpty();
+        assertThat(elapsedMillis).isLessThan(550);
+    }
+
+    @Test
+    @DisplayName("Should return partial results when a non-critical part fails")
+    void shouldReturnPartialResultsOnFailure() {
+        // Given
+        when(productService.getProductById("1")).thenReturn(product);
+        when(categoryService.getCategoryBySlug("eletronicos")).thenReturn(category);
+        when(productImageService.getImagesByProductId("1", 0, 20)).thenThrow(new RuntimeException("Service temporarily unavailable"));
+        when(productService.getRecommendedProducts("1", 0, 10)).thenReturn(recommended);
+
+        // When
+        ProductDetailDTO detail = productDetailService.getProductDetail("1");
+
+        // Then
+        assertThat(detail.getImages()).isEmpty();
+        assertThat(detail.getUnavailable()).containsExactly(ProductDetailService.IMAGES);
+        assertThat(detail.getCategory()).isEqualTo(category);
+        assertThat(detail.getRecommended()).isEqualTo(recommended.getContent());
+    }
+
+    @Test
+    @DisplayName("Should list parts answered by a circuit breaker fallback as unavailable")
+    void shouldTreatFallbackPagesAsUnavailable() {
+        // Given
+        when(productService.getProductById("1")).thenReturn(product);
+        when(categoryService.getCategoryBySlug("eletronicos")).thenReturn(category);
+        when(productImageService.getImagesByProductId("1", 0, 20))
+                .thenReturn(PageResponseDTO.<ProductImageDTO>builder().content(List.of()).empty(true).fallback(true).build());
+        when(productService.getRecommendedProducts("1", 0, 10)).thenReturn(recommended);
+
+        // When
+        ProductDetailDTO detail = productDetailService.getProductDetail("1");
+
+        // Then
+        assertThat(detail.getImages()).isEmpty();
+        assertThat(detail.getUnavailable()).containsExactly(ProductDetailService.IMAGES);
+        assertThat(detail.getRecommended()).isEqualTo(recommended.getContent());
+    }
+
+    @Test
+    @DisplayName("Should bound the required product fetch by the shared deadline")
+    void shouldFailWhenProductMissesDeadline() throws Exception {
+        // Given
+        productDetailService.shutdown();
+        productDetailService = new ProductDetailService(productService, productImageService, categoryService, Duration.ofMillis(200));
+        CountDownLatch interrupted = new CountDownLatch(1);
+        when(productService.getProductById("1")).thenAnswer(invocation -> {
+            try {
+                Thread.sleep(5_000);
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+            }
+            return product;
+        });
+
+        // When
+        long start = System.nanoTime();
+        assertThatThrownBy(() -> productDetailService.getProductDetail("1"))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessageContaining("temporarily unavailable");
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        // Then
+        assertThat(elapsedMillis).isLessThan(1_000);
+        assertThat(interrupted.await(1, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should answer at the shared deadline and cancel the parts still running")
+    void shouldCancelPartsPastDeadline() throws Exception {
+        // Given
+        productDetailService.shutdown();
+        productDetailService = new ProductDetailService(productService, productImageService, categoryService, Duration.ofMillis(200));
+        CountDownLatch interrupted = new CountDownLatch(1);
+        when(productService.getProductById("1")).thenReturn(product);
+        when(categoryService.getCategoryBySlug("eletronicos")).thenReturn(category);
+        when(productImageService.getImagesByProductId("1", 0, 20)).thenReturn(images);
+        when(productService.getRecommendedProducts("1", 0, 10)).thenAnswer(invocation -> {
+            try {
+                Thread.sleep(5_000);
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+            }
+            return recommended;
+        });
+
+        // When
+        long start = System.nanoTime();
+        ProductDetailDTO detail = productDetailService.getProductDetail("1");
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        // Then
+        assertThat(detail.getUnavailable()).containsExactly(ProductDetailService.RECOMMENDED);
+        assertThat(detail.getRecommended()).isEmpty();
+        assertThat(detail.getImages()).isEqualTo(images.getContent());
+        assertThat(elapsedMillis).isLessThan(1_000);
+        assertThat(interrupted.await(1, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should propagate a missing product instead of returning a partial page")
+    void shouldPropagateMissingProduct() {
+        // Given
+        when(productService.getProductById("missing")).thenThrow(new ResourceNotFoundException("Product", "id", "missing"));
+
+        // When & Then
+        assertThatThrownBy(() -> productDetailService.getProductDetail("missing"))
+                .isInstanceOf(ResourceNotFoundException.class);
+    }
+
+    private static <T> Answer<T> after(long millis, T value) {
+        return invocation -> {
+            Thread.sleep(millis);
+            return value;
+        };
+    }
+}
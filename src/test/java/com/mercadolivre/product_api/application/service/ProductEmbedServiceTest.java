@@ -0,0 +1,106 @@
+package com.mercadolivre.product_api.application.service;
+
+import com.mercadolivre.product_api.application.dto.PageResponseDTO;
+import com.mercadolivre.product_api.application.dto.ProductResponseDTO;
+import com.mercadolivre.product_api.domain.model.ProductImage;
+import com.mercadolivre.product_api.infrastructure.repository.CategoryRepositoryInMemory;
+import com.mercadolivre.product_api.infrastructure.repository.ProductImageRepositoryInMemory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ProductEmbedService Tests")
+class ProductEmbedServiceTest {
+
+    private ProductImageRepositoryInMemory imageRepository;
+    private ProductEmbedService productEmbedService;
+    private PageResponseDTO<ProductResponseDTO> page;
+
+    @BeforeEach
+    void setUp() {
+        imageRepository = new ProductImageRepositoryInMemory();
+        productEmbedService = new ProductEmbedService(imageRepository, new CategoryRepositoryInMemory());
+        page = PageResponseDTO.<ProductResponseDTO>builder()
+                .content(List.of(
+                        ProductResponseDTO.builder().id("p1").name("Product 1").category("eletronicos").build(),
+                        ProductResponseDTO.builder().id("p2").name("Product 2").category("moda").build()))
+                .pageNumber(0)
+                .pageSize(20)
+                .totalElements(2)
+                .totalPages(1)
+                .first(true)
+                .last(true)
+                .build();
+    }
+
+    @Test
+    @DisplayName("Should embed the primary image from the index and the category display name")
+    void shouldEmbedPrimaryImageAndCategoryName() {
+        // Given
+        imageRepository.save(image("img1", "p1", false, 1));
+        imageRepository.save(image("img2", "p1", true, 3));
+        imageRepository.save(image("img3", "p1", true, 2));
+
+        // When
+        PageResponseDTO<ProductResponseDTO> embedded = productEmbedService.embed(page, "primaryImage, categoryName");
+
+        // Then
+        assertThat(embedded.getContent().get(0).getPrimaryImage().getId()).isEqualTo("img3");
+        assertThat(embedded.getContent().get(0).getCategoryName()).isEqualTo("Eletrônicos");
+        assertThat(embedded.getContent().get(1).getPrimaryImage()).isNull();
+        assertThat(embedded.getContent().get(1).getCategoryName()).isEqualTo("Moda");
+        assertThat(embedded.getTotalElements()).isEqualTo(2);
+        assertThat(embedded.isLast()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should copy the DTOs instead of changing the ones held by the service cache")
+    void shouldNotMutateServiceResult() {
+        // Given
+        imageRepository.save(image("img1", "p1", true, 1));
+
+        // When
+        PageResponseDTO<ProductResponseDTO> embedded = productEmbedService.embed(page, "primaryImage");
+
+        // Then
+        assertThat(embedded.getContent().get(0).getPrimaryImage()).isNotNull();
+        assertThat(embedded.getContent().get(0).getCategoryName()).isNull();
+        assertThat(page.getContent().get(0).getPrimaryImage()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should return the same page when nothing valid is requested")
+    void shouldReturnSamePageWithoutEmbeds() {
+        // When & Then
+        assertThat(productEmbedService.embed(page, null)).isSameAs(page);
+        assertThat(productEmbedService.embed(page, "reviews")).isSameAs(page);
+    }
+
+    @Test
+    @DisplayName("Should move the primary image when it is demoted")
+    void shouldFollowPrimaryImageChanges() {
+        // Given
+        imageRepository.save(image("img1", "p1", true, 1));
+        imageRepository.save(image("img2", "p1", true, 2));
+
+        // When
+        imageRepository.save(image("img1", "p1", false, 1));
+
+        // Then
+        assertThat(productEmbedService.embed(page.getContent().get(0), "primaryImage").getPrimaryImage().getId()).isEqualTo("img2");
+    }
+
+    private static ProductImage image(String id, String productId, boolean primary, int displayOrder) {
+        return ProductImage.builder()
+                .id(id)
+                .productId(productId)
+                .url("http://example.com/" + id + ".jpg")
+                .isPrimary(primary)
+                .displayOrder(displayOrder)
+                .build();
+    }
+}
@@ -14,6 +14,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.*;
@@ -143,4 +144,26 @@ class ProductImageServiceTest {
 
         verify(productImageRepository).findByProductId("prod2");
     }
+
+    @Test
+    @DisplayName("Should group images of several products in request order with a single index read")
+    void shouldReturnImagesForSeveralProducts() {
+        // Given
+        List<String> productIds = List.of("prod2", "prod1", "prod3");
+        when(productImageRepository.findByProductIds(productIds))
+                .thenReturn(Map.of("prod1", List.of(image1, image2, image3)));
+
+        // When
+        Map<String, List<ProductImageDTO>> result = productImageService.getImagesByProductIds(productIds);
+
+        // Then
+        assertThat(result).containsOnlyKeys("prod2", "prod1", "prod3");
+        assertThat(result.keySet()).containsExactly("prod2", "prod1", "prod3");
+        assertThat(result.get("prod1")).extracting(ProductImageDTO::getId).containsExactly("img1", "img2", "img3");
+        assertThat(result.get("prod2")).isEmpty();
+        assertThat(result.get("prod3")).isEmpty();
+
+        verify(productImageRepository).findByProductIds(productIds);
+        verify(productImageRepository, never()).findByProductId(anyString());
+    }
 }
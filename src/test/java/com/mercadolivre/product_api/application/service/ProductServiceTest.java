@@ -2,7 +2,6 @@ package com.mercadolivre.product_api.application.service;
 
 import com.mercadolivre.product_api.application.dto.PageResponseDTO;
 import com.mercadolivre.product_api.application.dto.ProductResponseDTO;
-import com.mercadolivre.product_api.domain.event.ProductViewedEvent;
 import com.mercadolivre.product_api.domain.exception.ResourceNotFoundException;
 import com.mercadolivre.product_api.domain.model.Product;
 import com.mercadolivre.product_api.domain.repository.ProductRepository;
@@ -14,7 +13,6 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.context.ApplicationEventPublisher;
 
 import java.math.BigDecimal;
 import java.util.Arrays;
@@ -23,7 +21,6 @@ import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
-import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -33,9 +30,6 @@ class ProductServiceTest {
     @Mock
     private ProductRepository productRepository;
 
-    @Mock
-    private ApplicationEventPublisher eventPublisher;
-
     @InjectMocks
     private ProductService productService;
 
@@ -74,8 +68,8 @@ class ProductServiceTest {
     }
 
     @Test
-    @DisplayName("Should return product by ID and publish event")
-    void shouldReturnProductByIdAndPublishEvent() {
+    @DisplayName("Should return product by ID")
+    void shouldReturnProductById() {
         // Given
         when(productRepository.findById("1")).thenReturn(Optional.of(product1));
 
@@ -89,7 +83,6 @@ class ProductServiceTest {
         assertThat(result.getPrice()).isEqualByComparingTo(new BigDecimal("100.00"));
 
         verify(productRepository).findById("1");
-        verify(eventPublisher).publishEvent(any(ProductViewedEvent.class));
     }
 
     @Test
@@ -104,7 +97,6 @@ class ProductServiceTest {
                 .hasMessageContaining("Product not found with id: 999");
 
         verify(productRepository).findById("999");
-        verify(eventPublisher, never()).publishEvent(any());
     }
 
     @Test
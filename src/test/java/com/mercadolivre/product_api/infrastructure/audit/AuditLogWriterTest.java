@@ -0,0 +1,133 @@
+package com.mercadolivre.product_api.infrastructure.audit;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mercadolivre.product_api.domain.event.ProductViewedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("AuditLogWriter Tests")
+class AuditLogWriterTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("Should write every view as an NDJSON record and compress closed segments")
+    void shouldWriteRecordsAndCompressSegments() throws IOException {
+        // Given
+        AuditLogWriter writer = newWriter(2_048);
+        writer.start();
+
+        // When
+        for (int batch = 0; batch < 20; batch++) {
+            writer.handleBatch(views(batch, 25));
+        }
+        writer.handleCoalescedViews(new ProductViewedEvent(this, "prod1", "Product", "electronics", "req-c"), 40);
+        writer.stop();
+
+        // Then
+        List<Path> compressed = files(AuditSegments.COMPRESSED_SUFFIX);
+        assertThat(compressed).hasSizeGreaterThan(1);
+        assertThat(files(AuditSegments.SEGMENT_SUFFIX)).isEmpty();
+
+        List<JsonNode> records = new ArrayList<>();
+        for (Path segment : compressed) {
+            records.addAll(readGzip(segment));
+        }
+        assertThat(records).hasSize(501);
+        assertThat(records).filteredOn(r -> r.get("requestId").asText().equals("req-c"))
+                .singleElement()
+                .satisfies(r -> assertThat(r.get("views").asInt()).isEqualTo(40));
+        assertThat(records.get(0).get("event").asText()).isEqualTo("PRODUCT_VIEWED");
+    }
+
+    @Test
+    @DisplayName("Should escape field values so every line stays valid JSON")
+    void shouldEscapeFieldValues() throws IOException {
+        // Given
+        AuditLogWriter writer = newWriter(64 * 1024 * 1024);
+        writer.start();
+
+        // When
+        writer.handleBatch(List.of(new ProductViewedEvent(this, "prod\"1", "Product", "tv\\audio", "req\n1", "visitor\t1")));
+        writer.stop();
+
+        // Then
+        List<JsonNode> records = readGzip(files(AuditSegments.COMPRESSED_SUFFIX).get(0));
+        assertThat(records).hasSize(1);
+        JsonNode record = records.get(0);
+        assertThat(record.get("productId").asText()).isEqualTo("prod\"1");
+        assertThat(record.get("category").asText()).isEqualTo("tv\\audio");
+        assertThat(record.get("requestId").asText()).isEqualTo("req\n1");
+        assertThat(record.get("visitorId").asText()).isEqualTo("visitor\t1");
+    }
+
+    @Test
+    @DisplayName("Should compress only this instance's segments left open by a previous run on startup")
+    void shouldCompressLeftoverSegmentsOnStartup() throws IOException {
+        // Given
+        Path leftover = tempDir.resolve("audit-node-1_20250101T000000Z-0000" + AuditSegments.SEGMENT_SUFFIX);
+        Path otherReplica = tempDir.resolve("audit-node-1.b_20250101T000000Z-0000" + AuditSegments.SEGMENT_SUFFIX);
+        Files.writeString(leftover, "{\"event\":\"PRODUCT_VIEWED\",\"views\":1}\n");
+        Files.writeString(otherReplica, "{\"event\":\"PRODUCT_VIEWED\",\"views\":2}\n");
+        AuditLogWriter writer = newWriter(64 * 1024 * 1024);
+
+        // When
+        writer.start();
+        writer.stop();
+
+        // Then
+        assertThat(leftover).doesNotExist();
+        assertThat(readGzip(tempDir.resolve("audit-node-1_20250101T000000Z-0000" + AuditSegments.COMPRESSED_SUFFIX))).hasSize(1);
+        assertThat(otherReplica).exists();
+        assertThat(tempDir.resolve("audit-node-1.b_20250101T000000Z-0000" + AuditSegments.COMPRESSED_SUFFIX)).doesNotExist();
+    }
+
+    private AuditLogWriter newWriter(long maxSegmentBytes) {
+        return new AuditLogWriter(new SimpleMeterRegistry(), tempDir, "node-1", maxSegmentBytes, 64, false);
+    }
+
+    private List<ProductViewedEvent> views(int batch, int count) {
+        List<ProductViewedEvent> events = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            events.add(new ProductViewedEvent(this, "prod" + i, "Product", "electronics", "req-" + batch + "-" + i, "visitor" + i));
+        }
+        return events;
+    }
+
+    private List<Path> files(String suffix) throws IOException {
+        try (Stream<Path> files = Files.list(tempDir)) {
+            return files.filter(path -> path.getFileName().toString().endsWith(suffix)).sorted().toList();
+        }
+    }
+
+    private List<JsonNode> readGzip(Path segment) throws IOException {
+        List<JsonNode> records = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                new GZIPInputStream(Files.newInputStream(segment)), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                records.add(objectMapper.readTree(line));
+            }
+        }
+        return records;
+    }
+}
@@ -0,0 +1,71 @@
+package com.mercadolivre.product_api.infrastructure.cache;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("BulkheadCache Tests")
+class BulkheadCacheTest {
+
+    private ConcurrentMapCache shared;
+    private Bulkhead bulkhead;
+    private BulkheadCache cache;
+
+    @BeforeEach
+    void setUp() {
+        shared = new ConcurrentMapCache(CacheNames.PRODUCTS);
+        bulkhead = Bulkhead.of("test", BulkheadConfig.custom()
+                .maxConcurrentCalls(1)
+                .maxWaitDuration(Duration.ZERO)
+                .build());
+        cache = new BulkheadCache(shared, bulkhead);
+        shared.put("1", "p1");
+    }
+
+    @Test
+    @DisplayName("Should read and write through while permits are available")
+    void shouldDelegateWithinLimit() {
+        // When
+        cache.put("2", "p2");
+
+        // Then
+        assertThat(cache.get("1").get()).isEqualTo("p1");
+        assertThat(shared.get("2").get()).isEqualTo("p2");
+        assertThat(bulkhead.getMetrics().getAvailableConcurrentCalls()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should treat reads as misses and skip writes when the bulkhead is full")
+    void shouldBypassWhenFull() {
+        // Given
+        bulkhead.acquirePermission();
+
+        // When
+        cache.put("2", "p2");
+
+        // Then
+        assertThat(cache.get("1")).isNull();
+        assertThat(shared.get("2")).isNull();
+        assertThat(cache.get("1", () -> "loaded")).isEqualTo("loaded");
+    }
+
+    @Test
+    @DisplayName("Should always apply evictions even when the bulkhead is full")
+    void shouldEvictWhenFull() {
+        // Given
+        bulkhead.acquirePermission();
+
+        // When
+        cache.evict("1");
+
+        // Then
+        assertThat(shared.get("1")).isNull();
+    }
+}
@@ -0,0 +1,62 @@
+package com.mercadolivre.product_api.infrastructure.cache;
+
+import com.mercadolivre.product_api.ProductApiApplication;
+import com.mercadolivre.product_api.application.service.IProductService;
+import com.mercadolivre.product_api.domain.repository.ProductRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Cache warm-up across restarts Tests")
+class CacheWarmupRestartTest {
+
+    @TempDir
+    Path dataDir;
+
+    @Test
+    @DisplayName("Should prefill the keys recorded before a restart")
+    void shouldWarmUpKeysRecordedBeforeRestart() {
+        // Given
+        String productId;
+        try (ConfigurableApplicationContext context = start()) {
+            productId = context.getBean(ProductRepository.class).findAll().get(0).getId();
+            context.getBean(IProductService.class).getProductById(productId);
+            context.getBean(HotKeyRecorder.class).recordHotKeys();
+        }
+
+        // When
+        try (ConfigurableApplicationContext context = start()) {
+            Map<String, List<String>> recorded = context.getBean(HotKeyStore.class).load();
+            Counter loaded = context.getBean(MeterRegistry.class).find("cache.warmup.keys")
+                    .tag("cache", CacheNames.PRODUCTS)
+                    .tag("result", "loaded")
+                    .counter();
+
+            // Then
+            assertThat(dataDir.resolve("warmup-restart/hot-keys.tsv")).exists();
+            assertThat(recorded.get(CacheNames.PRODUCTS)).contains(productId);
+            assertThat(loaded).isNotNull();
+            assertThat(loaded.count()).isGreaterThan(0);
+        }
+    }
+
+    // Mesmo instance-id e mesmo diretório nas duas subidas, como uma réplica recriada sobre o mesmo volume
+    private ConfigurableApplicationContext start() {
+        return new SpringApplicationBuilder(ProductApiApplication.class)
+                .run("--server.port=0",
+                     "--product-api.instance-id=warmup-restart",
+                     "--product-api.cache.warmup.hot-keys-file=" + dataDir + "/${product-api.instance-id}/hot-keys.tsv",
+                     "--product-api.view-snapshot.file=" + dataDir + "/${product-api.instance-id}/view-counts.snapshot",
+                     "--product-api.audit.directory=" + dataDir + "/audit");
+    }
+}
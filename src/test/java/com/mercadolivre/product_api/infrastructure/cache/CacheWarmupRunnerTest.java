@@ -0,0 +1,88 @@
+package com.mercadolivre.product_api.infrastructure.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CacheWarmupRunner Tests")
+class CacheWarmupRunnerTest {
+
+    @Mock
+    private HotKeyStore hotKeyStore;
+
+    @Mock
+    private CacheWarmupLoader warmupLoader;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    @DisplayName("Should prefill recorded hot keys and export the results as metrics")
+    void shouldPrefillRecordedHotKeys() {
+        // Given
+        when(hotKeyStore.load()).thenReturn(Map.of(CacheNames.PRODUCTS, List.of("1", "2", "gone")));
+        when(warmupLoader.load(CacheNames.PRODUCTS, "1")).thenReturn(true);
+        when(warmupLoader.load(CacheNames.PRODUCTS, "2")).thenReturn(true);
+        when(warmupLoader.load(CacheNames.PRODUCTS, "gone")).thenReturn(false);
+
+        // When
+        runner(true).run(null);
+
+        // Then
+        assertThat(keys("loaded")).isEqualTo(2);
+        assertThat(keys("skipped")).isEqualTo(1);
+        assertThat(meterRegistry.get("cache.warmup.duration").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("cache.warmup.budget").gauge().value()).isEqualTo(5.0);
+    }
+
+    @Test
+    @DisplayName("Should count failures without aborting the warm-up")
+    void shouldCountFailuresWithoutAbortingWarmup() {
+        // Given
+        when(hotKeyStore.load()).thenReturn(Map.of(CacheNames.PRODUCTS, List.of("1", "2")));
+        when(warmupLoader.load(CacheNames.PRODUCTS, "1")).thenThrow(new IllegalStateException("boom"));
+        when(warmupLoader.load(CacheNames.PRODUCTS, "2")).thenReturn(true);
+
+        // When
+        runner(true).run(null);
+
+        // Then
+        assertThat(keys("failed")).isEqualTo(1);
+        assertThat(keys("loaded")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should do nothing when warm-up is disabled")
+    void shouldDoNothingWhenDisabled() {
+        // When
+        runner(false).run(null);
+
+        // Then
+        verifyNoInteractions(hotKeyStore, warmupLoader);
+    }
+
+    private CacheWarmupRunner runner(boolean enabled) {
+        return new CacheWarmupRunner(hotKeyStore, warmupLoader, meterRegistry, enabled, Duration.ofSeconds(5), 2);
+    }
+
+    private double keys(String result) {
+        return meterRegistry.get("cache.warmup.keys").tag("cache", CacheNames.PRODUCTS).tag("result", result)
+                .counter().count();
+    }
+}
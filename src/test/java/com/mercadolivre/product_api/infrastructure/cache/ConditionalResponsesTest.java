@@ -0,0 +1,62 @@
+package com.mercadolivre.product_api.infrastructure.cache;
+
+import com.mercadolivre.product_api.domain.dto.ApiResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ConditionalResponses Tests")
+class ConditionalResponsesTest {
+
+    @Test
+    @DisplayName("Should answer 304 only when If-None-Match carries the current tag")
+    void shouldAnswerNotModifiedForCurrentTag() {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/products/1");
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, "\"b-p1\"");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        boolean stale = ConditionalResponses.notModified(new ServletWebRequest(request, response), "\"b-p2\"");
+        boolean current = ConditionalResponses.notModified(new ServletWebRequest(request, response), "\"b-p1\"");
+
+        // Then
+        assertThat(stale).isFalse();
+        assertThat(current).isTrue();
+        assertThat(response.getStatus()).isEqualTo(304);
+    }
+
+    @Test
+    @DisplayName("Should pick the tag of the representation in the Accept header")
+    void shouldPickTagForAccept() {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/products/1");
+        request.addHeader(HttpHeaders.ACCEPT, "application/cbor");
+
+        // When
+        String etag = ConditionalResponses.etagFor(new ServletWebRequest(request), "\"b-p1\"");
+
+        // Then
+        assertThat(etag).isEqualTo("\"b-p1.cbor\"");
+    }
+
+    @Test
+    @DisplayName("Should send no-store and no ETag for a fallback page")
+    void shouldNotTagFallback() {
+        // When
+        ResponseEntity<ApiResponse<String>> fallback = ConditionalResponses.ok("\"b-p1\"", true, "empty");
+        ResponseEntity<ApiResponse<String>> fresh = ConditionalResponses.ok("\"b-p1\"", false, "data");
+
+        // Then
+        assertThat(fallback.getHeaders().getETag()).isNull();
+        assertThat(fallback.getHeaders().getCacheControl()).isEqualTo("no-store");
+        assertThat(fresh.getHeaders().getETag()).isEqualTo("\"b-p1\"");
+        assertThat(fresh.getHeaders().getCacheControl()).isNull();
+    }
+}
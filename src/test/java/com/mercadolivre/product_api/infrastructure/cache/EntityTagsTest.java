@@ -0,0 +1,60 @@
+package com.mercadolivre.product_api.infrastructure.cache;
+
+import com.mercadolivre.product_api.domain.model.Product;
+import com.mercadolivre.product_api.infrastructure.index.ProductIdRegistry;
+import com.mercadolivre.product_api.infrastructure.repository.CategoryRepositoryInMemory;
+import com.mercadolivre.product_api.infrastructure.repository.ProductImageRepositoryInMemory;
+import com.mercadolivre.product_api.infrastructure.repository.ProductRepositoryInMemory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("EntityTags Tests")
+class EntityTagsTest {
+
+    private ProductRepositoryInMemory products;
+    private CategoryRepositoryInMemory categories;
+    private ProductImageRepositoryInMemory images;
+
+    @BeforeEach
+    void setUp() {
+        products = new ProductRepositoryInMemory(new ProductIdRegistry(), event -> { });
+        categories = new CategoryRepositoryInMemory();
+        images = new ProductImageRepositoryInMemory();
+        products.save(Product.builder().id("1").name("Product 1").category("electronics").build());
+    }
+
+    @Test
+    @DisplayName("Should prefix every tag with the boot id so another process never revalidates it")
+    void shouldPrefixTagsWithBootId() {
+        // Given
+        EntityTags tags = new EntityTags(products, categories, images);
+
+        // When
+        String product = tags.product("1");
+        String otherBoot = new EntityTags(products, categories, images).product("1");
+
+        // Then
+        assertThat(product).matches("\"[0-9a-z]+-p\\d+\"");
+        assertThat(tags.products()).startsWith(product.substring(0, product.indexOf('-') + 1));
+        assertThat(otherBoot).isNotEqualTo(product);
+        assertThat(tags.product("missing")).isNull();
+    }
+
+    @Test
+    @DisplayName("Should keep representation suffixes after the boot id")
+    void shouldKeepRepresentationSuffixes() {
+        // Given
+        EntityTags tags = new EntityTags(products, categories, images);
+        String product = tags.product("1");
+
+        // When
+        String smile = EntityTags.forAccept(product, "application/x-jackson-smile");
+
+        // Then
+        assertThat(smile).isEqualTo(product.substring(0, product.length() - 1) + ".smile\"");
+        assertThat(EntityTags.forAccept(product, "application/json")).isEqualTo(product);
+    }
+}
@@ -0,0 +1,101 @@
+package com.mercadolivre.product_api.infrastructure.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@DisplayName("HotKeyPinningCache Tests")
+class HotKeyPinningCacheTest {
+
+    private Cache shared;
+    private HotKeyDetector detector;
+    private HotKeyPinningCache cache;
+
+    @BeforeEach
+    void setUp() {
+        shared = spy(new ConcurrentMapCache(CacheNames.PRODUCTS));
+        // Limiar de 1 acesso/s com intervalo de 1s: a chave fica quente a partir do 2º acesso
+        detector = new HotKeyDetector(10, 1, 1000);
+        cache = new HotKeyPinningCache(shared, detector, 10);
+        shared.put("viral", "v1");
+        shared.put("normal", "n1");
+    }
+
+    @Test
+    @DisplayName("Should serve hot keys from the local copy without reading the shared cache")
+    void shouldServeHotKeysLocally() {
+        // When
+        cache.get("viral");
+        cache.get("viral");
+        cache.get("viral");
+        cache.get("viral");
+
+        // Then
+        assertThat(cache.pinnedKeys()).containsExactly("viral");
+        assertThat(cache.get("viral").get()).isEqualTo("v1");
+        verify(shared, times(2)).get("viral");
+    }
+
+    @Test
+    @DisplayName("Should not pin keys below the threshold")
+    void shouldNotPinColdKeys() {
+        // When
+        cache.get("normal");
+
+        // Then
+        assertThat(cache.pinnedKeys()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should drop the local copy when the key is evicted")
+    void shouldDropLocalCopyOnEvict() {
+        // Given
+        cache.get("viral");
+        cache.get("viral");
+        assertThat(cache.pinnedKeys()).contains("viral");
+
+        // When
+        cache.evict("viral");
+
+        // Then
+        assertThat(cache.pinnedKeys()).isEmpty();
+        assertThat(cache.get("viral")).isNull();
+    }
+
+    @Test
+    @DisplayName("Should reload pinned copies from the shared cache on refresh")
+    void shouldReloadPinnedCopiesOnRefresh() {
+        // Given
+        cache.get("viral");
+        cache.get("viral");
+        shared.put("viral", "v2");
+
+        // When
+        cache.refresh();
+
+        // Then
+        assertThat(cache.get("viral").get()).isEqualTo("v2");
+    }
+
+    @Test
+    @DisplayName("Should unpin keys that cooled down")
+    void shouldUnpinKeysThatCooledDown() {
+        // Given
+        cache.get("viral");
+        cache.get("viral");
+
+        // When
+        for (int i = 0; i < 5; i++) {
+            detector.decay();
+        }
+        cache.refresh();
+
+        // Then
+        assertThat(cache.pinnedKeys()).isEmpty();
+    }
+}
@@ -0,0 +1,77 @@
+package com.mercadolivre.product_api.infrastructure.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("HotKeyRecorder Tests")
+class HotKeyRecorderTest {
+
+    @TempDir
+    Path tempDir;
+
+    private HotKeyStore hotKeyStore;
+    private HotKeyRecorder recorder;
+
+    @BeforeEach
+    void setUp() {
+        hotKeyStore = new HotKeyStore(tempDir.resolve("hot-keys.tsv"));
+        recorder = new HotKeyRecorder(hotKeyStore, 2);
+    }
+
+    @Test
+    @DisplayName("Should keep only the top-N hottest keys per cache")
+    void shouldKeepOnlyTopNHottestKeysPerCache() {
+        // Given
+        access(CacheNames.PRODUCTS, "hot", 50);
+        access(CacheNames.PRODUCTS, "warm", 20);
+        access(CacheNames.PRODUCTS, "cold", 1);
+        access(CacheNames.CATEGORIES, "1", 3);
+
+        // When
+        Map<String, List<String>> hotKeys = recorder.hotKeys();
+
+        // Then
+        assertThat(hotKeys.get(CacheNames.PRODUCTS)).containsExactly("hot", "warm");
+        assertThat(hotKeys.get(CacheNames.CATEGORIES)).containsExactly("1");
+    }
+
+    @Test
+    @DisplayName("Should persist recorded hot keys so they can be loaded on the next startup")
+    void shouldPersistRecordedHotKeys() {
+        // Given
+        access(CacheNames.PRODUCTS, "hot", 10);
+        access(CacheNames.PRODUCTS_BY_CATEGORY, "casa-decoracao-0-20", 5);
+
+        // When
+        recorder.recordHotKeys();
+        Map<String, List<String>> loaded = new HotKeyStore(tempDir.resolve("hot-keys.tsv")).load();
+
+        // Then
+        assertThat(loaded.get(CacheNames.PRODUCTS)).containsExactly("hot");
+        assertThat(loaded.get(CacheNames.PRODUCTS_BY_CATEGORY)).containsExactly("casa-decoracao-0-20");
+    }
+
+    @Test
+    @DisplayName("Should return no keys when nothing was recorded")
+    void shouldReturnNoKeysWhenNothingWasRecorded() {
+        // When
+        recorder.recordHotKeys();
+
+        // Then
+        assertThat(hotKeyStore.load()).isEmpty();
+    }
+
+    private void access(String cacheName, String key, int times) {
+        for (int i = 0; i < times; i++) {
+            recorder.onGet(cacheName, key, true);
+        }
+    }
+}
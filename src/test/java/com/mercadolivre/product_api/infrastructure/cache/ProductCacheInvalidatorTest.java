@@ -0,0 +1,166 @@
+package com.mercadolivre.product_api.infrastructure.cache;
+
+import com.mercadolivre.product_api.application.dto.PageResponseDTO;
+import com.mercadolivre.product_api.application.dto.ProductResponseDTO;
+import com.mercadolivre.product_api.domain.event.ProductChangedEvent;
+import com.mercadolivre.product_api.domain.event.ProductChangedEvent.ChangeType;
+import com.mercadolivre.product_api.domain.model.Product;
+import com.mercadolivre.product_api.domain.repository.ProductRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.lenient;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ProductCacheInvalidator Tests")
+class ProductCacheInvalidatorTest {
+
+    @Mock
+    private ObjectProvider<CacheManager> cacheManagerProvider;
+
+    @Mock
+    private ObjectProvider<ProductRepository> repositoryProvider;
+
+    @Mock
+    private ProductRepository productRepository;
+
+    private CacheManager cacheManager;
+    private CacheDependencyIndex dependencyIndex;
+    private ProductCacheInvalidator invalidator;
+
+    @BeforeEach
+    void setUp() {
+        dependencyIndex = new CacheDependencyIndex(cacheManagerProvider, 1000);
+        cacheManager = new ObservedCacheManager(new ConcurrentMapCacheManager(), List.of(dependencyIndex));
+        lenient().when(cacheManagerProvider.getObject()).thenReturn(cacheManager);
+        lenient().when(cacheManagerProvider.getIfAvailable()).thenReturn(cacheManager);
+        lenient().when(repositoryProvider.getObject()).thenReturn(productRepository);
+        invalidator = new ProductCacheInvalidator(dependencyIndex, cacheManagerProvider, repositoryProvider);
+
+        cache(CacheNames.PRODUCTS).put("1", product("1", "electronics"));
+        cache(CacheNames.PRODUCTS).put("3", product("3", "fashion"));
+        cache(CacheNames.PRODUCTS_BY_CATEGORY).put("electronics-0-10", page(product("1", "electronics"), product("2", "electronics")));
+        cache(CacheNames.PRODUCTS_BY_CATEGORY).put("fashion-0-10", page(product("3", "fashion")));
+        cache(CacheNames.RECOMMENDED_PRODUCTS).put("2-0-10", page(product("1", "electronics")));
+        cache(CacheNames.ALL_PRODUCTS).put("0-10-null-null", page(product("1", "electronics"), product("3", "fashion")));
+    }
+
+    @Test
+    @DisplayName("Should evict only entries containing an updated product")
+    void shouldEvictOnlyEntriesContainingUpdatedProduct() {
+        // When
+        invalidator.onProductChanged(new ProductChangedEvent(this, "3", "fashion", "fashion", ChangeType.UPDATED));
+
+        // Then
+        assertThat(cache(CacheNames.PRODUCTS).get("3")).isNull();
+        assertThat(cache(CacheNames.PRODUCTS_BY_CATEGORY).get("fashion-0-10")).isNull();
+        assertThat(cache(CacheNames.ALL_PRODUCTS).get("0-10-null-null")).isNull();
+
+        assertThat(cache(CacheNames.PRODUCTS).get("1")).isNotNull();
+        assertThat(cache(CacheNames.PRODUCTS_BY_CATEGORY).get("electronics-0-10")).isNotNull();
+        assertThat(cache(CacheNames.RECOMMENDED_PRODUCTS).get("2-0-10")).isNotNull();
+    }
+
+    @Test
+    @DisplayName("Should evict name-filtered listings when a product is renamed")
+    void shouldEvictNameFilteredListingsWhenProductIsRenamed() {
+        // Given
+        cache(CacheNames.ALL_PRODUCTS).put("0-10-notebook-null", page());
+
+        // When
+        invalidator.onProductChanged(new ProductChangedEvent(
+                this, "3", "fashion", "fashion", "Notebook Gamer", "Camiseta", ChangeType.UPDATED));
+
+        // Then
+        assertThat(cache(CacheNames.ALL_PRODUCTS).get("0-10-notebook-null")).isNull();
+        assertThat(cache(CacheNames.PRODUCTS_BY_CATEGORY).get("electronics-0-10")).isNotNull();
+        assertThat(cache(CacheNames.RECOMMENDED_PRODUCTS).get("2-0-10")).isNotNull();
+    }
+
+    @Test
+    @DisplayName("Should evict category scoped entries when a product is created")
+    void shouldEvictCategoryScopedEntriesWhenProductIsCreated() {
+        // Given
+        cache(CacheNames.PRODUCTS_BY_CATEGORY).put("books-0-10", page());
+        lenient().when(productRepository.findByCategory("electronics")).thenReturn(List.of(
+                Product.builder().id("1").category("electronics").build(),
+                Product.builder().id("2").category("electronics").build()));
+
+        // When
+        invalidator.onProductChanged(new ProductChangedEvent(this, "9", "electronics", null, ChangeType.CREATED));
+
+        // Then
+        assertThat(cache(CacheNames.PRODUCTS_BY_CATEGORY).get("electronics-0-10")).isNull();
+        assertThat(cache(CacheNames.RECOMMENDED_PRODUCTS).get("2-0-10")).isNull();
+        assertThat(cache(CacheNames.ALL_PRODUCTS).get("0-10-null-null")).isNull();
+
+        assertThat(cache(CacheNames.PRODUCTS_BY_CATEGORY).get("fashion-0-10")).isNotNull();
+        assertThat(cache(CacheNames.PRODUCTS_BY_CATEGORY).get("books-0-10")).isNotNull();
+        assertThat(cache(CacheNames.PRODUCTS).get("1")).isNotNull();
+    }
+
+    @Test
+    @DisplayName("Should evict empty category pages when a product joins the category")
+    void shouldEvictEmptyCategoryPagesWhenProductJoinsCategory() {
+        // Given
+        cache(CacheNames.PRODUCTS_BY_CATEGORY).put("casa-decoracao-0-10", page());
+
+        // When
+        invalidator.onProductChanged(new ProductChangedEvent(this, "3", "casa-decoracao", "fashion", ChangeType.UPDATED));
+
+        // Then
+        assertThat(cache(CacheNames.PRODUCTS_BY_CATEGORY).get("casa-decoracao-0-10")).isNull();
+        assertThat(cache(CacheNames.PRODUCTS_BY_CATEGORY).get("fashion-0-10")).isNull();
+        assertThat(cache(CacheNames.PRODUCTS_BY_CATEGORY).get("electronics-0-10")).isNotNull();
+    }
+
+    @Test
+    @DisplayName("Should evict overflowing entries from the cache when the index is full")
+    void shouldEvictOverflowingEntriesWhenIndexIsFull() {
+        // Given
+        CacheDependencyIndex smallIndex = new CacheDependencyIndex(cacheManagerProvider, 1);
+        cacheManager = new ObservedCacheManager(new ConcurrentMapCacheManager(), List.of(smallIndex));
+        lenient().when(cacheManagerProvider.getObject()).thenReturn(cacheManager);
+
+        // When
+        cache(CacheNames.PRODUCTS_BY_CATEGORY).put("electronics-0-10", page(product("1", "electronics")));
+        cache(CacheNames.PRODUCTS_BY_CATEGORY).put("fashion-0-10", page(product("3", "fashion")));
+
+        // Then
+        assertThat(smallIndex.size()).isEqualTo(1);
+        assertThat(cache(CacheNames.PRODUCTS_BY_CATEGORY).get("electronics-0-10")).isNull();
+        assertThat(cache(CacheNames.PRODUCTS_BY_CATEGORY).get("fashion-0-10")).isNotNull();
+    }
+
+    private Cache cache(String name) {
+        return cacheManager.getCache(name);
+    }
+
+    private static ProductResponseDTO product(String id, String category) {
+        return ProductResponseDTO.builder().id(id).name("Product " + id).category(category).build();
+    }
+
+    private static PageResponseDTO<ProductResponseDTO> page(ProductResponseDTO... products) {
+        return PageResponseDTO.<ProductResponseDTO>builder()
+                .content(List.of(products))
+                .pageNumber(0)
+                .pageSize(10)
+                .totalElements(products.length)
+                .totalPages(1)
+                .first(true)
+                .last(true)
+                .empty(products.length == 0)
+                .build();
+    }
+}
@@ -0,0 +1,122 @@
+package com.mercadolivre.product_api.infrastructure.cache.local;
+
+import com.mercadolivre.product_api.infrastructure.cache.CacheNames;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("TinyLfuCache Tests")
+class TinyLfuCacheTest {
+
+    private static final long MAX_WEIGHT = 100 * 1024;
+
+    private TinyLfuStore store;
+    private TinyLfuCache products;
+    private TinyLfuCache listings;
+
+    @BeforeEach
+    void setUp() {
+        store = new TinyLfuStore(MAX_WEIGHT);
+        products = new TinyLfuCache(CacheNames.PRODUCTS, store, Duration.ofHours(3));
+        listings = new TinyLfuCache(CacheNames.ALL_PRODUCTS, store, Duration.ofMinutes(30));
+    }
+
+    @Test
+    @DisplayName("Should keep hot products when a crawler scans one-hit listing pages")
+    void shouldKeepHotProductsDuringCrawlerScan() {
+        // Given
+        for (int i = 0; i < 30; i++) {
+            products.put("MLB" + i, payload(i));
+        }
+        for (int round = 0; round < 5; round++) {
+            for (int i = 0; i < 30; i++) {
+                products.get("MLB" + i);
+            }
+        }
+
+        // When
+        for (int page = 0; page < 500; page++) {
+            String key = page + "-20-null-null";
+            if (listings.get(key) == null) {
+                listings.put(key, payload(page));
+            }
+        }
+
+        // Then
+        for (int i = 0; i < 30; i++) {
+            assertThat(products.get("MLB" + i)).as("MLB" + i).isNotNull();
+        }
+        assertThat(products.evictionCount()).isZero();
+        assertThat(listings.evictionCount()).isPositive();
+        assertThat(store.weightedSize()).isLessThanOrEqualTo(MAX_WEIGHT);
+    }
+
+    @Test
+    @DisplayName("Should bound the retained weight and account evictions per cache")
+    void shouldBoundWeight() {
+        // When
+        for (int i = 0; i < 200; i++) {
+            listings.put("page-" + i, payload(i));
+        }
+
+        // Then
+        assertThat(store.weightedSize()).isLessThanOrEqualTo(MAX_WEIGHT);
+        assertThat(listings.weightedSize()).isEqualTo(store.weightedSize());
+        assertThat(listings.size() + listings.evictionCount()).isEqualTo(200);
+        assertThat(listings.evictedWeight()).isPositive();
+    }
+
+    @Test
+    @DisplayName("Should expire entries after the cache TTL")
+    void shouldExpireEntries() {
+        // Given
+        TinyLfuCache shortLived = new TinyLfuCache(CacheNames.CATEGORIES, store, Duration.ofNanos(1));
+        shortLived.put("eletronicos", "value");
+
+        // When / Then
+        assertThat(shortLived.get("eletronicos")).isNull();
+        assertThat(shortLived.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should clear only the entries of its own cache name")
+    void shouldClearOnlyOwnEntries() {
+        // Given
+        products.put("MLB1", "p1");
+        listings.put("0-20-null-null", "l1");
+
+        // When
+        listings.clear();
+
+        // Then
+        assertThat(products.get("MLB1").get()).isEqualTo("p1");
+        assertThat(listings.get("0-20-null-null")).isNull();
+        assertThat(listings.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should track hit ratio and not store null values")
+    void shouldTrackHitRatio() {
+        // Given
+        products.put("MLB1", "p1");
+        products.put("MLB2", null);
+
+        // When
+        products.get("MLB1");
+        products.get("MLB2");
+
+        // Then
+        assertThat(products.hitCount()).isEqualTo(1);
+        assertThat(products.missCount()).isEqualTo(1);
+        assertThat(products.hitRatio()).isEqualTo(0.5);
+        assertThat(products.size()).isEqualTo(1);
+    }
+
+    private static String payload(int seed) {
+        return String.valueOf(seed).repeat(1000 / String.valueOf(seed).length());
+    }
+}
@@ -0,0 +1,63 @@
+package com.mercadolivre.product_api.infrastructure.config;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.retry.Retry;
+import io.github.resilience4j.retry.RetryRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// Perfil docker com Redis trocado pelos equivalentes locais e diretórios no tmp; a configuração do Resilience4j é a do perfil
+@SpringBootTest(properties = {
+        "spring.cache.type=simple",
+        "product-api.view-counts.store=memory",
+        "product-api.instance-id=docker-resilience-test",
+        "product-api.audit.directory=${java.io.tmpdir}/product-api-test/audit",
+        "product-api.cache.warmup.hot-keys-file=${java.io.tmpdir}/product-api-test/hot-keys.tsv",
+        "product-api.view-snapshot.file=${java.io.tmpdir}/product-api-test/view-counts.snapshot"
+})
+@ActiveProfiles("docker")
+@DisplayName("Docker profile resilience configuration Tests")
+class DockerResilienceConfigTest {
+
+    @Autowired
+    private CircuitBreakerRegistry circuitBreakerRegistry;
+
+    @Autowired
+    private RetryRegistry retryRegistry;
+
+    @ParameterizedTest
+    @ValueSource(strings = {"productService", "productImageService", "categoryService"})
+    @DisplayName("Should neither retry nor record a full bulkhead as a circuit breaker failure")
+    void shouldIgnoreBulkheadFull(String instance) {
+        // Given
+        BulkheadFullException bulkheadFull = BulkheadFullException.createBulkheadFullException(Bulkhead.ofDefaults(instance));
+        Retry retry = retryRegistry.retry(instance);
+        CircuitBreaker circuitBreaker = circuitBreakerRegistry.circuitBreaker(instance);
+        AtomicInteger attempts = new AtomicInteger();
+
+        // When
+        assertThatThrownBy(() -> retry.executeRunnable(() -> {
+            attempts.incrementAndGet();
+            throw bulkheadFull;
+        })).isSameAs(bulkheadFull);
+        circuitBreaker.onError(1, TimeUnit.MILLISECONDS, bulkheadFull);
+
+        // Then
+        assertThat(attempts.get()).isEqualTo(1);
+        assertThat(circuitBreaker.getMetrics().getNumberOfFailedCalls()).isZero();
+        assertThat(circuitBreaker.getMetrics().getNumberOfBufferedCalls()).isZero();
+    }
+}
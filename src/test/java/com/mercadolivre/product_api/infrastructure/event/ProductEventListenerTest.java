@@ -1,26 +1,23 @@
 package com.mercadolivre.product_api.infrastructure.event;
 
 import com.mercadolivre.product_api.domain.event.ProductViewedEvent;
+import com.mercadolivre.product_api.infrastructure.index.ProductIdRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
-import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
-import org.mockito.junit.jupiter.MockitoExtension;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
-@ExtendWith(MockitoExtension.class)
 @DisplayName("ProductEventListener Tests")
 class ProductEventListenerTest {
 
-    @InjectMocks
     private ProductEventListener eventListener;
 
     private ProductViewedEvent event;
 
     @BeforeEach
     void setUp() {
+        eventListener = new ProductEventListener(new ProductIdRegistry());
         event = new ProductViewedEvent(
                 this,
                 "prod1",
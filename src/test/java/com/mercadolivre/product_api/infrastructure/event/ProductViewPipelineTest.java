@@ -0,0 +1,128 @@
+package com.mercadolivre.product_api.infrastructure.event;
+
+import com.mercadolivre.product_api.domain.event.ProductViewedEvent;
+import com.mercadolivre.product_api.infrastructure.index.ProductIdRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ProductViewPipeline Tests")
+class ProductViewPipelineTest {
+
+    private final ProductEventListener handlers = new ProductEventListener(new ProductIdRegistry());
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private ProductViewPipeline pipeline;
+
+    @AfterEach
+    void tearDown() {
+        if (pipeline != null) {
+            pipeline.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("Should apply analytics and category handlers to every queued view")
+    void shouldApplyHandlersInBatches() throws InterruptedException {
+        // Given
+        pipeline = pipeline(1024, 2, ViewOverflowPolicy.DROP);
+        pipeline.start();
+
+        // When
+        for (int i = 0; i < 500; i++) {
+            pipeline.onProductViewed(new ProductViewedEvent(this, "prod" + (i % 5), "Product", "electronics", "req" + i));
+        }
+        long deadline = System.currentTimeMillis() + 5000;
+        while (meterRegistry.counter("product.view.pipeline.processed").count() < 500
+                && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5);
+        }
+
+        // Then
+        assertThat(meterRegistry.counter("product.view.pipeline.processed").count()).isEqualTo(500);
+        assertThat(handlers.getProductViewCount("prod0")).isEqualTo(100);
+        assertThat(handlers.getCategoryViewCount("electronics")).isEqualTo(500);
+        assertThat(pipeline.backlog()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should drop views without blocking when the buffer is full")
+    void shouldDropWhenFull() {
+        // Given (consumidores não iniciados: nada drena o buffer)
+        pipeline = pipeline(4, 1, ViewOverflowPolicy.DROP);
+        ProductViewedEvent event = new ProductViewedEvent(this, "prod1", "Product", "electronics", "req");
+
+        // When
+        for (int i = 0; i < 10; i++) {
+            pipeline.onProductViewed(event);
+        }
+
+        // Then
+        assertThat(meterRegistry.counter("product.view.pipeline.dropped").count()).isEqualTo(6);
+        assertThat(pipeline.backlog()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("Should apply pending views on shutdown")
+    void shouldDrainOnStop() {
+        // Given
+        pipeline = pipeline(16, 1, ViewOverflowPolicy.DROP);
+        for (int i = 0; i < 8; i++) {
+            pipeline.onProductViewed(new ProductViewedEvent(this, "prod1", "Product", "electronics", "req"));
+        }
+
+        // When
+        pipeline.stop();
+
+        // Then
+        assertThat(handlers.getProductViewCount("prod1")).isEqualTo(8);
+        assertThat(pipeline.backlog()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should coalesce overflowing views per product and apply them with the next batch")
+    void shouldCoalesceWhenFull() {
+        // Given
+        pipeline = pipeline(4, 1, ViewOverflowPolicy.COALESCE);
+        ProductViewedEvent event = new ProductViewedEvent(this, "prod1", "Product", "electronics", "req");
+
+        // When
+        for (int i = 0; i < 10; i++) {
+            pipeline.onProductViewed(event);
+        }
+        pipeline.stop();
+
+        // Then
+        assertThat(meterRegistry.counter("product.view.pipeline.coalesced").count()).isEqualTo(6);
+        assertThat(meterRegistry.counter("product.view.pipeline.dropped").count()).isZero();
+        assertThat(handlers.getProductViewCount("prod1")).isEqualTo(10);
+        assertThat(handlers.getCategoryViewCount("electronics")).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("Should sample views once the backlog is above the high watermark")
+    void shouldSampleAboveHighWatermark() {
+        // Given
+        pipeline = pipeline(64, 1, ViewOverflowPolicy.SAMPLE);
+        ProductViewedEvent event = new ProductViewedEvent(this, "prod1", "Product", "electronics", "req");
+
+        // When
+        for (int i = 0; i < 1000; i++) {
+            pipeline.onProductViewed(event);
+        }
+
+        // Then
+        double sampled = meterRegistry.counter("product.view.pipeline.sampled").count();
+        double dropped = meterRegistry.counter("product.view.pipeline.dropped").count();
+        assertThat(sampled).isGreaterThan(dropped);
+        assertThat(sampled + dropped + pipeline.backlog()).isEqualTo(1000);
+    }
+
+    private ProductViewPipeline pipeline(int capacity, int consumers, ViewOverflowPolicy policy) {
+        return new ProductViewPipeline(List.of(handlers), meterRegistry, capacity, consumers, 64, policy, 10, 100);
+    }
+}
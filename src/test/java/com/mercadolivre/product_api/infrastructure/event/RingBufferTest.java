@@ -0,0 +1,97 @@
+package com.mercadolivre.product_api.infrastructure.event;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("RingBuffer Tests")
+class RingBufferTest {
+
+    @Test
+    @DisplayName("Should round capacity to a power of two and reject offers when full")
+    void shouldRejectWhenFull() {
+        // Given
+        RingBuffer<Integer> buffer = new RingBuffer<>(3);
+
+        // When
+        for (int i = 0; i < 4; i++) {
+            assertThat(buffer.offer(i)).isTrue();
+        }
+
+        // Then
+        assertThat(buffer.capacity()).isEqualTo(4);
+        assertThat(buffer.offer(99)).isFalse();
+        assertThat(buffer.size()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("Should drain elements in FIFO order up to the batch limit")
+    void shouldDrainInOrder() {
+        // Given
+        RingBuffer<Integer> buffer = new RingBuffer<>(8);
+        for (int i = 0; i < 6; i++) {
+            buffer.offer(i);
+        }
+        List<Integer> batch = new ArrayList<>();
+
+        // When
+        int drained = buffer.drain(batch::add, 4);
+
+        // Then
+        assertThat(drained).isEqualTo(4);
+        assertThat(batch).containsExactly(0, 1, 2, 3);
+        assertThat(buffer.poll()).isEqualTo(4);
+        assertThat(buffer.poll()).isEqualTo(5);
+        assertThat(buffer.poll()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should not lose or duplicate elements with concurrent producers and consumers")
+    void shouldHandleConcurrentProducersAndConsumers() throws InterruptedException {
+        // Given
+        RingBuffer<Integer> buffer = new RingBuffer<>(1024);
+        int producers = 4;
+        int perProducer = 50_000;
+        int total = producers * perProducer;
+        ConcurrentHashMap<Integer, Boolean> seen = new ConcurrentHashMap<>();
+        AtomicInteger consumed = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(producers + 2);
+        CountDownLatch done = new CountDownLatch(2);
+
+        // When
+        for (int p = 0; p < producers; p++) {
+            int base = p * perProducer;
+            executor.submit(() -> {
+                for (int i = 0; i < perProducer; i++) {
+                    while (!buffer.offer(base + i)) {
+                        Thread.onSpinWait();
+                    }
+                }
+            });
+        }
+        for (int c = 0; c < 2; c++) {
+            executor.submit(() -> {
+                while (consumed.get() < total) {
+                    consumed.addAndGet(buffer.drain(e -> seen.put(e, Boolean.TRUE), 256));
+                }
+                done.countDown();
+            });
+        }
+
+        // Then
+        assertThat(done.await(30, TimeUnit.SECONDS)).isTrue();
+        executor.shutdownNow();
+        assertThat(consumed.get()).isEqualTo(total);
+        assertThat(seen).hasSize(total);
+    }
+}
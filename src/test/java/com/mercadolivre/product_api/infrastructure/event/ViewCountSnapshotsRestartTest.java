@@ -0,0 +1,55 @@
+package com.mercadolivre.product_api.infrastructure.event;
+
+import com.mercadolivre.product_api.ProductApiApplication;
+import com.mercadolivre.product_api.domain.event.ProductViewedEvent;
+import com.mercadolivre.product_api.domain.model.Product;
+import com.mercadolivre.product_api.domain.repository.ProductRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("View count snapshots across restarts Tests")
+class ViewCountSnapshotsRestartTest {
+
+    @TempDir
+    Path dataDir;
+
+    @Test
+    @DisplayName("Should restore product and category totals written on shutdown")
+    void shouldRestoreTotalsAfterRestart() {
+        // Given
+        Product product;
+        try (ConfigurableApplicationContext context = start()) {
+            product = context.getBean(ProductRepository.class).findAll().get(0);
+            context.getBean(ProductEventListener.class).handleCoalescedViews(
+                    new ProductViewedEvent(this, product.getId(), product.getName(), product.getCategory(), "req"), 7);
+        }
+
+        // When
+        try (ConfigurableApplicationContext context = start()) {
+            ProductEventListener listener = context.getBean(ProductEventListener.class);
+
+            // Then
+            assertThat(dataDir.resolve("snapshot-restart/view-counts.snapshot")).exists();
+            assertThat(context.getBean(ProductRepository.class).existsById(product.getId())).isTrue();
+            assertThat(listener.getProductViewCount(product.getId())).isEqualTo(7);
+            assertThat(listener.getCategoryViewCount(product.getCategory())).isEqualTo(7);
+        }
+    }
+
+    // Mesmo instance-id e mesmo diretório nas duas subidas, como uma réplica recriada sobre o mesmo volume
+    private ConfigurableApplicationContext start() {
+        return new SpringApplicationBuilder(ProductApiApplication.class)
+                .run("--server.port=0",
+                     "--product-api.instance-id=snapshot-restart",
+                     "--product-api.view-snapshot.file=" + dataDir + "/${product-api.instance-id}/view-counts.snapshot",
+                     "--product-api.cache.warmup.hot-keys-file=" + dataDir + "/${product-api.instance-id}/hot-keys.tsv",
+                     "--product-api.audit.directory=" + dataDir + "/audit");
+    }
+}
@@ -0,0 +1,147 @@
+package com.mercadolivre.product_api.infrastructure.event;
+
+import com.mercadolivre.product_api.domain.event.ProductViewedEvent;
+import com.mercadolivre.product_api.domain.model.Product;
+import com.mercadolivre.product_api.infrastructure.index.ProductIdRegistry;
+import com.mercadolivre.product_api.infrastructure.repository.ProductRepositoryInMemory;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ViewCountSnapshots Tests")
+class ViewCountSnapshotsTest {
+
+    @TempDir
+    Path tempDir;
+
+    private ProductRepositoryInMemory products;
+
+    @BeforeEach
+    void setUp() {
+        products = new ProductRepositoryInMemory(new ProductIdRegistry(), event -> { });
+        products.save(Product.builder().id("prod1").name("Product 1").category("electronics").build());
+        products.save(Product.builder().id("prod2").name("Product 2").category("books").build());
+    }
+
+    @Test
+    @DisplayName("Should restore product and category totals from the last checkpoint")
+    void shouldRestoreTotalsFromCheckpoint() {
+        // Given
+        ProductEventListener before = new ProductEventListener(new ProductIdRegistry());
+        before.handleCoalescedViews(event("prod1", "electronics"), 120);
+        before.handleCoalescedViews(event("prod2", "books"), 7);
+        snapshots(before).checkpoint();
+
+        // When
+        ProductEventListener after = new ProductEventListener(new ProductIdRegistry());
+        snapshots(after).restore();
+
+        // Then
+        assertThat(after.getProductViewCount("prod1")).isEqualTo(120);
+        assertThat(after.getProductViewCount("prod2")).isEqualTo(7);
+        assertThat(after.getCategoryViewCount("electronics")).isEqualTo(120);
+        assertThat(after.getCategoryViewCount("books")).isEqualTo(7);
+    }
+
+    @Test
+    @DisplayName("Should add restored totals to views counted before the restore")
+    void shouldAddToViewsCountedBeforeRestore() {
+        // Given
+        ProductEventListener before = new ProductEventListener(new ProductIdRegistry());
+        before.handleCoalescedViews(event("prod1", "electronics"), 50);
+        snapshots(before).checkpoint();
+        ProductEventListener after = new ProductEventListener(new ProductIdRegistry());
+        after.handleCoalescedViews(event("prod1", "electronics"), 3);
+
+        // When
+        snapshots(after).restore();
+
+        // Then
+        assertThat(after.getProductViewCount("prod1")).isEqualTo(53);
+    }
+
+    @Test
+    @DisplayName("Should drop totals of products that no longer exist but keep their category totals")
+    void shouldDropUnknownProducts() {
+        // Given
+        ProductEventListener before = new ProductEventListener(new ProductIdRegistry());
+        before.handleCoalescedViews(event("prod1", "electronics"), 10);
+        before.handleCoalescedViews(event("gone", "electronics"), 5);
+        snapshots(before).checkpoint();
+
+        // When
+        ProductEventListener after = new ProductEventListener(new ProductIdRegistry());
+        snapshots(after).restore();
+
+        // Then
+        assertThat(after.getProductViewCount("prod1")).isEqualTo(10);
+        assertThat(after.getProductViewCount("gone")).isZero();
+        assertThat(after.getCategoryViewCount("electronics")).isEqualTo(15);
+    }
+
+    @Test
+    @DisplayName("Should leave only the snapshot file behind after a checkpoint")
+    void shouldNotLeaveTempFiles() throws IOException {
+        // Given
+        ProductEventListener listener = new ProductEventListener(new ProductIdRegistry());
+        listener.handleCoalescedViews(event("prod1", "electronics"), 1);
+
+        // When
+        snapshots(listener).checkpoint();
+        snapshots(listener).checkpoint();
+
+        // Then
+        try (var files = Files.list(tempDir)) {
+            assertThat(files).containsExactly(tempDir.resolve("views.snapshot"));
+        }
+    }
+
+    @Test
+    @DisplayName("Should ignore a snapshot that fails its checksum")
+    void shouldIgnoreCorruptedSnapshot() throws IOException {
+        // Given
+        ProductEventListener before = new ProductEventListener(new ProductIdRegistry());
+        before.handleCoalescedViews(event("prod1", "electronics"), 50);
+        snapshots(before).checkpoint();
+        Path file = tempDir.resolve("views.snapshot");
+        byte[] bytes = Files.readAllBytes(file);
+        bytes[bytes.length - 12] ^= 0x7F;
+        Files.write(file, bytes);
+
+        // When
+        ProductEventListener after = new ProductEventListener(new ProductIdRegistry());
+        snapshots(after).restore();
+
+        // Then
+        assertThat(after.getProductViewCount("prod1")).isZero();
+    }
+
+    @Test
+    @DisplayName("Should start empty when no snapshot exists")
+    void shouldStartEmptyWithoutSnapshot() {
+        // Given
+        ProductEventListener listener = new ProductEventListener(new ProductIdRegistry());
+
+        // When
+        snapshots(listener).restore();
+
+        // Then
+        assertThat(listener.getProductViewCount("prod1")).isZero();
+    }
+
+    private ViewCountSnapshots snapshots(ProductEventListener listener) {
+        return new ViewCountSnapshots(listener, products, new SimpleMeterRegistry(), tempDir.resolve("views.snapshot"), true);
+    }
+
+    private ProductViewedEvent event(String productId, String category) {
+        return new ProductViewedEvent(this, productId, "Product", category, "req");
+    }
+}
@@ -1,5 +1,6 @@
 package com.mercadolivre.product_api.infrastructure.exception;
 
+import com.mercadolivre.product_api.domain.exception.InvalidRequestException;
 import com.mercadolivre.product_api.domain.exception.ResourceNotFoundException;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -44,6 +45,26 @@ class GlobalExceptionHandlerTest {
         assertThat(response.getBody().getPath()).isEqualTo("/api/v1/products/123");
     }
 
+    @Test
+    @DisplayName("Should handle InvalidRequestException and return 400")
+    void shouldHandleInvalidRequestException() {
+        // Given
+        InvalidRequestException exception = new InvalidRequestException("productIds must contain at least one product id");
+        when(webRequest.getDescription(false)).thenReturn("uri=/api/v1/images/batch");
+
+        // When
+        var response = exceptionHandler.handleInvalidRequestException(exception, webRequest);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().isSuccess()).isFalse();
+        assertThat(response.getBody().getStatus()).isEqualTo(400);
+        assertThat(response.getBody().getError()).isEqualTo("Bad Request");
+        assertThat(response.getBody().getMessage()).isEqualTo("productIds must contain at least one product id");
+        assertThat(response.getBody().getPath()).isEqualTo("/api/v1/images/batch");
+    }
+
     @Test
     @DisplayName("Should handle generic Exception and return 500")
     void shouldHandleGenericException() {
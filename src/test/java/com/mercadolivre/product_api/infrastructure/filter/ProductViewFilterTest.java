@@ -0,0 +1,149 @@
+package com.mercadolivre.product_api.infrastructure.filter;
+
+import com.mercadolivre.product_api.domain.event.ProductViewedEvent;
+import com.mercadolivre.product_api.domain.model.Product;
+import com.mercadolivre.product_api.domain.repository.ProductRepository;
+import com.mercadolivre.product_api.infrastructure.cache.ResponseBytesCache;
+import com.mercadolivre.product_api.infrastructure.index.ProductIdRegistry;
+import com.mercadolivre.product_api.infrastructure.repository.CategoryRepositoryInMemory;
+import com.mercadolivre.product_api.infrastructure.repository.ProductImageRepositoryInMemory;
+import com.mercadolivre.product_api.infrastructure.repository.ProductRepositoryInMemory;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.Filter;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("ProductViewFilter Tests")
+class ProductViewFilterTest {
+
+    private final List<ProductViewedEvent> views = new ArrayList<>();
+    private ProductRepositoryInMemory products;
+    private ObjectProvider<ProductRepository> repositoryProvider;
+    private ProductViewFilter filter;
+    private int nextStatus = HttpServletResponse.SC_OK;
+
+    @BeforeEach
+    void setUp() {
+        products = new ProductRepositoryInMemory(new ProductIdRegistry(), event -> { });
+        products.save(Product.builder().id("1").name("Product 1").category("electronics").build());
+        repositoryProvider = provider(products);
+        filter = new ProductViewFilter(repositoryProvider, event -> views.add((ProductViewedEvent) event));
+    }
+
+    @Test
+    @DisplayName("Should publish a view for 200 and 304 reads of a product or its detail page")
+    void shouldPublishViewForSuccessfulReads() throws Exception {
+        // Given
+        MDC.put("visitorId", "visitor-1");
+
+        // When
+        try {
+            perform(get("/api/v1/products/1"), filter);
+            perform(get("/api/v1/products/1/detail"), filter);
+            nextStatus = HttpServletResponse.SC_NOT_MODIFIED;
+            perform(get("/api/v1/products/1"), filter);
+        } finally {
+            MDC.remove("visitorId");
+        }
+
+        // Then
+        assertThat(views).hasSize(3);
+        assertThat(views.get(0).getProductId()).isEqualTo("1");
+        assertThat(views.get(0).getCategory()).isEqualTo("electronics");
+        assertThat(views.get(0).getVisitorId()).isEqualTo("visitor-1");
+    }
+
+    @Test
+    @DisplayName("Should not publish for errors, unknown ids, listings or non-GET requests")
+    void shouldSkipNonViews() throws Exception {
+        // When
+        perform(get("/api/v1/products/missing"), filter);
+        perform(get("/api/v1/products/trending"), filter);
+        perform(get("/api/v1/products/category/electronics"), filter);
+        perform(get("/api/v1/products/1/recommended"), filter);
+        perform(new MockHttpServletRequest("HEAD", "/api/v1/products/1"), filter);
+        nextStatus = HttpServletResponse.SC_SERVICE_UNAVAILABLE;
+        perform(get("/api/v1/products/1"), filter);
+
+        // Then
+        assertThat(views).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should count reads answered from the response byte cache")
+    void shouldCountResponseCacheHits() throws Exception {
+        // Given
+        ResponseBytesCache cache = new ResponseBytesCache(products, new CategoryRepositoryInMemory(),
+                new ProductImageRepositoryInMemory(), new SimpleMeterRegistry(), 1 << 20, 1 << 16, Duration.ofMinutes(1),
+                false, DataSize.ofBytes(64), List.of("application/json"), List.of());
+        ResponseCacheFilter cacheFilter = new ResponseCacheFilter(provider(cache));
+
+        // When
+        perform(get("/api/v1/products/1"), filter, cacheFilter);
+        MockHttpServletResponse hit = perform(get("/api/v1/products/1"), filter, cacheFilter);
+
+        // Then
+        assertThat(hit.getHeader("X-Response-Cache")).isEqualTo("HIT");
+        assertThat(views).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("Should keep the response when publishing the view fails")
+    void shouldKeepResponseWhenPublicationFails() throws Exception {
+        // Given
+        filter = new ProductViewFilter(repositoryProvider, event -> {
+            throw new IllegalStateException("queue full");
+        });
+
+        // When
+        MockHttpServletResponse response = perform(get("/api/v1/products/1"), filter);
+
+        // Then
+        assertThat(response.getStatus()).isEqualTo(HttpServletResponse.SC_OK);
+        assertThat(response.getContentAsString()).contains("\"id\":\"1\"");
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> ObjectProvider<T> provider(T bean) {
+        ObjectProvider<T> provider = mock(ObjectProvider.class);
+        when(provider.getIfAvailable()).thenReturn(bean);
+        return provider;
+    }
+
+    private MockHttpServletRequest get(String uri) {
+        return new MockHttpServletRequest("GET", uri);
+    }
+
+    private MockHttpServletResponse perform(MockHttpServletRequest request, Filter... filters) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+                resp.setStatus(nextStatus);
+                resp.setContentType("application/json");
+                resp.getOutputStream().write("{\"data\":{\"id\":\"1\"}}".getBytes(StandardCharsets.UTF_8));
+            }
+        }, filters).doFilter(request, response);
+        return response;
+    }
+}
@@ -0,0 +1,355 @@
+package com.mercadolivre.product_api.infrastructure.filter;
+
+import com.mercadolivre.product_api.domain.model.Product;
+import com.github.luben.zstd.Zstd;
+import com.mercadolivre.product_api.infrastructure.cache.ContentCoding;
+import com.mercadolivre.product_api.infrastructure.cache.ResponseBytesCache;
+import com.mercadolivre.product_api.infrastructure.index.ProductIdRegistry;
+import com.mercadolivre.product_api.domain.model.ProductImage;
+import com.mercadolivre.product_api.infrastructure.repository.CategoryRepositoryInMemory;
+import com.mercadolivre.product_api.infrastructure.repository.ProductImageRepositoryInMemory;
+import com.mercadolivre.product_api.infrastructure.repository.ProductRepositoryInMemory;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ResponseCacheFilter Tests")
+class ResponseCacheFilterTest {
+
+    @Mock
+    private ObjectProvider<ResponseBytesCache> cacheProvider;
+
+    private ProductRepositoryInMemory products;
+    private ProductImageRepositoryInMemory images;
+    private ResponseBytesCache cache;
+    private ResponseCacheFilter filter;
+    private final AtomicInteger controllerCalls = new AtomicInteger();
+    private int nextStatus = HttpServletResponse.SC_OK;
+    private String nextCacheControl;
+
+    @BeforeEach
+    void setUp() {
+        products = new ProductRepositoryInMemory(new ProductIdRegistry(), event -> { });
+        products.save(product("1"));
+        products.save(product("2"));
+        images = new ProductImageRepositoryInMemory();
+        cache = new ResponseBytesCache(products, new CategoryRepositoryInMemory(), images, new SimpleMeterRegistry(),
+                1 << 20, 1 << 16, Duration.ofMinutes(1), true, DataSize.ofBytes(64), List.of("application/json"),
+                List.of("zstd", "gzip"));
+        when(cacheProvider.getIfAvailable()).thenReturn(cache);
+        filter = new ResponseCacheFilter(cacheProvider);
+    }
+
+    @Test
+    @DisplayName("Should serve repeated reads from stored bytes without calling the controller")
+    void shouldServeHitsFromStoredBytes() throws Exception {
+        // Given
+        MockHttpServletResponse first = perform(get("/api/v1/products/1"));
+
+        // When
+        MockHttpServletResponse second = perform(get("/api/v1/products/1"));
+
+        // Then
+        assertThat(controllerCalls.get()).isEqualTo(1);
+        assertThat(first.getHeader("X-Response-Cache")).isEqualTo("MISS");
+        assertThat(second.getHeader("X-Response-Cache")).isEqualTo("HIT");
+        assertThat(second.getContentAsString()).isEqualTo(first.getContentAsString());
+        assertThat(second.getContentType()).startsWith("application/json");
+    }
+
+    @Test
+    @DisplayName("Should write the stored gzip variant when the client accepts gzip")
+    void shouldServeGzipVariant() throws Exception {
+        // Given
+        String plain = perform(get("/api/v1/categories")).getContentAsString();
+        MockHttpServletRequest request = get("/api/v1/categories");
+        request.addHeader("Accept-Encoding", "gzip, deflate");
+
+        // When
+        MockHttpServletResponse response = perform(request);
+
+        // Then
+        assertThat(response.getHeader("Content-Encoding")).isEqualTo("gzip");
+        assertThat(response.getHeaders("Vary")).containsExactly("Accept", "Accept-Encoding");
+        assertThat(gunzip(response.getContentAsByteArray())).isEqualTo(plain);
+    }
+
+    @Test
+    @DisplayName("Should invalidate the changed product and catalog listings but keep other products")
+    void shouldInvalidateWithUnderlyingData() throws Exception {
+        // Given
+        perform(get("/api/v1/products/1"));
+        perform(get("/api/v1/products/2"));
+        perform(get("/api/v1/products/category/electronics"));
+
+        // When
+        products.save(product("1"));
+
+        // Then
+        assertThat(perform(get("/api/v1/products/1")).getHeader("X-Response-Cache")).isEqualTo("MISS");
+        assertThat(perform(get("/api/v1/products/2")).getHeader("X-Response-Cache")).isEqualTo("HIT");
+        assertThat(perform(get("/api/v1/products/category/electronics")).getHeader("X-Response-Cache")).isEqualTo("MISS");
+    }
+
+    @Test
+    @DisplayName("Should invalidate only ?embed= entries when product images change")
+    void shouldInvalidateEmbedsWithImages() throws Exception {
+        // Given
+        MockHttpServletRequest embedded = get("/api/v1/products/category/electronics");
+        embedded.setQueryString("embed=primaryImage");
+        perform(embedded);
+        perform(get("/api/v1/products/category/electronics"));
+
+        // When
+        images.save(ProductImage.builder().id("img1").productId("1").isPrimary(true).displayOrder(1).build());
+
+        // Then
+        assertThat(perform(embedded).getHeader("X-Response-Cache")).isEqualTo("MISS");
+        assertThat(perform(get("/api/v1/products/category/electronics")).getHeader("X-Response-Cache")).isEqualTo("HIT");
+    }
+
+    @Test
+    @DisplayName("Should not cache error responses or uncached endpoints")
+    void shouldSkipErrorsAndUncachedEndpoints() throws Exception {
+        // Given
+        nextStatus = HttpServletResponse.SC_NOT_FOUND;
+        perform(get("/api/v1/products/missing"));
+        nextStatus = HttpServletResponse.SC_OK;
+
+        // When
+        perform(get("/api/v1/products/missing"));
+        perform(get("/api/v1/products/trending"));
+        perform(get("/api/v1/products/trending"));
+
+        // Then
+        assertThat(controllerCalls.get()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("Should keep separate entries per query string")
+    void shouldKeyByQueryString() throws Exception {
+        // Given
+        MockHttpServletRequest firstPage = get("/api/v1/products");
+        firstPage.setQueryString("page=0&size=10");
+        MockHttpServletRequest secondPage = get("/api/v1/products");
+        secondPage.setQueryString("page=1&size=10");
+
+        // When
+        perform(firstPage);
+        MockHttpServletResponse response = perform(secondPage);
+
+        // Then
+        assertThat(response.getHeader("X-Response-Cache")).isEqualTo("MISS");
+        assertThat(controllerCalls.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should not cache responses marked no-store, such as circuit breaker fallbacks")
+    void shouldSkipNoStoreResponses() throws Exception {
+        // Given
+        nextCacheControl = "no-store";
+        perform(get("/api/v1/products"));
+        nextCacheControl = null;
+
+        // When
+        MockHttpServletResponse response = perform(get("/api/v1/products"));
+
+        // Then
+        assertThat(response.getHeader("X-Response-Cache")).isEqualTo("MISS");
+        assertThat(controllerCalls.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should answer 304 from the stored ETag without calling the controller")
+    void shouldAnswerNotModifiedFromStoredETag() throws Exception {
+        // Given
+        String etag = perform(get("/api/v1/products/1")).getHeader("ETag");
+        MockHttpServletRequest request = get("/api/v1/products/1");
+        request.addHeader("If-None-Match", "W/" + etag);
+
+        // When
+        MockHttpServletResponse response = perform(request);
+
+        // Then
+        assertThat(response.getStatus()).isEqualTo(HttpServletResponse.SC_NOT_MODIFIED);
+        assertThat(response.getHeader("ETag")).isEqualTo(etag);
+        assertThat(response.getContentAsByteArray()).isEmpty();
+        assertThat(controllerCalls.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should gzip misses itself, since the container skips responses with a strong ETag")
+    void shouldGzipMisses() throws Exception {
+        // Given
+        MockHttpServletRequest request = get("/api/v1/products/2");
+        request.addHeader("Accept-Encoding", "gzip");
+
+        // When
+        MockHttpServletResponse response = perform(request);
+
+        // Then
+        assertThat(response.getHeader("X-Response-Cache")).isEqualTo("MISS");
+        assertThat(response.getHeader("Content-Encoding")).isEqualTo("gzip");
+        assertThat(response.getHeader("ETag")).isEqualTo("\"v1.gz\"");
+        assertThat(gunzip(response.getContentAsByteArray())).contains("/api/v1/products/2");
+    }
+
+    @Test
+    @DisplayName("Should give each encoding its own ETag and revalidate any variant of it")
+    void shouldRevalidateEncodedVariants() throws Exception {
+        // Given
+        MockHttpServletRequest gzip = get("/api/v1/products/2");
+        gzip.addHeader("Accept-Encoding", "gzip");
+        String gzipTag = perform(gzip).getHeader("ETag");
+        String identityTag = perform(get("/api/v1/products/2")).getHeader("ETag");
+        MockHttpServletRequest revalidation = get("/api/v1/products/2");
+        revalidation.addHeader("Accept-Encoding", "gzip");
+        revalidation.addHeader("If-None-Match", gzipTag);
+
+        // When
+        MockHttpServletResponse response = perform(revalidation);
+
+        // Then
+        assertThat(gzipTag).isEqualTo("\"v1.gz\"");
+        assertThat(identityTag).isEqualTo("\"v1\"");
+        assertThat(response.getStatus()).isEqualTo(HttpServletResponse.SC_NOT_MODIFIED);
+        assertThat(response.getHeader("ETag")).isEqualTo(gzipTag);
+        assertThat(ResponseCacheFilter.matches("W/\"v1.zst\"", "\"v1\"")).isTrue();
+        assertThat(ResponseCacheFilter.matches("\"v1.br\"", "\"v1\"")).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should answer 304 on a miss when the client holds an encoded variant of the controller ETag")
+    void shouldAnswerNotModifiedForEncodedVariantOnMiss() throws Exception {
+        // Given
+        MockHttpServletRequest request = get("/api/v1/products/2");
+        request.addHeader("Accept-Encoding", "gzip");
+        request.addHeader("If-None-Match", "\"v1.gz\"");
+
+        // When
+        MockHttpServletResponse response = perform(request);
+
+        // Then
+        assertThat(response.getStatus()).isEqualTo(HttpServletResponse.SC_NOT_MODIFIED);
+        assertThat(response.getHeader("ETag")).isEqualTo("\"v1.gz\"");
+        assertThat(response.getContentAsByteArray()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should prefer the precompressed zstd variant when the client accepts it")
+    void shouldServeZstdVariant() throws Exception {
+        // Given
+        assumeTrue(ContentCoding.ZSTD.isAvailable());
+        String plain = perform(get("/api/v1/categories")).getContentAsString();
+        MockHttpServletRequest request = get("/api/v1/categories");
+        request.addHeader("Accept-Encoding", "gzip, deflate, br, zstd");
+
+        // When
+        MockHttpServletResponse response = perform(request);
+
+        // Then
+        assertThat(response.getHeader("Content-Encoding")).isEqualTo("zstd");
+        assertThat(new String(Zstd.decompress(response.getContentAsByteArray(),
+                plain.getBytes(StandardCharsets.UTF_8).length), StandardCharsets.UTF_8)).isEqualTo(plain);
+    }
+
+    @Test
+    @DisplayName("Should honor q-values when choosing the encoding")
+    void shouldHonorQualityValues() throws Exception {
+        // Given
+        perform(get("/api/v1/categories"));
+        MockHttpServletRequest request = get("/api/v1/categories");
+        request.addHeader("Accept-Encoding", "zstd;q=0.2, gzip;q=0.8");
+        MockHttpServletRequest refused = get("/api/v1/categories");
+        refused.addHeader("Accept-Encoding", "zstd;q=0, gzip;q=0");
+
+        // When
+        MockHttpServletResponse response = perform(request);
+        MockHttpServletResponse identity = perform(refused);
+
+        // Then
+        assertThat(response.getHeader("Content-Encoding")).isEqualTo("gzip");
+        assertThat(identity.getHeader("Content-Encoding")).isNull();
+    }
+
+    @Test
+    @DisplayName("Should never compress payloads below the minimum response size")
+    void shouldSkipCompressionForSmallPayloads() throws Exception {
+        // Given
+        cache = new ResponseBytesCache(products, new CategoryRepositoryInMemory(), images, new SimpleMeterRegistry(),
+                1 << 20, 1 << 16, Duration.ofMinutes(1), true, DataSize.ofKilobytes(2), List.of("application/json"),
+                List.of("zstd", "gzip"));
+        when(cacheProvider.getIfAvailable()).thenReturn(cache);
+        MockHttpServletRequest request = get("/api/v1/categories");
+        request.addHeader("Accept-Encoding", "gzip, zstd");
+
+        // When
+        MockHttpServletResponse miss = perform(request);
+        MockHttpServletResponse hit = perform(request);
+
+        // Then
+        assertThat(miss.getHeader("Content-Encoding")).isNull();
+        assertThat(hit.getHeader("X-Response-Cache")).isEqualTo("HIT");
+        assertThat(hit.getHeader("Content-Encoding")).isNull();
+        assertThat(hit.getContentAsString()).contains("/api/v1/categories");
+    }
+
+    private static Product product(String id) {
+        return Product.builder().id(id).name("Product " + id).category("electronics").build();
+    }
+
+    private MockHttpServletRequest get(String uri) {
+        return new MockHttpServletRequest("GET", uri);
+    }
+
+    private MockHttpServletResponse perform(MockHttpServletRequest request) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void doGet(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+                int call = controllerCalls.incrementAndGet();
+                resp.setStatus(nextStatus);
+                resp.setContentType("application/json");
+                resp.setHeader("ETag", "\"v" + call + "\"");
+                if (nextCacheControl != null) {
+                    resp.setHeader("Cache-Control", nextCacheControl);
+                }
+                resp.getOutputStream().write(("{\"success\":true,\"data\":{\"uri\":\"" + req.getRequestURI()
+                        + "\",\"call\":" + call + ",\"padding\":\"" + "x".repeat(100) + "\"}}")
+                        .getBytes(StandardCharsets.UTF_8));
+            }
+        }));
+        return response;
+    }
+
+    private static String gunzip(byte[] body) throws IOException {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(body))) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
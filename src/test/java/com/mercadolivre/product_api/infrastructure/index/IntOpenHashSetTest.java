@@ -0,0 +1,60 @@
+package com.mercadolivre.product_api.infrastructure.index;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("IntOpenHashSet Tests")
+class IntOpenHashSetTest {
+
+    @Test
+    @DisplayName("Should add, find and remove handles")
+    void shouldAddAndRemove() {
+        // Given
+        IntOpenHashSet set = new IntOpenHashSet();
+
+        // When
+        assertThat(set.add(1)).isTrue();
+        assertThat(set.add(2)).isTrue();
+        assertThat(set.add(1)).isFalse();
+        assertThat(set.remove(1)).isTrue();
+        assertThat(set.remove(3)).isFalse();
+
+        // Then
+        assertThat(set.contains(1)).isFalse();
+        assertThat(set.contains(2)).isTrue();
+        assertThat(set.toArray()).containsExactly(2);
+    }
+
+    @Test
+    @DisplayName("Should stay consistent with a reference set under random adds and removes")
+    void shouldMatchReferenceSet() {
+        // Given
+        IntOpenHashSet set = new IntOpenHashSet();
+        Set<Integer> expected = new HashSet<>();
+        Random random = new Random(42);
+
+        // When
+        for (int i = 0; i < 200_000; i++) {
+            int value = random.nextInt(5_000);
+            if (random.nextInt(3) == 0) {
+                assertThat(set.remove(value)).isEqualTo(expected.remove(value));
+            } else {
+                assertThat(set.add(value)).isEqualTo(expected.add(value));
+            }
+        }
+
+        // Then
+        assertThat(set.size()).isEqualTo(expected.size());
+        assertThat(Arrays.stream(set.toArray()).boxed().toList()).containsExactlyInAnyOrderElementsOf(expected);
+        for (int value = 0; value < 5_000; value++) {
+            assertThat(set.contains(value)).isEqualTo(expected.contains(value));
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.mercadolivre.product_api.infrastructure.index;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ProductIdRegistry Tests")
+class ProductIdRegistryTest {
+
+    @Test
+    @DisplayName("Should assign dense handles once and resolve them in both directions")
+    void shouldAssignDenseHandles() {
+        // Given
+        ProductIdRegistry registry = new ProductIdRegistry();
+        List<String> ids = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            ids.add(UUID.randomUUID().toString());
+        }
+
+        // When
+        ids.forEach(registry::register);
+
+        // Then
+        assertThat(registry.size()).isEqualTo(10_000);
+        for (int i = 0; i < ids.size(); i++) {
+            assertThat(registry.find(ids.get(i))).isEqualTo(i);
+            assertThat(registry.register(ids.get(i))).isEqualTo(i);
+            assertThat(registry.idOf(i)).isEqualTo(ids.get(i));
+        }
+        assertThat(registry.find("missing")).isEqualTo(ProductIdRegistry.NOT_FOUND);
+        assertThat(registry.idOf(10_000)).isNull();
+    }
+
+    @Test
+    @DisplayName("Should give every concurrent caller the same handle for the same id")
+    void shouldRegisterConcurrently() throws Exception {
+        // Given
+        ProductIdRegistry registry = new ProductIdRegistry();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+
+        // When
+        List<Future<int[]>> results = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            results.add(executor.submit(() -> {
+                int[] handles = new int[5_000];
+                for (int i = 0; i < handles.length; i++) {
+                    handles[i] = registry.register("prod-" + i);
+                }
+                return handles;
+            }));
+        }
+        List<int[]> handles = new ArrayList<>();
+        for (Future<int[]> result : results) {
+            handles.add(result.get());
+        }
+        executor.shutdown();
+
+        // Then
+        assertThat(registry.size()).isEqualTo(5_000);
+        for (int[] other : handles) {
+            assertThat(other).isEqualTo(handles.get(0));
+        }
+        assertThat(handles.get(0)).doesNotHaveDuplicates();
+    }
+
+    @Test
+    @DisplayName("Should keep per-handle counters without boxing")
+    void shouldCountByHandle() {
+        // Given
+        ProductIdRegistry registry = new ProductIdRegistry();
+        HandleCounters counters = new HandleCounters();
+        int handle = registry.register("prod1");
+
+        // When
+        counters.add(handle, 3);
+        counters.add(handle, 4);
+        counters.add(registry.register("prod2"), 1);
+
+        // Then
+        assertThat(counters.get(handle)).isEqualTo(7);
+        assertThat(counters.get(registry.find("prod2"))).isEqualTo(1);
+        assertThat(counters.get(ProductIdRegistry.NOT_FOUND)).isZero();
+        assertThat(counters.get(1_000_000)).isZero();
+    }
+}
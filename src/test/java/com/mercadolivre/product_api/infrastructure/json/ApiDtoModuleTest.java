@@ -0,0 +1,160 @@
+package com.mercadolivre.product_api.infrastructure.json;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.mercadolivre.product_api.application.dto.CategoryDTO;
+import com.mercadolivre.product_api.application.dto.PageResponseDTO;
+import com.mercadolivre.product_api.application.dto.ProductImageDTO;
+import com.mercadolivre.product_api.application.dto.ProductResponseDTO;
+import com.mercadolivre.product_api.domain.dto.ApiResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.MockHttpOutputMessage;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ApiDtoModule Tests")
+class ApiDtoModuleTest {
+
+    private final ObjectMapper stock = mapper(new ObjectMapper());
+    private final ObjectMapper handWritten = mapper(new ObjectMapper()).registerModule(new ApiDtoModule());
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    @DisplayName("Should write a product page byte for byte like the bean serializer")
+    void shouldMatchBeanSerializerForProductPage() throws Exception {
+        // Given
+        ApiResponse<PageResponseDTO<ProductResponseDTO>> page = ApiResponse.success(PageResponseDTO.<ProductResponseDTO>builder()
+                .content(List.of(
+                        product("1", "100.00", LocalDateTime.of(2024, 1, 1, 10, 0)),
+                        product("2", "0.05", LocalDateTime.of(2024, 12, 31, 23, 59, 59, 120_000_000)),
+                        product("3", "-12345678.9", LocalDateTime.of(999, 3, 4, 5, 6, 7, 1)),
+                        product("4", "1E+3", LocalDateTime.of(12024, 1, 1, 0, 0)),
+                        product("5", "0.00000001", null),
+                        product("6", "123456789012345678901234.5", LocalDateTime.of(2024, 6, 1, 12, 30, 0, 999_999_999)),
+                        product("7", "10", LocalDateTime.of(2024, 1, 1, 10, 0)).toBuilder()
+                                .categoryName("Eletrônicos")
+                                .primaryImage(ProductImageDTO.builder().id("i7").productId("7").url("https://cdn/7.jpg").isPrimary(true).build())
+                                .build(),
+                        new ProductResponseDTO()))
+                .pageNumber(1)
+                .pageSize(20)
+                .totalElements(27)
+                .totalPages(2)
+                .last(true)
+                .build());
+
+        // When & Then
+        assertThat(handWritten.writeValueAsString(page)).isEqualTo(stock.writeValueAsString(page));
+    }
+
+    @Test
+    @DisplayName("Should write categories, images and error envelopes like the bean serializer")
+    void shouldMatchBeanSerializerForOtherDtos() throws Exception {
+        // Given
+        ApiResponse<List<CategoryDTO>> categories = ApiResponse.success(List.of(
+                CategoryDTO.builder().id("c1").name("Eletrônicos").description("Tudo \"plugado\"").slug("eletronicos").productCount(12).build(),
+                new CategoryDTO()), "Categorias");
+        ApiResponse<List<ProductImageDTO>> images = ApiResponse.success(List.of(
+                ProductImageDTO.builder().id("i1").productId("1").url("https://cdn/1.jpg").altText("Frente").isPrimary(true).displayOrder(0).build()));
+        ApiResponse<Object> error = ApiResponse.error("Product not found", "Not Found", 404, "/api/v1/products/x");
+
+        // When & Then
+        assertThat(handWritten.writeValueAsString(categories)).isEqualTo(stock.writeValueAsString(categories));
+        assertThat(handWritten.writeValueAsString(images)).isEqualTo(stock.writeValueAsString(images));
+        assertThat(handWritten.writeValueAsString(error)).isEqualTo(stock.writeValueAsString(error));
+    }
+
+    @Test
+    @DisplayName("Should produce the same CBOR bytes as the bean serializer")
+    void shouldMatchBeanSerializerForCbor() throws Exception {
+        // Given
+        ObjectMapper stockCbor = mapper(new ObjectMapper(new CBORFactory()));
+        ObjectMapper handWrittenCbor = mapper(new ObjectMapper(new CBORFactory())).registerModule(new ApiDtoModule());
+        ApiResponse<ProductResponseDTO> product = ApiResponse.success(product("1", "99.90", LocalDateTime.of(2024, 1, 1, 10, 0, 5)));
+
+        // When & Then
+        assertThat(handWrittenCbor.writeValueAsBytes(product)).isEqualTo(stockCbor.writeValueAsBytes(product));
+    }
+
+    @Test
+    @DisplayName("Should project hand-written DTO serializers through ?fields=")
+    void shouldProjectHandWrittenSerializers() throws Exception {
+        // Given
+        SparseFieldsJsonConverter converter = new SparseFieldsJsonConverter(handWritten);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/products");
+        request.setParameter("fields", "name,price");
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+        ApiResponse<PageResponseDTO<ProductResponseDTO>> page = ApiResponse.success(PageResponseDTO.<ProductResponseDTO>builder()
+                .content(List.of(product("1", "100.00", LocalDateTime.of(2024, 1, 1, 10, 0))))
+                .build());
+
+        // When
+        MockHttpOutputMessage output = new MockHttpOutputMessage();
+        converter.write(page, stock.getTypeFactory().constructType(
+                new TypeReference<ApiResponse<PageResponseDTO<ProductResponseDTO>>>() { }), MediaType.APPLICATION_JSON, output);
+
+        // Then
+        JsonNode product = stock.readTree(output.getBodyAsBytes()).path("data").path("content").get(0);
+        assertThat(product.fieldNames()).toIterable().containsExactly("id", "name", "price");
+        assertThat(product.path("price").decimalValue()).isEqualByComparingTo("100.00");
+    }
+
+    @Test
+    @DisplayName("Should write the embedded primary image in full when ?fields= selects it")
+    void shouldWriteEmbeddedImageInFull() throws Exception {
+        // Given
+        SparseFieldsJsonConverter converter = new SparseFieldsJsonConverter(handWritten);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/products/1");
+        request.setParameter("fields", "name,primaryImage");
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+        ProductResponseDTO product = product("1", "100.00", null).toBuilder()
+                .primaryImage(ProductImageDTO.builder().id("i1").productId("1").url("https://cdn/1.jpg").isPrimary(true).displayOrder(0).build())
+                .build();
+
+        // When
+        MockHttpOutputMessage output = new MockHttpOutputMessage();
+        converter.write(product, stock.getTypeFactory().constructType(ProductResponseDTO.class), MediaType.APPLICATION_JSON, output);
+
+        // Then
+        JsonNode json = stock.readTree(output.getBodyAsBytes());
+        assertThat(json.fieldNames()).toIterable().containsExactly("id", "name", "primaryImage");
+        assertThat(json.path("primaryImage").path("url").asText()).isEqualTo("https://cdn/1.jpg");
+        assertThat(json.path("primaryImage").path("displayOrder").asInt()).isZero();
+    }
+
+    private static ObjectMapper mapper(ObjectMapper mapper) {
+        return mapper.registerModule(new JavaTimeModule()).disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    }
+
+    private static ProductResponseDTO product(String id, String price, LocalDateTime createdAt) {
+        return ProductResponseDTO.builder()
+                .id(id)
+                .name("Product " + id)
+                .description(null)
+                .price(new BigDecimal(price))
+                .quantity(Integer.parseInt(id) * 10)
+                .category("electronics")
+                .active(true)
+                .createdAt(createdAt)
+                .updatedAt(createdAt)
+                .build();
+    }
+}
@@ -0,0 +1,175 @@
+package com.mercadolivre.product_api.infrastructure.json;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.mercadolivre.product_api.application.dto.PageResponseDTO;
+import com.mercadolivre.product_api.application.dto.ProductResponseDTO;
+import com.mercadolivre.product_api.domain.dto.ApiResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.mock.http.MockHttpOutputMessage;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("SparseFieldsJsonConverter Tests")
+class SparseFieldsJsonConverterTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    private SparseFieldsJsonConverter converter;
+    private ApiResponse<PageResponseDTO<ProductResponseDTO>> page;
+
+    @BeforeEach
+    void setUp() {
+        converter = new SparseFieldsJsonConverter(objectMapper, 2);
+        ProductResponseDTO product = ProductResponseDTO.builder()
+                .id("1")
+                .name("Product 1")
+                .description("Description 1")
+                .price(new BigDecimal("100.00"))
+                .quantity(10)
+                .category("electronics")
+                .active(true)
+                .createdAt(LocalDateTime.of(2024, 1, 1, 10, 0))
+                .updatedAt(LocalDateTime.of(2024, 1, 2, 10, 0))
+                .build();
+        page = ApiResponse.success(PageResponseDTO.<ProductResponseDTO>builder()
+                .content(List.of(product))
+                .pageNumber(0)
+                .pageSize(20)
+                .totalElements(1)
+                .totalPages(1)
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    @DisplayName("Should write only the requested fields of the DTOs, plus the id, keeping the envelope")
+    void shouldProjectRequestedFields() throws Exception {
+        // Given
+        requestWithFields("name, price");
+
+        // When
+        JsonNode json = write(page);
+
+        // Then
+        JsonNode product = json.path("data").path("content").get(0);
+        assertThat(product.fieldNames()).toIterable().containsExactlyInAnyOrder("id", "name", "price");
+        assertThat(product.path("price").decimalValue()).isEqualByComparingTo("100.00");
+        assertThat(json.path("success").asBoolean()).isTrue();
+        assertThat(json.path("data").path("totalElements").asLong()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should write the full representation without fields or with only unknown names")
+    void shouldWriteFullRepresentationWithoutValidFields() throws Exception {
+        // Given
+        requestWithFields("password,internalCost");
+
+        // When
+        JsonNode projected = write(page);
+        RequestContextHolder.resetRequestAttributes();
+        JsonNode full = write(page);
+
+        // Then
+        assertThat(projected).isEqualTo(full);
+        assertThat(full.path("data").path("content").get(0).has("description")).isTrue();
+        assertThat(full.path("data").path("content").get(0).path("createdAt").asText()).isEqualTo("2024-01-01T10:00:00");
+    }
+
+    @Test
+    @DisplayName("Should reuse one precomputed mapper per normalized field set")
+    void shouldReuseMapperPerFieldSet() {
+        // Given
+        String first = converter.projections().canonicalFieldSet("price,name");
+        String second = converter.projections().canonicalFieldSet(" name ,price,price");
+
+        // When & Then
+        assertThat(first).isEqualTo("id,name,price").isEqualTo(second);
+        assertThat(converter.projections().mapperFor(first)).isSameAs(converter.projections().mapperFor(second));
+        assertThat(converter.projections().mapperFor("id,name")).isNotSameAs(converter.projections().mapperFor(first));
+    }
+
+    @Test
+    @DisplayName("Should project one-off field sets without evicting hot ones, and admit sets that become popular")
+    void shouldBoundFieldSetCache() throws Exception {
+        // Given
+        FieldProjections projections = converter.projections();
+        ObjectMapper names = projections.mapperFor("id,name");
+        ObjectMapper prices = projections.mapperFor("id,price");
+        for (int i = 0; i < 3; i++) {
+            projections.mapperFor("id,name");
+            projections.mapperFor("id,price");
+        }
+        requestWithFields("category");
+
+        // When
+        JsonNode json = write(page);
+
+        // Then
+        assertThat(json.path("data").path("content").get(0).fieldNames()).toIterable()
+                .containsExactlyInAnyOrder("id", "category");
+        assertThat(projections.mapperFor("id,name")).isSameAs(names);
+        assertThat(projections.mapperFor("id,price")).isSameAs(prices);
+        assertThat(projections.cachedFieldSets()).isEqualTo(2);
+
+        for (int i = 0; i < 10; i++) {
+            projections.mapperFor("active,id");
+        }
+        assertThat(projections.mapperFor("active,id")).isSameAs(projections.mapperFor("active,id"));
+        assertThat(projections.cachedFieldSets()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should apply the same projection to the binary converters through the shared helper")
+    void shouldProjectBinaryFormats() throws Exception {
+        // Given
+        SparseFieldsCborConverter cbor = new SparseFieldsCborConverter(new Jackson2ObjectMapperBuilder());
+        requestWithFields("name");
+
+        // When
+        MockHttpOutputMessage output = new MockHttpOutputMessage();
+        cbor.write(page, objectMapper.getTypeFactory().constructType(
+                new TypeReference<ApiResponse<PageResponseDTO<ProductResponseDTO>>>() { }), MediaType.valueOf("application/cbor"), output);
+        JsonNode json = new CBORMapper().readTree(output.getBodyAsBytes());
+
+        // Then
+        assertThat(json.path("data").path("content").get(0).fieldNames()).toIterable()
+                .containsExactlyInAnyOrder("id", "name");
+        assertThat(FieldProjections.of(cbor.getObjectMapper())).isNotSameAs(converter.projections());
+    }
+
+    private void requestWithFields(String fields) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/products");
+        request.setParameter("fields", fields);
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+    }
+
+    private JsonNode write(Object body) throws Exception {
+        MockHttpOutputMessage output = new MockHttpOutputMessage();
+        converter.write(body, objectMapper.getTypeFactory().constructType(
+                new TypeReference<ApiResponse<PageResponseDTO<ProductResponseDTO>>>() { }), MediaType.APPLICATION_JSON, output);
+        return objectMapper.readTree(output.getBodyAsBytes());
+    }
+}
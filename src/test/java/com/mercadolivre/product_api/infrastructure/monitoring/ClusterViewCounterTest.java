@@ -0,0 +1,143 @@
+package com.mercadolivre.product_api.infrastructure.monitoring;
+
+import com.mercadolivre.product_api.domain.event.ProductViewedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ClusterViewCounter Tests")
+class ClusterViewCounterTest {
+
+    private static final long MAX_STALENESS = 2_000;
+
+    private AtomicLong now;
+    private CountingStore store;
+    private ClusterViewCounter nodeA;
+    private ClusterViewCounter nodeB;
+
+    @BeforeEach
+    void setUp() {
+        now = new AtomicLong(1_000_000);
+        store = new CountingStore();
+        nodeA = new ClusterViewCounter(store, new SimpleMeterRegistry(), MAX_STALENESS, now::get);
+        nodeB = new ClusterViewCounter(store, new SimpleMeterRegistry(), MAX_STALENESS, now::get);
+    }
+
+    @Test
+    @DisplayName("Should count local views before they are flushed")
+    void shouldCountUnflushedLocalViews() {
+        // When
+        nodeA.handleBatch(views("prod1", "electronics", 3));
+
+        // Then
+        assertThat(nodeA.productViews("prod1")).isEqualTo(3);
+        assertThat(nodeA.categoryViews("electronics")).isEqualTo(3);
+        assertThat(store.increments.get()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should send all deltas of an interval in a single store call")
+    void shouldBatchDeltasPerFlush() {
+        // Given
+        nodeA.handleBatch(views("prod1", "electronics", 50));
+        nodeA.handleBatch(views("prod2", "books", 20));
+        nodeA.handleCoalescedViews(event("prod1", "electronics"), 30);
+
+        // When
+        nodeA.flush();
+
+        // Then
+        assertThat(store.increments.get()).isEqualTo(1);
+        assertThat(store.productViews("prod1")).isEqualTo(80);
+        assertThat(store.productViews("prod2")).isEqualTo(20);
+        assertThat(store.categoryViews("electronics")).isEqualTo(80);
+        assertThat(nodeA.productViews("prod1")).isEqualTo(80);
+    }
+
+    @Test
+    @DisplayName("Should merge views from other replicas once flushed and the cached total expires")
+    void shouldMergeOtherReplicasWithBoundedStaleness() {
+        // Given
+        nodeA.handleBatch(views("prod1", "electronics", 5));
+        nodeA.flush();
+        assertThat(nodeB.productViews("prod1")).isEqualTo(5);
+
+        // When
+        nodeA.handleBatch(views("prod1", "electronics", 7));
+        nodeA.flush();
+
+        // Then
+        assertThat(nodeB.productViews("prod1")).isEqualTo(5);
+        now.addAndGet(MAX_STALENESS);
+        assertThat(nodeB.productViews("prod1")).isEqualTo(12);
+        assertThat(nodeA.productViews("prod1")).isEqualTo(12);
+    }
+
+    @Test
+    @DisplayName("Should not count flushed views twice when the total was cached before the flush")
+    void shouldNotDoubleCountAfterFlush() {
+        // Given
+        nodeA.handleBatch(views("prod1", "electronics", 4));
+        assertThat(nodeA.productViews("prod1")).isEqualTo(4);
+
+        // When
+        nodeA.flush();
+
+        // Then
+        assertThat(nodeA.productViews("prod1")).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("Should keep deltas and retry on the next flush when the store fails")
+    void shouldRequeueDeltasOnFailure() {
+        // Given
+        nodeA.handleBatch(views("prod1", "electronics", 6));
+        store.failing.set(true);
+
+        // When
+        nodeA.flush();
+
+        // Then
+        assertThat(nodeA.productViews("prod1")).isEqualTo(6);
+        store.failing.set(false);
+        nodeA.flush();
+        assertThat(store.productViews("prod1")).isEqualTo(6);
+        assertThat(nodeA.productViews("prod1")).isEqualTo(6);
+    }
+
+    private static List<ProductViewedEvent> views(String productId, String category, int count) {
+        List<ProductViewedEvent> events = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            events.add(event(productId, category));
+        }
+        return events;
+    }
+
+    private static ProductViewedEvent event(String productId, String category) {
+        return new ProductViewedEvent(ClusterViewCounterTest.class, productId, "Product", category, "req");
+    }
+
+    private static final class CountingStore extends InMemoryViewCountStore {
+        private final AtomicInteger increments = new AtomicInteger();
+        private final AtomicBoolean failing = new AtomicBoolean();
+
+        @Override
+        public void increment(Map<String, Long> productDeltas, Map<String, Long> categoryDeltas) {
+            if (failing.get()) {
+                throw new IllegalStateException("store unavailable");
+            }
+            increments.incrementAndGet();
+            super.increment(productDeltas, categoryDeltas);
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.mercadolivre.product_api.infrastructure.monitoring;
+
+import com.mercadolivre.product_api.infrastructure.monitoring.SlidingWindowCounter.Window;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+@DisplayName("SlidingWindowCounter Tests")
+class SlidingWindowCounterTest {
+
+    private AtomicLong now;
+    private SlidingWindowCounter counter;
+
+    @BeforeEach
+    void setUp() {
+        now = new AtomicLong(TimeUnit.DAYS.toMillis(100));
+        counter = new SlidingWindowCounter(now::get);
+    }
+
+    @Test
+    @DisplayName("Should count recent views in every window")
+    void shouldCountInAllWindows() {
+        // When
+        counter.add(3);
+        counter.add(2);
+
+        // Then
+        assertThat(counter.snapshot()).containsExactly(
+                entry("1m", 5L),
+                entry("5m", 5L),
+                entry("1h", 5L),
+                entry("24h", 5L));
+    }
+
+    @Test
+    @DisplayName("Should roll old buckets off each window as time advances")
+    void shouldRollOffOldBuckets() {
+        // Given
+        counter.add(10);
+
+        // When
+        advance(TimeUnit.MINUTES.toMillis(2));
+        counter.add(1);
+
+        // Then
+        assertThat(counter.sum(Window.ONE_MINUTE)).isEqualTo(1);
+        assertThat(counter.sum(Window.FIVE_MINUTES)).isEqualTo(11);
+
+        // When
+        advance(TimeUnit.HOURS.toMillis(2));
+
+        // Then
+        assertThat(counter.sum(Window.FIVE_MINUTES)).isZero();
+        assertThat(counter.sum(Window.ONE_HOUR)).isZero();
+        assertThat(counter.sum(Window.ONE_DAY)).isEqualTo(11);
+
+        // When
+        advance(TimeUnit.HOURS.toMillis(25));
+
+        // Then
+        assertThat(counter.sum(Window.ONE_DAY)).isZero();
+    }
+
+    @Test
+    @DisplayName("Should reuse ring slots after a full revolution without keeping stale counts")
+    void shouldReuseSlotsAfterRevolution() {
+        // Given
+        counter.add(7);
+
+        // When (exatamente uma volta do anel de 1 minuto: mesmo slot, época nova)
+        advance(TimeUnit.MINUTES.toMillis(1));
+        counter.add(1);
+
+        // Then
+        assertThat(counter.sum(Window.ONE_MINUTE)).isEqualTo(1);
+        assertThat(counter.sum(Window.FIVE_MINUTES)).isEqualTo(8);
+    }
+
+    private void advance(long millis) {
+        now.addAndGet(millis);
+    }
+}
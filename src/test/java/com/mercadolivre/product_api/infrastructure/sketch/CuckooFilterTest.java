@@ -0,0 +1,90 @@
+package com.mercadolivre.product_api.infrastructure.sketch;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("CuckooFilter Tests")
+class CuckooFilterTest {
+
+    @Test
+    @DisplayName("Should never report a false negative for inserted ids")
+    void shouldNeverReportFalseNegativeForInsertedIds() {
+        // Given
+        CuckooFilter filter = new CuckooFilter(10_000);
+        List<String> ids = randomIds(10_000);
+
+        // When
+        ids.forEach(filter::add);
+
+        // Then
+        assertThat(ids).allMatch(filter::mightContain);
+        assertThat(filter.size()).isEqualTo(10_000);
+    }
+
+    @Test
+    @DisplayName("Should keep the false-positive rate within the expected bound")
+    void shouldKeepFalsePositiveRateWithinExpectedBound() {
+        // Given
+        CuckooFilter filter = new CuckooFilter(10_000);
+        randomIds(10_000).forEach(filter::add);
+
+        // When
+        long falsePositives = randomIds(100_000).stream().filter(filter::mightContain).count();
+
+        // Then
+        assertThat(falsePositives / 100_000.0).isLessThan(0.001);
+        assertThat(filter.expectedFalsePositiveRate()).isLessThan(0.001);
+    }
+
+    @Test
+    @DisplayName("Should forget removed ids and keep the others")
+    void shouldForgetRemovedIds() {
+        // Given
+        CuckooFilter filter = new CuckooFilter(100);
+        filter.add("kept");
+        filter.add("removed");
+
+        // When
+        boolean removed = filter.remove("removed");
+
+        // Then
+        assertThat(removed).isTrue();
+        assertThat(filter.mightContain("removed")).isFalse();
+        assertThat(filter.mightContain("kept")).isTrue();
+        assertThat(filter.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should refuse inserts once full without losing existing ids")
+    void shouldRefuseInsertsOnceFull() {
+        // Given
+        CuckooFilter filter = new CuckooFilter(8);
+        List<String> accepted = new ArrayList<>();
+
+        // When
+        for (String id : randomIds(1_000)) {
+            if (!filter.add(id)) {
+                break;
+            }
+            accepted.add(id);
+        }
+
+        // Then
+        assertThat(filter.isFull()).isTrue();
+        assertThat(accepted).allMatch(filter::mightContain);
+    }
+
+    private static List<String> randomIds(int count) {
+        List<String> ids = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            ids.add(UUID.randomUUID().toString());
+        }
+        return ids;
+    }
+}
@@ -0,0 +1,77 @@
+package com.mercadolivre.product_api.infrastructure.sketch;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+@DisplayName("HyperLogLog Tests")
+class HyperLogLogTest {
+
+    @Test
+    @DisplayName("Should estimate distinct visitors within three standard errors and ignore repeats")
+    void shouldEstimateDistinctCount() {
+        // Given
+        HyperLogLog hll = new HyperLogLog(11);
+
+        // When
+        for (int round = 0; round < 5; round++) {
+            for (int i = 0; i < 100_000; i++) {
+                hll.add("visitor-" + i);
+            }
+        }
+
+        // Then
+        double error = 3 * HyperLogLog.standardError(11);
+        assertThat((double) hll.estimate()).isCloseTo(100_000, within(100_000 * error));
+        assertThat(hll.memoryBytes()).isEqualTo(2048);
+    }
+
+    @Test
+    @DisplayName("Should be nearly exact for small cardinalities")
+    void shouldUseLinearCountingForSmallCardinalities() {
+        // Given
+        HyperLogLog hll = new HyperLogLog(11);
+
+        // When
+        for (int i = 0; i < 50; i++) {
+            hll.add("visitor-" + i);
+            hll.add("visitor-" + i);
+        }
+
+        // Then
+        assertThat(hll.estimate()).isBetween(48L, 52L);
+    }
+
+    @Test
+    @DisplayName("Should estimate the union when merging sketches")
+    void shouldMergeSketches() {
+        // Given
+        HyperLogLog morning = new HyperLogLog(11);
+        HyperLogLog evening = new HyperLogLog(11);
+        for (int i = 0; i < 30_000; i++) {
+            morning.add("visitor-" + i);
+        }
+        for (int i = 20_000; i < 50_000; i++) {
+            evening.add("visitor-" + i);
+        }
+
+        // When
+        HyperLogLog day = morning.copy();
+        day.merge(evening);
+
+        // Then
+        double error = 3 * HyperLogLog.standardError(11);
+        assertThat((double) day.estimate()).isCloseTo(50_000, within(50_000 * error));
+        assertThat((double) morning.estimate()).isCloseTo(30_000, within(30_000 * error));
+    }
+
+    @Test
+    @DisplayName("Should reject merging sketches with different precision")
+    void shouldRejectDifferentPrecision() {
+        assertThatThrownBy(() -> new HyperLogLog(11).merge(new HyperLogLog(12)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
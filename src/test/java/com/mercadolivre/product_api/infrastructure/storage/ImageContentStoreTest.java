@@ -0,0 +1,109 @@
+package com.mercadolivre.product_api.infrastructure.storage;
+
+import com.mercadolivre.product_api.infrastructure.storage.ImageContentStore.StoredImage;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.MediaType;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.HexFormat;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ImageContentStore Tests")
+class ImageContentStoreTest {
+
+    private static final int THUMBNAIL_MAX_BYTES = 1_024;
+
+    @TempDir
+    Path tempDir;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ImageContentStore store;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        store = new ImageContentStore(meterRegistry, tempDir, THUMBNAIL_MAX_BYTES, 1 << 20);
+    }
+
+    @Test
+    @DisplayName("Should store content under its SHA-256, once per distinct content")
+    void shouldStoreContentAddressed() throws Exception {
+        // Given
+        byte[] content = bytes(300, 7);
+        String hash = HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+
+        // When
+        String fileName = store.put(content, "PNG");
+        String again = store.put(content, "png");
+
+        // Then
+        assertThat(fileName).isEqualTo(hash + ".png").isEqualTo(again);
+        Path path = tempDir.resolve(hash.substring(0, 2)).resolve(fileName);
+        assertThat(Files.readAllBytes(path)).isEqualTo(content);
+        try (var files = Files.list(path.getParent())) {
+            assertThat(files).containsExactly(path);
+        }
+    }
+
+    @Test
+    @DisplayName("Should not resolve invalid names, path traversal or missing files")
+    void shouldRejectInvalidNames() {
+        // Given
+        String fileName = store.put(bytes(10, 1), "jpg");
+        String hash = fileName.substring(0, 64);
+
+        // When & Then
+        assertThat(store.find(fileName)).isPresent();
+        assertThat(store.find("../" + fileName)).isEmpty();
+        assertThat(store.find(hash.toUpperCase() + ".jpg")).isEmpty();
+        assertThat(store.find(hash + ".svg")).isEmpty();
+        assertThat(store.find(hash.substring(0, 63) + "0.jpg")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should keep small images in memory and stream large ones from disk")
+    void shouldCacheOnlySmallImages() throws IOException {
+        // Given
+        byte[] thumbnail = bytes(THUMBNAIL_MAX_BYTES, 3);
+        byte[] large = bytes(THUMBNAIL_MAX_BYTES * 8, 5);
+        String thumbnailName = store.put(thumbnail, "webp");
+        String largeName = store.put(large, "jpg");
+        store.find(thumbnailName);
+
+        // When
+        Files.delete(tempDir.resolve(thumbnailName.substring(0, 2)).resolve(thumbnailName));
+        StoredImage cached = store.find(thumbnailName).orElseThrow();
+        StoredImage streamed = store.find(largeName).orElseThrow();
+
+        // Then
+        assertThat(cached.inMemory()).isTrue();
+        assertThat(cached.bytes()).isEqualTo(thumbnail);
+        assertThat(cached.mediaType()).isEqualTo(MediaType.parseMediaType("image/webp"));
+        assertThat(meterRegistry.counter("image.store.thumbnail.cache", "result", "hit").count()).isEqualTo(1);
+        assertThat(streamed.inMemory()).isFalse();
+        assertThat(streamed.length()).isEqualTo(large.length);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        store.transferTo(streamed, 100, 2_000, Channels.newChannel(out));
+        assertThat(out.toByteArray()).isEqualTo(Arrays.copyOfRange(large, 100, 2_100));
+    }
+
+    private static byte[] bytes(int length, int seed) {
+        byte[] bytes = new byte[length];
+        for (int i = 0; i < length; i++) {
+            bytes[i] = (byte) (i * 31 + seed);
+        }
+        return bytes;
+    }
+}
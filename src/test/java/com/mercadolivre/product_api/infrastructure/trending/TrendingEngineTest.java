@@ -0,0 +1,119 @@
+package com.mercadolivre.product_api.infrastructure.trending;
+
+import com.mercadolivre.product_api.domain.event.ProductChangedEvent;
+import com.mercadolivre.product_api.domain.event.ProductChangedEvent.ChangeType;
+import com.mercadolivre.product_api.domain.event.ProductViewedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+@DisplayName("TrendingEngine Tests")
+class TrendingEngineTest {
+
+    private AtomicLong now;
+    private TrendingEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        now = new AtomicLong(TimeUnit.DAYS.toMillis(100));
+        engine = new TrendingEngine(Duration.ofMinutes(10), 3, now::get);
+    }
+
+    @Test
+    @DisplayName("Should rank products by views and halve scores every half-life")
+    void shouldDecayScores() {
+        // Given
+        views("p1", "eletronicos", 8);
+        views("p2", "eletronicos", 4);
+
+        // When
+        now.addAndGet(TimeUnit.MINUTES.toMillis(10));
+
+        // Then
+        List<TrendingEngine.Trend> top = engine.top(null, 10);
+        assertThat(top).extracting(TrendingEngine.Trend::productId).containsExactly("p1", "p2");
+        assertThat(top.get(0).score()).isCloseTo(4.0, within(1e-9));
+        assertThat(top.get(1).score()).isCloseTo(2.0, within(1e-9));
+    }
+
+    @Test
+    @DisplayName("Should let recent views overtake older but larger bursts")
+    void shouldFavorRecentPopularity() {
+        // Given
+        views("old", "moda", 20);
+        now.addAndGet(TimeUnit.MINUTES.toMillis(30));
+
+        // When
+        views("fresh", "moda", 5);
+
+        // Then
+        assertThat(engine.top("moda", 2)).extracting(TrendingEngine.Trend::productId).containsExactly("fresh", "old");
+    }
+
+    @Test
+    @DisplayName("Should keep only the top-K products globally and per category")
+    void shouldBoundRankings() {
+        // When
+        views("a", "livros", 1);
+        views("b", "livros", 2);
+        views("c", "moda", 3);
+        views("d", "livros", 4);
+
+        // Then
+        assertThat(engine.top(null, 10)).extracting(TrendingEngine.Trend::productId).containsExactly("d", "c", "b");
+        assertThat(engine.top("LIVROS", 10)).extracting(TrendingEngine.Trend::productId).containsExactly("d", "b", "a");
+        assertThat(engine.top("livros", 1)).hasSize(1);
+        assertThat(engine.top("casa", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should drop deleted products and move products that changed category")
+    void shouldFollowProductChanges() {
+        // Given
+        views("p1", "moda", 3);
+        views("p2", "moda", 2);
+
+        // When
+        engine.onProductChanged(new ProductChangedEvent(this, "p1", null, "moda", ChangeType.DELETED));
+        engine.onProductChanged(new ProductChangedEvent(this, "p2", "livros", "moda", ChangeType.UPDATED));
+
+        // Then
+        assertThat(engine.top(null, 10)).extracting(TrendingEngine.Trend::productId).containsExactly("p2");
+        assertThat(engine.top("moda", 10)).isEmpty();
+        assertThat(engine.top("livros", 10)).extracting(TrendingEngine.Trend::productId).containsExactly("p2");
+    }
+
+    @Test
+    @DisplayName("Should keep rankings and scores consistent across landmark rescaling")
+    void shouldRescaleWithoutChangingOrder() {
+        // Given
+        views("p1", "moda", 1000);
+        views("p2", "moda", 500);
+
+        // When (mais de 43 meias-vidas: força a reescala do marco)
+        now.addAndGet(TimeUnit.MINUTES.toMillis(450));
+        views("p3", "moda", 1);
+
+        // Then
+        List<TrendingEngine.Trend> top = engine.top(null, 10);
+        assertThat(top).extracting(TrendingEngine.Trend::productId).containsExactly("p3");
+        assertThat(top.get(0).score()).isCloseTo(1.0, within(1e-9));
+    }
+
+    private void views(String productId, String category, int count) {
+        List<ProductViewedEvent> events = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            events.add(new ProductViewedEvent(this, productId, "Product " + productId, category, "req" + i));
+        }
+        engine.handleBatch(events);
+    }
+}
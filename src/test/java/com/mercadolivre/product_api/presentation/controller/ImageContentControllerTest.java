@@ -0,0 +1,125 @@
+package com.mercadolivre.product_api.presentation.controller;
+
+import com.mercadolivre.product_api.infrastructure.exception.GlobalExceptionHandler;
+import com.mercadolivre.product_api.infrastructure.storage.ImageContentStore;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@DisplayName("ImageContentController Tests")
+class ImageContentControllerTest {
+
+    private static final String CONTENT = "/api/v1/images/content/";
+
+    @TempDir
+    Path tempDir;
+
+    private MockMvc mockMvc;
+    private ImageContentStore store;
+    private byte[] image;
+    private String fileName;
+    private String etag;
+
+    @BeforeEach
+    void setUp() {
+        store = new ImageContentStore(new SimpleMeterRegistry(), tempDir, 256, 1 << 20);
+        mockMvc = MockMvcBuilders.standaloneSetup(new ImageContentController(store))
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+        image = new byte[10_000];
+        for (int i = 0; i < image.length; i++) {
+            image[i] = (byte) (i * 17);
+        }
+        fileName = store.put(image, "jpg");
+        etag = "\"" + fileName.substring(0, 64) + "\"";
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/images/content/{file} should stream the image with immutable cache headers")
+    void shouldServeWholeImage() throws Exception {
+        // When & Then
+        mockMvc.perform(get(CONTENT + fileName))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("image/jpeg"))
+                .andExpect(content().bytes(image))
+                .andExpect(header().longValue(HttpHeaders.CONTENT_LENGTH, image.length))
+                .andExpect(header().string(HttpHeaders.ETAG, etag))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=31536000, public, immutable"))
+                .andExpect(header().string(HttpHeaders.ACCEPT_RANGES, "bytes"));
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/images/content/{file} should answer single ranges with 206 and bad ones with 416")
+    void shouldServeRanges() throws Exception {
+        // When & Then
+        mockMvc.perform(get(CONTENT + fileName).header(HttpHeaders.RANGE, "bytes=100-1099"))
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 100-1099/10000"))
+                .andExpect(content().bytes(Arrays.copyOfRange(image, 100, 1_100)));
+        mockMvc.perform(get(CONTENT + fileName).header(HttpHeaders.RANGE, "bytes=-500").header(HttpHeaders.IF_RANGE, etag))
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 9500-9999/10000"))
+                .andExpect(content().bytes(Arrays.copyOfRange(image, 9_500, 10_000)));
+        mockMvc.perform(get(CONTENT + fileName).header(HttpHeaders.RANGE, "bytes=10000-"))
+                .andExpect(status().isRequestedRangeNotSatisfiable())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes */10000"));
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/images/content/{file} should send the whole image for multiple ranges or a stale If-Range")
+    void shouldIgnoreUnsupportedRanges() throws Exception {
+        // When & Then
+        mockMvc.perform(get(CONTENT + fileName).header(HttpHeaders.RANGE, "bytes=0-9,20-29"))
+                .andExpect(status().isOk())
+                .andExpect(content().bytes(image));
+        mockMvc.perform(get(CONTENT + fileName).header(HttpHeaders.RANGE, "bytes=0-9").header(HttpHeaders.IF_RANGE, "\"other\""))
+                .andExpect(status().isOk())
+                .andExpect(content().bytes(image));
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/images/content/{file} should return 304 when the client already has the hash")
+    void shouldReturnNotModified() throws Exception {
+        // When & Then
+        mockMvc.perform(get(CONTENT + fileName).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().bytes(new byte[0]));
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/images/content/{file} should hand large ranges to Tomcat sendfile when supported")
+    void shouldDelegateToSendfile() throws Exception {
+        // When & Then
+        mockMvc.perform(get(CONTENT + fileName)
+                        .requestAttr(ImageContentController.SENDFILE_SUPPORT, Boolean.TRUE)
+                        .header(HttpHeaders.RANGE, "bytes=1000-"))
+                .andExpect(status().isPartialContent())
+                .andExpect(header().longValue(HttpHeaders.CONTENT_LENGTH, 9_000))
+                .andExpect(request().attribute(ImageContentController.SENDFILE_FILENAME,
+                        tempDir.resolve(fileName.substring(0, 2)).resolve(fileName).toAbsolutePath().normalize().toString()))
+                .andExpect(request().attribute(ImageContentController.SENDFILE_START, 1_000L))
+                .andExpect(request().attribute(ImageContentController.SENDFILE_END, 10_000L))
+                .andExpect(content().bytes(new byte[0]));
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/images/content/{file} should return 404 for unknown or invalid names")
+    void shouldReturnNotFound() throws Exception {
+        // When & Then
+        mockMvc.perform(get(CONTENT + "0".repeat(64) + ".jpg"))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(get(CONTENT + "image.exe"))
+                .andExpect(status().isNotFound());
+    }
+}
@@ -1,6 +1,10 @@
 package com.mercadolivre.product_api.presentation.controller;
 
+import com.mercadolivre.product_api.infrastructure.cache.HotKeyDetector;
+import com.mercadolivre.product_api.infrastructure.cache.HotKeyPinning;
 import com.mercadolivre.product_api.infrastructure.event.ProductEventListener;
+import com.mercadolivre.product_api.infrastructure.monitoring.ClusterViewCounter;
+import com.mercadolivre.product_api.infrastructure.monitoring.UniqueViewerTracker;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -9,6 +13,11 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -23,11 +32,20 @@ class MetricsControllerTest {
     @MockBean
     private ProductEventListener eventListener;
 
+    @MockBean
+    private HotKeyPinning hotKeyPinning;
+
+    @MockBean
+    private UniqueViewerTracker uniqueViewerTracker;
+
+    @MockBean
+    private ClusterViewCounter clusterViewCounter;
+
     @Test
     @DisplayName("GET /api/v1/metrics/products/{productId}/views should return product views")
     void shouldReturnProductViews() throws Exception {
         // Given
-        when(eventListener.getProductViewCount("prod1")).thenReturn(10);
+        when(clusterViewCounter.productViews("prod1")).thenReturn(10L);
 
         // When & Then
         mockMvc.perform(get("/api/v1/metrics/products/prod1/views")
@@ -40,11 +58,61 @@ class MetricsControllerTest {
                 .andExpect(jsonPath("$.message").value("Product view metrics retrieved successfully"));
     }
 
+    @Test
+    @DisplayName("GET /api/v1/metrics/products/{productId}/views should return sliding-window views")
+    void shouldReturnProductViewWindows() throws Exception {
+        // Given
+        when(clusterViewCounter.productViews("prod1")).thenReturn(500L);
+        when(eventListener.getProductViewWindows("prod1")).thenReturn(Map.of("1m", 3L, "5m", 12L, "1h", 80L, "24h", 400L));
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/metrics/products/prod1/views")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.viewCount").value(500))
+                .andExpect(jsonPath("$.data.windows.1m").value(3))
+                .andExpect(jsonPath("$.data.windows.5m").value(12))
+                .andExpect(jsonPath("$.data.windows.1h").value(80))
+                .andExpect(jsonPath("$.data.windows.24h").value(400));
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/metrics/products/{productId}/views should return cluster total and node count")
+    void shouldReturnClusterAndNodeViewCounts() throws Exception {
+        // Given
+        when(clusterViewCounter.productViews("prod1")).thenReturn(300L);
+        when(eventListener.getProductViewCount("prod1")).thenReturn(110);
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/metrics/products/prod1/views")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.viewCount").value(300))
+                .andExpect(jsonPath("$.data.nodeViewCount").value(110));
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/metrics/categories/{category}/views should return unique viewer estimates")
+    void shouldReturnCategoryUniqueViewers() throws Exception {
+        // Given
+        when(uniqueViewerTracker.categoryUniqueViewers("electronics"))
+                .thenReturn(Map.of("currentHour", 40L, "24h", 900L, "total", 5000L));
+        when(uniqueViewerTracker.standardError()).thenReturn(0.023);
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/metrics/categories/electronics/views")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.uniqueViewers.24h").value(900))
+                .andExpect(jsonPath("$.data.uniqueViewers.total").value(5000))
+                .andExpect(jsonPath("$.data.uniqueViewersStandardError").value(0.023));
+    }
+
     @Test
     @DisplayName("GET /api/v1/metrics/products/{productId}/views should return zero for new product")
     void shouldReturnZeroViewsForNewProduct() throws Exception {
         // Given
-        when(eventListener.getProductViewCount("prod999")).thenReturn(0);
+        when(clusterViewCounter.productViews("prod999")).thenReturn(0L);
 
         // When & Then
         mockMvc.perform(get("/api/v1/metrics/products/prod999/views")
@@ -58,7 +126,7 @@ class MetricsControllerTest {
     @DisplayName("GET /api/v1/metrics/categories/{category}/views should return category views")
     void shouldReturnCategoryViews() throws Exception {
         // Given
-        when(eventListener.getCategoryViewCount("electronics")).thenReturn(25);
+        when(clusterViewCounter.categoryViews("electronics")).thenReturn(25L);
 
         // When & Then
         mockMvc.perform(get("/api/v1/metrics/categories/electronics/views")
@@ -74,7 +142,7 @@ class MetricsControllerTest {
     @DisplayName("GET /api/v1/metrics/categories/{category}/views should return zero for new category")
     void shouldReturnZeroViewsForNewCategory() throws Exception {
         // Given
-        when(eventListener.getCategoryViewCount("newcategory")).thenReturn(0);
+        when(clusterViewCounter.categoryViews("newcategory")).thenReturn(0L);
 
         // When & Then
         mockMvc.perform(get("/api/v1/metrics/categories/newcategory/views")
@@ -82,4 +150,28 @@ class MetricsControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.data.viewCount").value(0));
     }
+
+    @Test
+    @DisplayName("GET /api/v1/metrics/cache/hot-keys should return hot keys with rates and pinning state")
+    void shouldReturnHotKeys() throws Exception {
+        // Given
+        HotKeyDetector detector = mock(HotKeyDetector.class);
+        when(hotKeyPinning.getDetector()).thenReturn(detector);
+        when(hotKeyPinning.pinnedKeys()).thenReturn(Set.of("viral"));
+        when(detector.getThresholdPerSecond()).thenReturn(50.0);
+        when(detector.topKeys()).thenReturn(List.of(
+                new HotKeyDetector.HotKey("viral", 120.0),
+                new HotKeyDetector.HotKey("normal", 3.0)));
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/metrics/cache/hot-keys")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.thresholdPerSecond").value(50.0))
+                .andExpect(jsonPath("$.data.keys[0].key").value("viral"))
+                .andExpect(jsonPath("$.data.keys[0].hot").value(true))
+                .andExpect(jsonPath("$.data.keys[0].pinned").value(true))
+                .andExpect(jsonPath("$.data.keys[1].hot").value(false))
+                .andExpect(jsonPath("$.data.keys[1].pinned").value(false));
+    }
 }
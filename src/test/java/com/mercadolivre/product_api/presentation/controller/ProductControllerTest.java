@@ -1,10 +1,20 @@
 package com.mercadolivre.product_api.presentation.controller;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
 import com.mercadolivre.product_api.application.dto.PageResponseDTO;
+import com.mercadolivre.product_api.application.dto.ProductDetailDTO;
+import com.mercadolivre.product_api.application.dto.ProductImageDTO;
 import com.mercadolivre.product_api.application.dto.ProductResponseDTO;
+import com.mercadolivre.product_api.application.dto.TrendingProductDTO;
+import com.mercadolivre.product_api.application.service.IProductDetailService;
+import com.mercadolivre.product_api.application.service.IProductEmbedService;
 import com.mercadolivre.product_api.application.service.IProductService;
+import com.mercadolivre.product_api.application.service.ITrendingService;
 import com.mercadolivre.product_api.domain.dto.ApiResponse;
 import com.mercadolivre.product_api.domain.exception.ResourceNotFoundException;
+import com.mercadolivre.product_api.infrastructure.cache.EntityTags;
+import com.mercadolivre.product_api.infrastructure.cache.ProductIdFilter;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -18,7 +28,10 @@ import java.math.BigDecimal;
 import java.util.Arrays;
 import java.util.List;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -33,11 +46,28 @@ class ProductControllerTest {
     @MockBean
     private IProductService productService;
 
+    @MockBean
+    private IProductDetailService productDetailService;
+
+    @MockBean
+    private IProductEmbedService productEmbedService;
+
+    @MockBean
+    private ITrendingService trendingService;
+
+    @MockBean
+    private ProductIdFilter productIdFilter;
+
+    @MockBean
+    private EntityTags entityTags;
+
     private ProductResponseDTO productDTO;
     private PageResponseDTO<ProductResponseDTO> pageResponse;
 
     @BeforeEach
     void setUp() {
+        when(productIdFilter.mightContain(anyString())).thenReturn(true);
+
         productDTO = ProductResponseDTO.builder()
                 .id("1")
                 .name("Product 1")
@@ -59,6 +89,11 @@ class ProductControllerTest {
                 .last(true)
                 .empty(false)
                 .build();
+
+        // Por padrão nada é embutido: os mocks devolvem o que recebem
+        when(productEmbedService.embed(any(ProductResponseDTO.class), any())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(productEmbedService.embed(any(PageResponseDTO.class), any())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(entityTags.withEmbeds(any(), any())).thenAnswer(invocation -> invocation.getArgument(0));
     }
 
     @Test
@@ -154,6 +189,60 @@ class ProductControllerTest {
                 .andExpect(jsonPath("$.success").value(true));
     }
 
+    @Test
+    @DisplayName("GET /api/v1/products/{id}/detail should return the assembled page with unavailable parts")
+    void shouldReturnProductDetail() throws Exception {
+        // Given
+        when(productDetailService.getProductDetail("1")).thenReturn(ProductDetailDTO.builder()
+                .product(productDTO)
+                .images(List.of())
+                .recommended(List.of(productDTO))
+                .unavailable(List.of("category", "images"))
+                .build());
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/products/1/detail"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.product.id").value("1"))
+                .andExpect(jsonPath("$.data.recommended[0].name").value("Product 1"))
+                .andExpect(jsonPath("$.data.unavailable[0]").value("category"))
+                .andExpect(jsonPath("$.data.unavailable[1]").value("images"))
+                .andExpect(header().string("Cache-Control", "no-store"));
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/products/category/{category}?embed= should return embedded primary image and category name")
+    void shouldEmbedPrimaryImageAndCategoryName() throws Exception {
+        // Given
+        ProductResponseDTO embedded = productDTO.toBuilder()
+                .categoryName("Eletrônicos")
+                .primaryImage(ProductImageDTO.builder().id("img1").productId("1").url("http://example.com/1.jpg").isPrimary(true).build())
+                .build();
+        when(productService.getProductsByCategory(eq("electronics"), anyInt(), anyInt())).thenReturn(pageResponse);
+        when(productEmbedService.embed(pageResponse, "primaryImage,categoryName"))
+                .thenReturn(PageResponseDTO.<ProductResponseDTO>builder().content(List.of(embedded)).build());
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/products/category/electronics")
+                        .param("embed", "primaryImage,categoryName"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.content[0].categoryName").value("Eletrônicos"))
+                .andExpect(jsonPath("$.data.content[0].primaryImage.url").value("http://example.com/1.jpg"));
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/products should not write embed fields unless requested")
+    void shouldOmitEmbedFieldsByDefault() throws Exception {
+        // Given
+        when(productService.getAllProducts(anyInt(), anyInt(), any(), any())).thenReturn(pageResponse);
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/products"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.content[0].categoryName").doesNotExist())
+                .andExpect(jsonPath("$.data.content[0].primaryImage").doesNotExist());
+    }
+
     @Test
     @DisplayName("Should enforce max page size of 50")
     void shouldEnforceMaxPageSize() throws Exception {
@@ -166,4 +255,192 @@ class ProductControllerTest {
                         .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk());
     }
+
+    @Test
+    @DisplayName("GET /api/v1/products/{id} should return 404 without calling the service for unknown ids")
+    void shouldReturn404WithoutCallingServiceForUnknownIds() throws Exception {
+        // Given
+        when(productIdFilter.mightContain("bogus")).thenReturn(false);
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/products/bogus")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.success").value(false))
+                .andExpect(jsonPath("$.status").value(404));
+
+        verify(productService, never()).getProductById(anyString());
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/products?fields= should return only the requested product fields")
+    void shouldReturnSparseFieldsets() throws Exception {
+        // Given
+        when(productService.getAllProducts(anyInt(), anyInt(), any(), any())).thenReturn(pageResponse);
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/products")
+                        .param("fields", "name,price"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.content[0].id").value("1"))
+                .andExpect(jsonPath("$.data.content[0].name").value("Product 1"))
+                .andExpect(jsonPath("$.data.content[0].price").value(100.00))
+                .andExpect(jsonPath("$.data.content[0].description").doesNotExist())
+                .andExpect(jsonPath("$.data.content[0].category").doesNotExist())
+                .andExpect(jsonPath("$.data.totalElements").value(1));
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/products should encode the same DTOs as CBOR when requested")
+    void shouldReturnCborWhenAccepted() throws Exception {
+        // Given
+        when(productService.getAllProducts(anyInt(), anyInt(), any(), any())).thenReturn(pageResponse);
+
+        // When
+        byte[] body = mockMvc.perform(get("/api/v1/products")
+                        .accept("application/cbor"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/cbor"))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        // Then
+        JsonNode json = new CBORMapper().readTree(body);
+        assertThat(json.path("success").asBoolean()).isTrue();
+        assertThat(json.path("data").path("content").get(0).path("name").asText()).isEqualTo("Product 1");
+        assertThat(json.path("data").path("totalElements").asLong()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/products/{id} should tag binary representations with their own ETag")
+    void shouldSuffixETagForBinaryRepresentations() throws Exception {
+        // Given
+        when(entityTags.product("1")).thenReturn("\"p3\"");
+        when(productService.getProductById("1")).thenReturn(productDTO);
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/products/1")
+                        .accept("application/x-jackson-smile")
+                        .header("If-None-Match", "\"p3\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"p3.smile\""))
+                .andExpect(content().contentType("application/x-jackson-smile"));
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/products/{id} should send the version ETag")
+    void shouldSendVersionETag() throws Exception {
+        // Given
+        when(entityTags.product("1")).thenReturn("\"p3\"");
+        when(productService.getProductById("1")).thenReturn(productDTO);
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/products/1"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"p3\""))
+                .andExpect(jsonPath("$.data.id").value("1"));
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/products/{id} should return 304 without calling the service when the ETag matches")
+    void shouldReturn304WithoutCallingServiceWhenETagMatches() throws Exception {
+        // Given
+        when(entityTags.product("1")).thenReturn("\"p3\"");
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/products/1")
+                        .header("If-None-Match", "\"p3\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", "\"p3\""))
+                .andExpect(content().string(""));
+
+        verify(productService, never()).getProductById(anyString());
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/products should answer normally when the ETag is outdated")
+    void shouldReturnListWhenETagIsOutdated() throws Exception {
+        // Given
+        when(entityTags.products()).thenReturn("\"c8\"");
+        when(productService.getAllProducts(anyInt(), anyInt(), any(), any())).thenReturn(pageResponse);
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/products")
+                        .header("If-None-Match", "\"c7\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"c8\""))
+                .andExpect(jsonPath("$.data.content[0].id").value("1"));
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/products should send a circuit breaker fallback without ETag and with no-store")
+    void shouldNotTagFallbackPages() throws Exception {
+        // Given
+        when(entityTags.products()).thenReturn("\"c8\"");
+        PageResponseDTO<ProductResponseDTO> fallback = PageResponseDTO.<ProductResponseDTO>builder()
+                .content(List.of())
+                .empty(true)
+                .fallback(true)
+                .build();
+        when(productService.getAllProducts(anyInt(), anyInt(), any(), any())).thenReturn(fallback);
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/products"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist("ETag"))
+                .andExpect(header().string("Cache-Control", "no-store"))
+                .andExpect(jsonPath("$.data.empty").value(true))
+                .andExpect(jsonPath("$.data.fallback").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/products/{id}/recommended should return 404 for unknown ids")
+    void shouldReturn404ForRecommendationsOfUnknownIds() throws Exception {
+        // Given
+        when(productIdFilter.mightContain("bogus")).thenReturn(false);
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/products/bogus/recommended")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isNotFound());
+
+        verify(productService, never()).getRecommendedProducts(anyString(), anyInt(), anyInt());
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/products/trending should return trending products for a category")
+    void shouldReturnTrendingProducts() throws Exception {
+        // Given
+        TrendingProductDTO trending = TrendingProductDTO.builder()
+                .rank(1).id("1").name("Product 1").price(new BigDecimal("100.00")).category("electronics").score(42.5)
+                .build();
+        when(trendingService.getTrendingProducts("electronics", 5)).thenReturn(List.of(trending));
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/products/trending")
+                        .param("category", "electronics")
+                        .param("limit", "5")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.success").value(true))
+                .andExpect(jsonPath("$.data[0].rank").value(1))
+                .andExpect(jsonPath("$.data[0].id").value("1"))
+                .andExpect(jsonPath("$.data[0].score").value(42.5));
+
+        verify(productService, never()).getProductById(anyString());
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/products/trending should cap the limit at 50")
+    void shouldCapTrendingLimit() throws Exception {
+        // Given
+        when(trendingService.getTrendingProducts(null, 50)).thenReturn(List.of());
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/products/trending")
+                        .param("limit", "500")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk());
+
+        verify(trendingService).getTrendingProducts(null, 50);
+    }
 }
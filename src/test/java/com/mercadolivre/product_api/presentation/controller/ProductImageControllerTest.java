@@ -0,0 +1,82 @@
+package com.mercadolivre.product_api.presentation.controller;
+
+import com.mercadolivre.product_api.application.dto.ProductImageDTO;
+import com.mercadolivre.product_api.application.service.IProductImageService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(ProductImageController.class)
+@DisplayName("ProductImageController Tests")
+class ProductImageControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private IProductImageService productImageService;
+
+    @Test
+    @DisplayName("POST /api/v1/images/batch should return images grouped by product, deduplicating ids")
+    void shouldReturnImagesForBatch() throws Exception {
+        // Given
+        Map<String, List<ProductImageDTO>> grouped = new LinkedHashMap<>();
+        grouped.put("p2", List.of());
+        grouped.put("p1", List.of(
+                ProductImageDTO.builder().id("img1").productId("p1").displayOrder(1).build(),
+                ProductImageDTO.builder().id("img2").productId("p1").displayOrder(2).build()));
+        when(productImageService.getImagesByProductIds(List.of("p2", "p1"))).thenReturn(grouped);
+
+        // When & Then
+        mockMvc.perform(post("/api/v1/images/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"productIds\":[\"p2\",\"p1\",\" p2 \"]}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.p2").isEmpty())
+                .andExpect(jsonPath("$.data.p1[0].id").value("img1"))
+                .andExpect(jsonPath("$.data.p1[1].id").value("img2"));
+    }
+
+    @Test
+    @DisplayName("POST /api/v1/images/batch should return 400 for an empty or oversized id list")
+    void shouldRejectInvalidBatches() throws Exception {
+        // Given
+        String tooMany = IntStream.rangeClosed(1, ProductImageController.MAX_BATCH_PRODUCTS + 1)
+                .mapToObj(i -> "\"p" + i + "\"")
+                .collect(Collectors.joining(",", "{\"productIds\":[", "]}"));
+
+        // When & Then
+        mockMvc.perform(post("/api/v1/images/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"productIds\":[]}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("Bad Request"));
+        mockMvc.perform(post("/api/v1/images/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(tooMany))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(post("/api/v1/images/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"productIds\":"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Malformed request body"));
+        verify(productImageService, never()).getImagesByProductIds(any());
+    }
+}
@@ -23,7 +23,7 @@ Write-Host "   • 3 instâncias da aplicação (Spring Boot)" -ForegroundColor
 Write-Host "   • 1 instância do Redis (cache)" -ForegroundColor White
 Write-Host "   • 1 instância do Nginx (load balancer)'n" -ForegroundColor White
 
-docker-compose -f docker-compose-scale.yml up --build --scale app=3 -d
+docker-compose -f docker-compose-scale.yml up --build -d
 
 # Wait for services to be ready
 Write-Host "⏳ Aguardando serviços iniciarem..." -ForegroundColor Yellow